@@ -0,0 +1,157 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import tad.fila.FilaPareamento;
+import tad.fila.FilaVaziaException;
+
+/**
+ * Benchmark do algoritmo de Dijkstra em grafos esparsos aleatórios. Compara duas filas
+ * de prioridade:
+ * <ul>
+ * <li>{@link FilaPareamento}: cada vértice entra uma vez e tem a chave diminuída pela
+ * sua alça quando uma distância melhor é encontrada.</li>
+ * <li>{@link PriorityQueue} (heap binário) com remoção preguiçosa: cada melhora insere
+ * uma nova entrada, e entradas desatualizadas são descartadas ao sair da fila.</li>
+ * </ul>
+ * O grafo é guardado em arrays de adjacência compactos, então o tempo medido é
+ * dominado pela fila de prioridade. As distâncias das duas versões são comparadas.
+ *
+ * Uso: {@code java benchmarks.BenchmarkDijkstra [vertices] [grauMedio]}
+ */
+public class BenchmarkDijkstra {
+
+	private static final int VERTICES_PADRAO = 1_000_000;
+	private static final int GRAU_MEDIO_PADRAO = 4;
+	private static final int PESO_MAXIMO = 1_000;
+	private static final int RODADAS_AQUECIMENTO = 2;
+	private static final int RODADAS = 5;
+
+	/** Grafo dirigido em formato de linhas esparsas comprimidas. */
+	static final class Grafo {
+		final int[] inicio;  // Arestas do vértice v: de inicio[v] até inicio[v + 1] - 1
+		final int[] destino;
+		final int[] peso;
+
+		Grafo(int[] inicio, int[] destino, int[] peso) {
+			this.inicio = inicio;
+			this.destino = destino;
+			this.peso = peso;
+		}
+
+		int vertices() {
+			return inicio.length - 1;
+		}
+	}
+
+	public static void main(String[] args) throws FilaVaziaException {
+		int vertices = args.length > 0 ? Integer.parseInt(args[0]) : VERTICES_PADRAO;
+		int grauMedio = args.length > 1 ? Integer.parseInt(args[1]) : GRAU_MEDIO_PADRAO;
+		Grafo grafo = gerar(vertices, grauMedio, new Random(19));
+
+		int[] esperado = dijkstraPreguicoso(grafo, 0);
+		if (!Arrays.equals(esperado, dijkstraPareamento(grafo, 0))) {
+			throw new IllegalStateException("as distâncias das duas filas diferem");
+		}
+		for (int i = 0; i < RODADAS_AQUECIMENTO; i++) {
+			dijkstraPreguicoso(grafo, i);
+			dijkstraPareamento(grafo, i);
+		}
+		long nanosPreguicoso = 0;
+		long nanosPareamento = 0;
+		for (int i = 0; i < RODADAS; i++) {
+			long inicio = System.nanoTime();
+			dijkstraPreguicoso(grafo, i);
+			nanosPreguicoso += System.nanoTime() - inicio;
+			inicio = System.nanoTime();
+			dijkstraPareamento(grafo, i);
+			nanosPareamento += System.nanoTime() - inicio;
+		}
+		System.out.printf("grafo: %d vértices, %d arestas%n", vertices, grafo.destino.length);
+		System.out.printf("%-40s %12s%n", "fila", "ms/execução");
+		System.out.printf("%-40s %12.1f%n", "PriorityQueue com remoção preguiçosa", nanosPreguicoso / 1e6 / RODADAS);
+		System.out.printf("%-40s %12.1f%n", "FilaPareamento com diminuirChave", nanosPareamento / 1e6 / RODADAS);
+	}
+
+	static Grafo gerar(int vertices, int grauMedio, Random aleatorio) {
+		int arestas = vertices * grauMedio;
+		int[] origem = new int[arestas];
+		for (int i = 0; i < arestas; i++) {
+			origem[i] = aleatorio.nextInt(vertices);
+		}
+		int[] inicio = new int[vertices + 1];
+		for (int v : origem) {
+			inicio[v + 1]++;
+		}
+		for (int v = 0; v < vertices; v++) {
+			inicio[v + 1] += inicio[v];
+		}
+		int[] proximaPosicao = Arrays.copyOf(inicio, vertices);
+		int[] destino = new int[arestas];
+		int[] peso = new int[arestas];
+		for (int v : origem) {
+			int posicao = proximaPosicao[v]++;
+			destino[posicao] = aleatorio.nextInt(vertices);
+			peso[posicao] = 1 + aleatorio.nextInt(PESO_MAXIMO);
+		}
+		return new Grafo(inicio, destino, peso);
+	}
+
+	static int[] dijkstraPareamento(Grafo grafo, int origem) throws FilaVaziaException {
+		int[] distancia = new int[grafo.vertices()];
+		Arrays.fill(distancia, Integer.MAX_VALUE);
+		FilaPareamento.Alca[] alcas = new FilaPareamento.Alca[grafo.vertices()];
+		boolean[] fechado = new boolean[grafo.vertices()];
+		FilaPareamento fila = new FilaPareamento();
+		distancia[origem] = 0;
+		alcas[origem] = fila.inserir(0, origem);
+		while (!fila.isEmpty()) {
+			int v = fila.rotuloDoMinimo();
+			fila.desenfileirarInt();
+			alcas[v] = null;
+			fechado[v] = true;
+			for (int a = grafo.inicio[v]; a < grafo.inicio[v + 1]; a++) {
+				int w = grafo.destino[a];
+				int nova = distancia[v] + grafo.peso[a];
+				if (!fechado[w] && nova < distancia[w]) {
+					distancia[w] = nova;
+					if (alcas[w] == null) {
+						alcas[w] = fila.inserir(nova, w);
+					} else {
+						fila.diminuirChave(alcas[w], nova);
+					}
+				}
+			}
+		}
+		return distancia;
+	}
+
+	static int[] dijkstraPreguicoso(Grafo grafo, int origem) {
+		int[] distancia = new int[grafo.vertices()];
+		Arrays.fill(distancia, Integer.MAX_VALUE);
+		// Cada entrada codifica distância (32 bits altos) e vértice (32 bits baixos).
+		PriorityQueue<Long> fila = new PriorityQueue<Long>();
+		distancia[origem] = 0;
+		fila.add((long) origem);
+		while (!fila.isEmpty()) {
+			long entrada = fila.poll();
+			int d = (int) (entrada >>> 32);
+			int v = (int) entrada;
+			if (d > distancia[v]) {
+				continue; // Entrada desatualizada.
+			}
+			for (int a = grafo.inicio[v]; a < grafo.inicio[v + 1]; a++) {
+				int w = grafo.destino[a];
+				int nova = d + grafo.peso[a];
+				if (nova < distancia[w]) {
+					distancia[w] = nova;
+					fila.add(((long) nova << 32) | w);
+				}
+			}
+		}
+		return distancia;
+	}
+
+}
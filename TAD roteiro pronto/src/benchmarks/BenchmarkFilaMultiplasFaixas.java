@@ -0,0 +1,89 @@
+package benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+
+import tad.fila.FilaBloqueante;
+import tad.fila.FilaIF;
+import tad.fila.FilaMultiplasFaixas;
+import tad.fila.MinhaFilaEncadeada;
+
+/**
+ * Benchmark de escalabilidade: cada thread alterna enfileirar/desenfileirar sobre uma
+ * mesma fila. Compara a {@link FilaMultiplasFaixas} (FIFO relaxada, duas faixas por
+ * thread) com duas filas FIFO estritas: a {@link FilaBloqueante}, com uma única trava,
+ * e a {@link MinhaFilaEncadeada}, sem bloqueio mas com uma única cabeça e cauda.
+ *
+ * Uso: {@code java benchmarks.BenchmarkFilaMultiplasFaixas [operacoesPorThread] [threads...]}
+ */
+public class BenchmarkFilaMultiplasFaixas {
+
+	private static final int OPERACOES_PADRAO = 2_000_000;
+	private static final int[] THREADS_PADRAO = { 1, 2, 4, 8, 16, 32, 64 };
+	private static final int RODADAS_AQUECIMENTO = 2;
+
+	interface FabricaDeFila {
+		FilaIF<Integer> criar(int threads);
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		int operacoes = args.length > 0 ? Integer.parseInt(args[0]) : OPERACOES_PADRAO;
+		int[] threads = THREADS_PADRAO;
+		if (args.length > 1) {
+			threads = new int[args.length - 1];
+			for (int i = 1; i < args.length; i++) {
+				threads[i - 1] = Integer.parseInt(args[i]);
+			}
+		}
+
+		System.out.printf("%-28s %8s %14s%n", "fila", "threads", "Mops/s");
+		for (int n : threads) {
+			// Cada thread enfileira antes de desenfileirar, então a fila nunca passa de n elementos.
+			medir("FilaBloqueante (uma trava)", t -> new FilaBloqueante<Integer>(t), n, operacoes);
+			medir("MinhaFilaEncadeada (CAS)", t -> new MinhaFilaEncadeada(), n, operacoes);
+			medir("FilaMultiplasFaixas", t -> new FilaMultiplasFaixas(2 * t), n, operacoes);
+		}
+	}
+
+	static void medir(String nome, FabricaDeFila fabrica, int threads, int operacoes) throws InterruptedException {
+		for (int i = 0; i < RODADAS_AQUECIMENTO; i++) {
+			executar(fabrica.criar(threads), threads, operacoes / 4);
+		}
+		long nanos = executar(fabrica.criar(threads), threads, operacoes);
+		double mops = (2.0 * operacoes * threads) / (nanos / 1e9) / 1e6;
+		System.out.printf("%-28s %8d %14.2f%n", nome, threads, mops);
+	}
+
+	/**
+	 * Executa a carga e retorna o tempo total decorrido em nanossegundos.
+	 */
+	static long executar(FilaIF<Integer> fila, int threads, int operacoes) throws InterruptedException {
+		CountDownLatch largada = new CountDownLatch(1);
+		CountDownLatch chegada = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			final Integer valor = t;
+			Thread thread = new Thread(() -> {
+				try {
+					largada.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < operacoes; i++) {
+					while (!fila.tentarEnfileirar(valor)) {
+						Thread.onSpinWait();
+					}
+					while (fila.tentarDesenfileirar() == null) {
+						Thread.onSpinWait();
+					}
+				}
+				chegada.countDown();
+			});
+			thread.start();
+		}
+		long inicio = System.nanoTime();
+		largada.countDown();
+		chegada.await();
+		return System.nanoTime() - inicio;
+	}
+
+}
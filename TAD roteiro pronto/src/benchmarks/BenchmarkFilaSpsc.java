@@ -0,0 +1,163 @@
+package benchmarks;
+
+import tad.fila.FilaIF;
+import tad.fila.FilaSpsc;
+import tad.fila.MinhaFila;
+
+/**
+ * Benchmark de uma fila entre exatamente um produtor e um consumidor. Compara a
+ * {@link FilaSpsc} com uma {@link MinhaFila} protegida por {@code synchronized}.
+ * <ul>
+ * <li>Vazão: o produtor enfileira N inteiros enquanto o consumidor os retira.</li>
+ * <li>Latência: duas filas em pingue-pongue; mede o tempo médio de ida e volta.</li>
+ * </ul>
+ * Nas duas medições as threads ficam girando quando a fila está cheia ou vazia.
+ *
+ * Uso: {@code java benchmarks.BenchmarkFilaSpsc [elementos] [idasEVoltas]}
+ */
+public class BenchmarkFilaSpsc {
+
+	private static final int ELEMENTOS_PADRAO = 20_000_000;
+	private static final int IDAS_E_VOLTAS_PADRAO = 1_000_000;
+	private static final int CAPACIDADE = 1024;
+	private static final int RODADAS_AQUECIMENTO = 2;
+
+	/**
+	 * Adaptador que serializa todas as operações de uma fila em um único monitor.
+	 */
+	static class FilaSincronizada implements FilaIF<Integer> {
+		private final FilaIF<Integer> fila;
+
+		FilaSincronizada(FilaIF<Integer> fila) {
+			this.fila = fila;
+		}
+
+		@Override
+		public synchronized void enfileirar(Integer item) throws tad.fila.FilaCheiaException {
+			fila.enfileirar(item);
+		}
+
+		@Override
+		public synchronized Integer desenfileirar() throws tad.fila.FilaVaziaException {
+			return fila.desenfileirar();
+		}
+
+		@Override
+		public synchronized boolean tentarEnfileirar(Integer item) {
+			return fila.tentarEnfileirar(item);
+		}
+
+		@Override
+		public synchronized Integer tentarDesenfileirar() {
+			return fila.tentarDesenfileirar();
+		}
+
+		@Override
+		public synchronized Integer verificarCauda() {
+			return fila.verificarCauda();
+		}
+
+		@Override
+		public synchronized Integer verificarCabeca() {
+			return fila.verificarCabeca();
+		}
+
+		@Override
+		public synchronized boolean isEmpty() {
+			return fila.isEmpty();
+		}
+
+		@Override
+		public synchronized boolean isFull() {
+			return fila.isFull();
+		}
+	}
+
+	interface FabricaDeFila {
+		FilaIF<Integer> criar();
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		int elementos = args.length > 0 ? Integer.parseInt(args[0]) : ELEMENTOS_PADRAO;
+		int idasEVoltas = args.length > 1 ? Integer.parseInt(args[1]) : IDAS_E_VOLTAS_PADRAO;
+
+		FabricaDeFila sincronizada = () -> new FilaSincronizada(new MinhaFila(CAPACIDADE));
+		FabricaDeFila spsc = () -> new FilaSpsc(CAPACIDADE);
+
+		System.out.printf("%-24s %14s %18s%n", "fila", "vazão (Mops/s)", "ida e volta (ns)");
+		medir("MinhaFila synchronized", sincronizada, elementos, idasEVoltas);
+		medir("FilaSpsc", spsc, elementos, idasEVoltas);
+	}
+
+	static void medir(String nome, FabricaDeFila fabrica, int elementos, int idasEVoltas) throws InterruptedException {
+		for (int i = 0; i < RODADAS_AQUECIMENTO; i++) {
+			vazao(fabrica.criar(), elementos / 4);
+			idaEVolta(fabrica.criar(), fabrica.criar(), idasEVoltas / 4);
+		}
+		long nanosVazao = vazao(fabrica.criar(), elementos);
+		long nanosLatencia = idaEVolta(fabrica.criar(), fabrica.criar(), idasEVoltas);
+		System.out.printf("%-24s %14.2f %18.1f%n", nome,
+				elementos / (nanosVazao / 1e9) / 1e6, (double) nanosLatencia / idasEVoltas);
+	}
+
+	/**
+	 * Retorna o tempo, em nanossegundos, para transferir todos os elementos.
+	 */
+	static long vazao(FilaIF<Integer> fila, int elementos) throws InterruptedException {
+		Thread consumidor = new Thread(() -> {
+			long soma = 0;
+			for (int i = 0; i < elementos; i++) {
+				Integer item;
+				while ((item = fila.tentarDesenfileirar()) == null) {
+					Thread.onSpinWait();
+				}
+				soma += item;
+			}
+			if (soma != (long) elementos * (elementos - 1) / 2) {
+				throw new IllegalStateException("elementos perdidos ou duplicados");
+			}
+		});
+		long inicio = System.nanoTime();
+		consumidor.start();
+		for (int i = 0; i < elementos; i++) {
+			Integer item = i;
+			while (!fila.tentarEnfileirar(item)) {
+				Thread.onSpinWait();
+			}
+		}
+		consumidor.join();
+		return System.nanoTime() - inicio;
+	}
+
+	/**
+	 * Retorna o tempo total, em nanossegundos, de todas as idas e voltas.
+	 */
+	static long idaEVolta(FilaIF<Integer> ida, FilaIF<Integer> volta, int idasEVoltas) throws InterruptedException {
+		Thread eco = new Thread(() -> {
+			for (int i = 0; i < idasEVoltas; i++) {
+				Integer item;
+				while ((item = ida.tentarDesenfileirar()) == null) {
+					Thread.onSpinWait();
+				}
+				while (!volta.tentarEnfileirar(item)) {
+					Thread.onSpinWait();
+				}
+			}
+		});
+		eco.start();
+		Integer sinal = 1;
+		long inicio = System.nanoTime();
+		for (int i = 0; i < idasEVoltas; i++) {
+			while (!ida.tentarEnfileirar(sinal)) {
+				Thread.onSpinWait();
+			}
+			while (volta.tentarDesenfileirar() == null) {
+				Thread.onSpinWait();
+			}
+		}
+		long total = System.nanoTime() - inicio;
+		eco.join();
+		return total;
+	}
+
+}
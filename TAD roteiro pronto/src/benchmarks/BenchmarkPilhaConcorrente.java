@@ -0,0 +1,125 @@
+package benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+
+import tad.pilha.MinhaPilha;
+import tad.pilha.MinhaPilhaEncadeada;
+import tad.pilha.PilhaEliminacao;
+import tad.pilha.PilhaIF;
+
+/**
+ * Benchmark de contenção: várias threads alternam empilhar/desempilhar sobre uma
+ * mesma pilha. Compara a {@link MinhaPilhaEncadeada} (sem bloqueio) e a
+ * {@link PilhaEliminacao} com uma {@link MinhaPilha} protegida por {@code synchronized}.
+ *
+ * Uso: {@code java benchmarks.BenchmarkPilhaConcorrente [operacoesPorThread] [threads...]}
+ */
+public class BenchmarkPilhaConcorrente {
+
+	private static final int OPERACOES_PADRAO = 2_000_000;
+	private static final int[] THREADS_PADRAO = { 1, 2, 4, 8, 16, 32, 64 };
+	private static final int RODADAS_AQUECIMENTO = 2;
+
+	/**
+	 * Adaptador que serializa todas as operações de uma pilha em um único monitor.
+	 */
+	static class PilhaSincronizada implements PilhaIF<Integer> {
+		private final PilhaIF<Integer> pilha;
+
+		PilhaSincronizada(PilhaIF<Integer> pilha) {
+			this.pilha = pilha;
+		}
+
+		@Override
+		public synchronized void empilhar(Integer item) {
+			pilha.empilhar(item);
+		}
+
+		@Override
+		public synchronized Integer desempilhar() {
+			return pilha.desempilhar();
+		}
+
+		@Override
+		public synchronized Integer topo() {
+			return pilha.topo();
+		}
+
+		@Override
+		public synchronized PilhaIF<Integer> multitop(int k) {
+			return pilha.multitop(k);
+		}
+
+		@Override
+		public synchronized boolean isEmpty() {
+			return pilha.isEmpty();
+		}
+
+		@Override
+		public synchronized boolean isFull() {
+			return pilha.isFull();
+		}
+	}
+
+	interface FabricaDePilha {
+		PilhaIF<Integer> criar(int threads);
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		int operacoes = args.length > 0 ? Integer.parseInt(args[0]) : OPERACOES_PADRAO;
+		int[] threads = THREADS_PADRAO;
+		if (args.length > 1) {
+			threads = new int[args.length - 1];
+			for (int i = 1; i < args.length; i++) {
+				threads[i - 1] = Integer.parseInt(args[i]);
+			}
+		}
+
+		System.out.printf("%-28s %8s %14s%n", "pilha", "threads", "Mops/s");
+		for (int n : threads) {
+			// Cada thread empilha antes de desempilhar, então a profundidade nunca passa de n.
+			medir("MinhaPilha synchronized", t -> new PilhaSincronizada(new MinhaPilha(t)), n, operacoes);
+			medir("MinhaPilhaEncadeada (CAS)", t -> new MinhaPilhaEncadeada(), n, operacoes);
+			medir("PilhaEliminacao", t -> new PilhaEliminacao(), n, operacoes);
+		}
+	}
+
+	static void medir(String nome, FabricaDePilha fabrica, int threads, int operacoes) throws InterruptedException {
+		for (int i = 0; i < RODADAS_AQUECIMENTO; i++) {
+			executar(fabrica.criar(threads), threads, operacoes / 4);
+		}
+		long nanos = executar(fabrica.criar(threads), threads, operacoes);
+		double mops = (2.0 * operacoes * threads) / (nanos / 1e9) / 1e6;
+		System.out.printf("%-28s %8d %14.2f%n", nome, threads, mops);
+	}
+
+	/**
+	 * Executa a carga e retorna o tempo total decorrido em nanossegundos.
+	 */
+	static long executar(PilhaIF<Integer> pilha, int threads, int operacoes) throws InterruptedException {
+		CountDownLatch largada = new CountDownLatch(1);
+		CountDownLatch chegada = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			final Integer valor = t;
+			Thread thread = new Thread(() -> {
+				try {
+					largada.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < operacoes; i++) {
+					pilha.empilhar(valor);
+					pilha.desempilhar();
+				}
+				chegada.countDown();
+			});
+			thread.start();
+		}
+		long inicio = System.nanoTime();
+		largada.countDown();
+		chegada.await();
+		return System.nanoTime() - inicio;
+	}
+
+}
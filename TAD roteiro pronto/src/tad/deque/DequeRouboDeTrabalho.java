@@ -0,0 +1,178 @@
+package tad.deque;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Deque para roubo de trabalho (deque de Chase-Lev) sobre um array circular que cresce
+ * sob demanda. Uma única thread, a dona, insere e remove numa ponta com
+ * {@link #inserePrimeiro(Object)} e {@link #removePrimeiro()}, em ordem LIFO; qualquer
+ * outra thread pode roubar elementos da ponta oposta com {@link #removeUltimo()}, em
+ * ordem FIFO, ou seja, os elementos mais antigos.
+ * <p>
+ * Os nomes seguem {@link tad.listasEncadeadas.ListaDuplamenteEncadeadaIF}, mas em vez
+ * de um nó por elemento o deque usa um array: a ponta da dona é o índice {@code base}
+ * e a dos ladrões é o índice {@code topo}, ambos contadores que só avançam (a posição
+ * no array é o contador com máscara). A dona só usa CAS quando resta um único elemento
+ * e ela pode estar disputando-o com um ladrão; os ladrões sempre usam CAS em {@code topo}.
+ * <p>
+ * Quando o array enche, a dona copia os elementos para um array com o dobro do
+ * tamanho e o publica; um ladrão que ainda lê o array antigo encontra nele os mesmos
+ * elementos, porque o array antigo não é mais alterado. O deque não aceita {@code null},
+ * que é usado como indicação de deque vazio.
+ *
+ * @param <E> o tipo dos elementos.
+ */
+public class DequeRouboDeTrabalho<E> {
+
+	private static final int CAPACIDADE_INICIAL_PADRAO = 32;
+
+	private static final VarHandle TOPO;
+	private static final VarHandle BASE;
+	private static final VarHandle ARRANJO;
+	private static final VarHandle ELEMENTO = MethodHandles.arrayElementVarHandle(Object[].class);
+
+	static {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			TOPO = lookup.findVarHandle(DequeRouboDeTrabalho.class, "topo", long.class);
+			BASE = lookup.findVarHandle(DequeRouboDeTrabalho.class, "base", long.class);
+			ARRANJO = lookup.findVarHandle(DequeRouboDeTrabalho.class, "arranjo", Object[].class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private volatile long topo = 0;         // Próximo índice a ser roubado
+	private volatile long base = 0;         // Próximo índice livre na ponta da dona
+	private volatile Object[] arranjo;      // Capacidade sempre potência de dois
+
+	/**
+	 * Constrói um deque vazio com pelo menos a capacidade inicial dada.
+	 * @param capacidadeInicial a capacidade inicial, arredondada para a próxima potência de dois.
+	 * @throws IllegalArgumentException se a capacidade não for positiva ou passar de 2^30.
+	 */
+	public DequeRouboDeTrabalho(int capacidadeInicial) {
+		if (capacidadeInicial <= 0 || capacidadeInicial > (1 << 30)) {
+			throw new IllegalArgumentException("capacidade inválida: " + capacidadeInicial);
+		}
+		int capacidade = capacidadeInicial == 1 ? 1 : Integer.highestOneBit(capacidadeInicial - 1) << 1;
+		arranjo = new Object[capacidade];
+	}
+
+	/**
+	 * Constrói um deque vazio com capacidade inicial de 32 elementos.
+	 */
+	public DequeRouboDeTrabalho() {
+		this(CAPACIDADE_INICIAL_PADRAO);
+	}
+
+	/**
+	 * Insere o elemento na ponta da dona, sem CAS. Só pode ser chamado pela thread dona.
+	 * @param elemento o elemento a inserir.
+	 * @throws IllegalArgumentException se o elemento for {@code null}.
+	 */
+	public void inserePrimeiro(E elemento) {
+		if (elemento == null) {
+			throw new IllegalArgumentException("DequeRouboDeTrabalho não aceita elementos nulos.");
+		}
+		long b = (long) BASE.getOpaque(this);
+		long t = (long) TOPO.getAcquire(this);
+		Object[] a = (Object[]) ARRANJO.getOpaque(this);
+		if (b - t >= a.length) {
+			a = crescer(a, t, b);
+		}
+		ELEMENTO.set(a, (int) b & (a.length - 1), elemento);
+		// O release publica o elemento antes da nova base para os ladrões.
+		BASE.setRelease(this, b + 1);
+	}
+
+	/**
+	 * Remove o elemento inserido mais recentemente, na ponta da dona. Só pode ser
+	 * chamado pela thread dona.
+	 * @return o elemento removido, ou {@code null} se o deque estiver vazio ou se o
+	 *         último elemento tiver sido roubado.
+	 */
+	@SuppressWarnings("unchecked")
+	public E removePrimeiro() {
+		long b = (long) BASE.getOpaque(this) - 1;
+		Object[] a = (Object[]) ARRANJO.getOpaque(this);
+		// Escrita volátil seguida de leitura volátil: um ladrão não pode ler a base antiga
+		// depois que a dona leu o topo.
+		base = b;
+		long t = topo;
+		if (t > b) {
+			// Estava vazio: desfaz.
+			BASE.setOpaque(this, b + 1);
+			return null;
+		}
+		int indice = (int) b & (a.length - 1);
+		E elemento = (E) ELEMENTO.get(a, indice);
+		if (t == b) {
+			// Último elemento: disputa com os ladrões pelo CAS no topo.
+			if (!TOPO.compareAndSet(this, t, t + 1)) {
+				elemento = null;
+			}
+			BASE.setOpaque(this, b + 1);
+			return elemento;
+		}
+		ELEMENTO.set(a, indice, null);
+		return elemento;
+	}
+
+	/**
+	 * Rouba o elemento mais antigo, na ponta oposta à da dona. Pode ser chamado por
+	 * qualquer thread; quando dois ladrões disputam o mesmo elemento, o perdedor tenta
+	 * de novo.
+	 * @return o elemento roubado, ou {@code null} se o deque estiver vazio.
+	 */
+	@SuppressWarnings("unchecked")
+	public E removeUltimo() {
+		while (true) {
+			long t = topo;
+			long b = base;
+			if (t >= b) {
+				return null;
+			}
+			Object[] a = arranjo;
+			E elemento = (E) ELEMENTO.getAcquire(a, (int) t & (a.length - 1));
+			if (TOPO.compareAndSet(this, t, t + 1)) {
+				return elemento;
+			}
+		}
+	}
+
+	/**
+	 * Indica se o deque parecia vazio no momento da leitura.
+	 * @return {@code true} se o deque estiver vazio.
+	 */
+	public boolean isEmpty() {
+		return topo >= base;
+	}
+
+	/**
+	 * Retorna o número aproximado de elementos no momento da leitura.
+	 * @return o número de elementos.
+	 */
+	public int tamanho() {
+		long tamanho = base - topo;
+		return tamanho < 0 ? 0 : (int) tamanho;
+	}
+
+	/**
+	 * Copia os elementos de {@code topo} até {@code base - 1} para um array com o dobro
+	 * do tamanho e o publica. O array antigo não é mais alterado.
+	 */
+	private Object[] crescer(Object[] antigo, long t, long b) {
+		if (antigo.length == (1 << 30)) {
+			throw new IllegalStateException("DequeRouboDeTrabalho atingiu a capacidade máxima.");
+		}
+		Object[] novo = new Object[antigo.length << 1];
+		for (long i = t; i < b; i++) {
+			novo[(int) i & (novo.length - 1)] = antigo[(int) i & (antigo.length - 1)];
+		}
+		ARRANJO.setRelease(this, novo);
+		return novo;
+	}
+
+}
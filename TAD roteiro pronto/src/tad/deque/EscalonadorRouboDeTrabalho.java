@@ -0,0 +1,226 @@
+package tad.deque;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import tad.fila.FilaBloqueante;
+
+/**
+ * Escalonador de tarefas recursivas por roubo de trabalho. Cada trabalhador tem um
+ * {@link DequeRouboDeTrabalho} próprio: as subtarefas bifurcadas entram e saem na ponta
+ * do dono, em ordem LIFO, o que mantém o trabalho recente quente na cache; quando o
+ * deque esvazia, o trabalhador rouba a tarefa mais antiga, e em geral maior, do deque
+ * de uma vítima escolhida ao acaso.
+ * <p>
+ * Tarefas vindas de fora do escalonador entram numa {@link FilaBloqueante}
+ * compartilhada, na qual os trabalhadores ociosos esperam por tempo limitado antes de
+ * procurar de novo o que roubar.
+ */
+public class EscalonadorRouboDeTrabalho implements AutoCloseable {
+
+	private static final int CAPACIDADE_SUBMISSOES = 1024;
+	private static final long ESPERA_OCIOSA_MICROS = 200;
+
+	private final Trabalhador[] trabalhadores;
+	private final FilaBloqueante<TarefaRecursiva<?>> submetidas =
+			new FilaBloqueante<TarefaRecursiva<?>>(CAPACIDADE_SUBMISSOES);
+	private final LongAdder roubos = new LongAdder();
+	private volatile boolean encerrado = false;
+
+	/**
+	 * Constrói o escalonador e inicia os trabalhadores.
+	 * @param paralelismo o número de trabalhadores.
+	 * @throws IllegalArgumentException se o paralelismo não for positivo.
+	 */
+	public EscalonadorRouboDeTrabalho(int paralelismo) {
+		if (paralelismo <= 0) {
+			throw new IllegalArgumentException("paralelismo inválido: " + paralelismo);
+		}
+		trabalhadores = new Trabalhador[paralelismo];
+		for (int i = 0; i < paralelismo; i++) {
+			trabalhadores[i] = new Trabalhador(this, i);
+		}
+		for (Trabalhador trabalhador : trabalhadores) {
+			trabalhador.start();
+		}
+	}
+
+	/**
+	 * Constrói o escalonador com um trabalhador por processador disponível.
+	 */
+	public EscalonadorRouboDeTrabalho() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Submete uma tarefa para execução assíncrona. O resultado é obtido com
+	 * {@link TarefaRecursiva#juntar()}. Dentro de um trabalhador, equivale a
+	 * {@link TarefaRecursiva#bifurcar()}. Se o escalonador for encerrado antes de a
+	 * tarefa ser executada, ela é cancelada e {@code juntar()} lança
+	 * {@link java.util.concurrent.CancellationException}.
+	 * @param tarefa a tarefa a executar.
+	 * @return a própria tarefa.
+	 * @throws InterruptedException se a thread for interrompida enquanto a fila de
+	 *         submissões estiver cheia.
+	 * @throws IllegalStateException se o escalonador estiver encerrado.
+	 */
+	public <V> TarefaRecursiva<V> submeter(TarefaRecursiva<V> tarefa) throws InterruptedException {
+		if (encerrado) {
+			throw new IllegalStateException("escalonador encerrado.");
+		}
+		Thread atual = Thread.currentThread();
+		if (atual instanceof Trabalhador && ((Trabalhador) atual).escalonador == this) {
+			return tarefa.bifurcar();
+		}
+		tarefa.aviso = new CountDownLatch(1);
+		submetidas.colocar(tarefa);
+		if (encerrado) {
+			// O close() pode ter drenado a fila antes desta inserção.
+			cancelarSubmetidas();
+		}
+		return tarefa;
+	}
+
+	/**
+	 * Submete a tarefa e espera o resultado.
+	 * @param tarefa a tarefa a executar.
+	 * @return o resultado da tarefa.
+	 * @throws InterruptedException se a thread for interrompida durante a submissão.
+	 */
+	public <V> V invocar(TarefaRecursiva<V> tarefa) throws InterruptedException {
+		return submeter(tarefa).juntar();
+	}
+
+	/**
+	 * Retorna o número de trabalhadores.
+	 * @return o paralelismo do escalonador.
+	 */
+	public int paralelismo() {
+		return trabalhadores.length;
+	}
+
+	/**
+	 * Instantâneo aproximado do número de tarefas roubadas até agora.
+	 * @return o número de roubos bem-sucedidos.
+	 */
+	public long roubosRealizados() {
+		return roubos.sum();
+	}
+
+	/**
+	 * Encerra os trabalhadores e espera que terminem. Tarefas submetidas ainda não
+	 * executadas são canceladas: {@link TarefaRecursiva#juntar()} lança
+	 * {@link java.util.concurrent.CancellationException} em vez de esperar para sempre.
+	 * Se a thread for interrompida durante a espera, o encerramento continua e o
+	 * estado de interrupção é restaurado no final.
+	 */
+	@Override
+	public void close() {
+		encerrado = true;
+		for (Trabalhador trabalhador : trabalhadores) {
+			trabalhador.interrupt();
+		}
+		boolean interrompida = false;
+		for (Trabalhador trabalhador : trabalhadores) {
+			while (true) {
+				try {
+					trabalhador.join();
+					break;
+				} catch (InterruptedException e) {
+					interrompida = true;
+				}
+			}
+		}
+		cancelarSubmetidas();
+		if (interrompida) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void cancelarSubmetidas() {
+		List<TarefaRecursiva<?>> descartadas = new ArrayList<TarefaRecursiva<?>>();
+		submetidas.drenarPara(descartadas);
+		for (TarefaRecursiva<?> tarefa : descartadas) {
+			tarefa.cancelar();
+		}
+	}
+
+	static Trabalhador trabalhadorAtual(String operacao) {
+		Thread atual = Thread.currentThread();
+		if (!(atual instanceof Trabalhador)) {
+			throw new IllegalStateException(operacao + " só pode ser chamado dentro de uma tarefa do escalonador.");
+		}
+		return (Trabalhador) atual;
+	}
+
+	/**
+	 * Tenta roubar uma tarefa de outro trabalhador, começando por uma vítima aleatória.
+	 */
+	private TarefaRecursiva<?> roubar(Trabalhador ladrao) {
+		int n = trabalhadores.length;
+		int inicio = n == 1 ? 0 : ThreadLocalRandom.current().nextInt(n);
+		for (int i = 0; i < n; i++) {
+			Trabalhador vitima = trabalhadores[(inicio + i) % n];
+			if (vitima != ladrao) {
+				TarefaRecursiva<?> tarefa = vitima.deque.removeUltimo();
+				if (tarefa != null) {
+					roubos.increment();
+					return tarefa;
+				}
+			}
+		}
+		return null;
+	}
+
+	static final class Trabalhador extends Thread {
+		final EscalonadorRouboDeTrabalho escalonador;
+		final DequeRouboDeTrabalho<TarefaRecursiva<?>> deque = new DequeRouboDeTrabalho<TarefaRecursiva<?>>();
+
+		Trabalhador(EscalonadorRouboDeTrabalho escalonador, int indice) {
+			super("trabalhador-" + indice);
+			this.escalonador = escalonador;
+			setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			while (!escalonador.encerrado) {
+				TarefaRecursiva<?> tarefa = proximaLocalOuRoubada();
+				if (tarefa == null) {
+					try {
+						tarefa = escalonador.submetidas.tentarDesenfileirar(ESPERA_OCIOSA_MICROS, TimeUnit.MICROSECONDS);
+					} catch (InterruptedException e) {
+						continue; // Só o encerramento interrompe os trabalhadores.
+					}
+				}
+				if (tarefa != null) {
+					tarefa.executar();
+				}
+			}
+		}
+
+		/**
+		 * Executa tarefas do próprio deque ou roubadas até que a tarefa esperada termine.
+		 */
+		void ajudarAte(TarefaRecursiva<?> esperada) {
+			while (!esperada.isConcluida()) {
+				TarefaRecursiva<?> tarefa = proximaLocalOuRoubada();
+				if (tarefa != null) {
+					tarefa.executar();
+				} else {
+					Thread.yield();
+				}
+			}
+		}
+
+		private TarefaRecursiva<?> proximaLocalOuRoubada() {
+			TarefaRecursiva<?> tarefa = deque.removePrimeiro();
+			return tarefa != null ? tarefa : escalonador.roubar(this);
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+package tad.deque;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Tarefa que pode se dividir em subtarefas executadas por um
+ * {@link EscalonadorRouboDeTrabalho}. Dentro de {@link #computar()}, a tarefa chama
+ * {@link #bifurcar()} nas subtarefas que outros trabalhadores podem roubar e depois
+ * {@link #juntar()} para obter os resultados. Enquanto espera, o trabalhador não fica
+ * parado: executa tarefas do próprio deque ou rouba de outros.
+ * <p>
+ * Cada tarefa é executada uma única vez. Uma exceção lançada por {@link #computar()} é
+ * guardada e relançada por {@link #juntar()}. Uma tarefa submetida que o escalonador
+ * descarta ao ser encerrado termina com {@link CancellationException}.
+ *
+ * @param <V> o tipo do resultado.
+ */
+public abstract class TarefaRecursiva<V> {
+
+	private volatile boolean concluida = false;
+	private V resultado;         // Publicado pela escrita volátil de concluida
+	private Throwable erro;
+	CountDownLatch aviso = null; // Só existe para tarefas submetidas de fora do escalonador
+
+	/**
+	 * Calcula o resultado da tarefa, possivelmente bifurcando subtarefas.
+	 * @return o resultado.
+	 */
+	protected abstract V computar();
+
+	/**
+	 * Coloca a tarefa no deque do trabalhador atual, de onde ela pode ser roubada.
+	 * @return esta tarefa.
+	 * @throws IllegalStateException se a thread atual não for um trabalhador do escalonador.
+	 */
+	public final TarefaRecursiva<V> bifurcar() {
+		EscalonadorRouboDeTrabalho.trabalhadorAtual("bifurcar").deque.inserePrimeiro(this);
+		return this;
+	}
+
+	/**
+	 * Espera a tarefa terminar e retorna o resultado. Num trabalhador, executa outras
+	 * tarefas enquanto espera; fora do escalonador, só é possível esperar por uma tarefa
+	 * submetida com {@link EscalonadorRouboDeTrabalho#submeter(TarefaRecursiva)}.
+	 * @return o resultado da tarefa.
+	 * @throws IllegalStateException se a tarefa não puder terminar sem a thread atual.
+	 * @throws CancellationException se a tarefa foi descartada pelo encerramento do escalonador.
+	 */
+	public final V juntar() {
+		if (!concluida) {
+			Thread atual = Thread.currentThread();
+			if (atual instanceof EscalonadorRouboDeTrabalho.Trabalhador) {
+				((EscalonadorRouboDeTrabalho.Trabalhador) atual).ajudarAte(this);
+			} else if (aviso != null) {
+				esperarAviso();
+			} else {
+				throw new IllegalStateException("juntar fora do escalonador exige uma tarefa submetida.");
+			}
+		}
+		if (erro != null) {
+			if (erro instanceof Error) {
+				throw (Error) erro;
+			}
+			throw (RuntimeException) erro;
+		}
+		return resultado;
+	}
+
+	/**
+	 * Executa a tarefa diretamente na thread atual, sem passar pelo deque.
+	 * @return o resultado da tarefa.
+	 */
+	public final V invocar() {
+		executar();
+		return juntar();
+	}
+
+	/**
+	 * Indica se a tarefa já terminou, normalmente ou com exceção.
+	 * @return {@code true} se a tarefa terminou.
+	 */
+	public final boolean isConcluida() {
+		return concluida;
+	}
+
+	final void executar() {
+		try {
+			resultado = computar();
+		} catch (RuntimeException | Error e) {
+			erro = e;
+		}
+		concluida = true;
+		CountDownLatch a = aviso;
+		if (a != null) {
+			a.countDown();
+		}
+	}
+
+	/**
+	 * Conclui com {@link CancellationException} uma tarefa submetida que não chegou a ser
+	 * executada, liberando quem espera em {@link #juntar()}.
+	 */
+	final void cancelar() {
+		erro = new CancellationException("tarefa descartada pelo encerramento do escalonador.");
+		concluida = true;
+		CountDownLatch a = aviso;
+		if (a != null) {
+			a.countDown();
+		}
+	}
+
+	private void esperarAviso() {
+		boolean interrompida = false;
+		while (true) {
+			try {
+				aviso.await();
+				break;
+			} catch (InterruptedException e) {
+				interrompida = true;
+			}
+		}
+		if (interrompida) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+package tad.fila;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Anel de eventos pré-alocados para pipelines de processamento, no estilo do
+ * Disruptor. Em vez de encadear várias filas, em que cada etapa desenfileira,
+ * enfileira e encaixota um {@code Integer}, todos os estágios compartilham o mesmo
+ * anel: cada posição guarda um objeto de evento mutável, criado uma única vez no
+ * construtor e reaproveitado a cada volta.
+ * <p>
+ * O produtor reserva uma sequência com {@link #proximo()}, preenche o evento de
+ * {@link #obter(long)} e o publica com {@link #publicar(long)}. Cada consumidor
+ * (normalmente um {@link ProcessadorDeEventos}) guarda a sua própria {@link Sequencia}
+ * e espera numa {@link BarreiraDeSequencia} criada por {@link #novaBarreira(Sequencia...)}:
+ * a barreira de um estágio recebe as sequências dos estágios anteriores, e o produtor
+ * só reaproveita uma posição depois que as sequências de controle (as dos últimos
+ * estágios, registradas com {@link #adicionarSequenciasDeControle(Sequencia...)})
+ * passaram por ela.
+ * <p>
+ * O anel aceita um único produtor: {@link #proximo()} e {@link #publicar(long)} devem
+ * ser chamados sempre pela mesma thread.
+ *
+ * @param <T> o tipo dos eventos.
+ */
+public class AnelDeEventos<T> {
+
+	private final Object[] eventos;
+	private final int mascara;
+	private final EstrategiaDeEspera espera;
+	private final Sequencia cursor = new Sequencia();
+	private volatile Sequencia[] controle = new Sequencia[0];
+
+	// Estado exclusivo da thread produtora.
+	private long proximaLivre = Sequencia.VALOR_INICIAL;
+	private long controleEmCache = Sequencia.VALOR_INICIAL;
+
+	/**
+	 * Constrói um anel com a capacidade dada, criando todos os eventos de uma vez.
+	 * @param fabrica cria cada um dos eventos pré-alocados.
+	 * @param capacidade o número de posições; deve ser uma potência de dois.
+	 * @param espera a estratégia usada pelo produtor e pelas barreiras criadas por este anel.
+	 * @throws IllegalArgumentException se a capacidade não for uma potência de dois positiva.
+	 */
+	public AnelDeEventos(Supplier<T> fabrica, int capacidade, EstrategiaDeEspera espera) {
+		if (capacidade <= 0 || Integer.bitCount(capacidade) != 1) {
+			throw new IllegalArgumentException("capacidade deve ser potência de dois: " + capacidade);
+		}
+		this.eventos = new Object[capacidade];
+		for (int i = 0; i < capacidade; i++) {
+			eventos[i] = fabrica.get();
+		}
+		this.mascara = capacidade - 1;
+		this.espera = espera;
+	}
+
+	/**
+	 * Reserva a próxima sequência para o produtor, esperando enquanto o anel estiver
+	 * cheio (a posição ainda não foi liberada pelas sequências de controle).
+	 * @return a sequência reservada.
+	 */
+	public long proximo() {
+		return proximo(1);
+	}
+
+	/**
+	 * Reserva as próximas {@code n} sequências para o produtor, esperando enquanto não
+	 * houver espaço para todas. Os eventos reservados são publicados juntos com
+	 * {@link #publicar(long)} passando a sequência retornada.
+	 * @param n o número de sequências a reservar.
+	 * @return a última sequência reservada; a primeira é {@code retorno - n + 1}.
+	 * @throws IllegalArgumentException se n não estiver entre 1 e a capacidade.
+	 */
+	public long proximo(int n) {
+		if (n < 1 || n > eventos.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		long ultima = proximaLivre + n;
+		long volta = ultima - eventos.length; // Sequência que ocupava a última posição na volta anterior
+		if (volta > controleEmCache) {
+			int tentativa = 0;
+			long minimo;
+			while (volta > (minimo = Sequencia.minimo(controle, proximaLivre))) {
+				espera.esperar(tentativa++);
+			}
+			controleEmCache = minimo;
+		}
+		proximaLivre = ultima;
+		return ultima;
+	}
+
+	/**
+	 * Retorna o evento da posição correspondente à sequência. O produtor só deve
+	 * alterá-lo entre {@link #proximo()} e {@link #publicar(long)}; um consumidor só
+	 * deve lê-lo depois que a sua barreira o liberar.
+	 * @param sequencia a sequência do evento.
+	 * @return o evento pré-alocado dessa posição.
+	 */
+	@SuppressWarnings("unchecked")
+	public T obter(long sequencia) {
+		return (T) eventos[(int) sequencia & mascara];
+	}
+
+	/**
+	 * Publica todos os eventos reservados até a sequência dada, tornando-os visíveis
+	 * aos consumidores.
+	 * @param sequencia a última sequência a publicar.
+	 */
+	public void publicar(long sequencia) {
+		cursor.set(sequencia);
+	}
+
+	/**
+	 * Cria uma barreira para um consumidor que depende do produtor e dos estágios dados.
+	 * @param dependencias as sequências dos estágios que devem processar cada evento antes.
+	 * @return a nova barreira.
+	 */
+	public BarreiraDeSequencia novaBarreira(Sequencia... dependencias) {
+		return new BarreiraDeSequencia(cursor, dependencias.clone(), espera);
+	}
+
+	/**
+	 * Registra sequências que o produtor não pode ultrapassar em mais de uma volta,
+	 * normalmente as dos últimos estágios do pipeline. Deve ser chamado antes de
+	 * publicar o primeiro evento; sem nenhuma sequência de controle o produtor nunca espera.
+	 * @param sequencias as sequências a registrar.
+	 */
+	public synchronized void adicionarSequenciasDeControle(Sequencia... sequencias) {
+		Sequencia[] atuais = controle;
+		Sequencia[] novas = Arrays.copyOf(atuais, atuais.length + sequencias.length);
+		System.arraycopy(sequencias, 0, novas, atuais.length, sequencias.length);
+		controle = novas;
+	}
+
+	/**
+	 * Retorna a sequência do último evento publicado.
+	 * @return o cursor do produtor.
+	 */
+	public long cursor() {
+		return cursor.get();
+	}
+
+	/**
+	 * Retorna a capacidade do anel.
+	 * @return o número de posições.
+	 */
+	public int capacidade() {
+		return eventos.length;
+	}
+
+}
@@ -0,0 +1,249 @@
+package tad.fila;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link Flow.Subscriber} que guarda os elementos recebidos numa {@link FilaIF} de onde
+ * o consumidor os retira no seu próprio ritmo. A demanda é pedida em lotes: no início
+ * o assinante pede {@code lote} elementos e, sempre que o consumidor retira metade de
+ * um lote, pede de novo o que foi retirado. Assim nunca há mais que {@code lote}
+ * elementos pedidos e não consumidos, e a fila nunca precisa crescer além disso.
+ * <p>
+ * A fila passada ao construtor deve comportar pelo menos {@code lote} elementos e ser
+ * usada apenas pelo assinante, que a protege com uma trava. Se um publicador entregar
+ * mais do que foi pedido e a fila encher, a assinatura é cancelada e o erro fica
+ * disponível em {@link #getErro()}.
+ *
+ * @param <E> o tipo dos elementos.
+ */
+public class AssinanteFila<E> implements Flow.Subscriber<E> {
+
+	private final FilaIF<E> fila;
+	private final int lote;
+	private final int limiteReposicao;
+
+	private final ReentrantLock trava = new ReentrantLock();
+	private final Condition naoVazia = trava.newCondition();
+
+	private Flow.Subscription assinatura = null;
+	private long consumidosSemPedido = 0; // Retirados desde o último request
+	private volatile boolean terminado = false;
+	private volatile Throwable erro = null;
+
+	/**
+	 * Constrói um assinante que guarda os elementos na fila dada.
+	 * @param fila a fila que recebe os elementos, com capacidade para pelo menos um lote.
+	 * @param lote o número máximo de elementos pedidos e ainda não consumidos.
+	 * @throws IllegalArgumentException se o lote não for positivo.
+	 */
+	public AssinanteFila(FilaIF<E> fila, int lote) {
+		if (lote <= 0) {
+			throw new IllegalArgumentException("quantidade inválida: " + lote);
+		}
+		this.fila = Objects.requireNonNull(fila);
+		this.lote = lote;
+		this.limiteReposicao = Math.max(1, lote / 2);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Pede o primeiro lote. Uma segunda assinatura é cancelada imediatamente.
+	 */
+	@Override
+	public void onSubscribe(Flow.Subscription assinatura) {
+		trava.lock();
+		try {
+			if (this.assinatura != null) {
+				assinatura.cancel();
+				return;
+			}
+			this.assinatura = assinatura;
+		} finally {
+			trava.unlock();
+		}
+		assinatura.request(lote);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onNext(E item) {
+		boolean aceito;
+		trava.lock();
+		try {
+			aceito = !terminado && fila.tentarEnfileirar(item);
+			if (aceito) {
+				naoVazia.signal();
+			}
+		} finally {
+			trava.unlock();
+		}
+		if (!aceito && !terminado) {
+			assinatura.cancel();
+			terminar(new IllegalStateException("a fila do assinante não comporta o que foi entregue."));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onError(Throwable causa) {
+		terminar(causa);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onComplete() {
+		terminar(null);
+	}
+
+	/**
+	 * Retira o próximo elemento sem esperar.
+	 * @return o elemento, ou {@code null} se não houver elemento disponível.
+	 */
+	public E tentarRetirar() {
+		E item;
+		trava.lock();
+		try {
+			item = fila.tentarDesenfileirar();
+		} finally {
+			trava.unlock();
+		}
+		if (item != null) {
+			reporDemanda(1);
+		}
+		return item;
+	}
+
+	/**
+	 * Retira o próximo elemento, esperando enquanto a fila estiver vazia e o fluxo não
+	 * tiver terminado.
+	 * @return o elemento, ou {@code null} se o fluxo terminou e a fila esvaziou.
+	 * @throws InterruptedException se a thread for interrompida enquanto espera.
+	 */
+	public E retirar() throws InterruptedException {
+		E item;
+		trava.lockInterruptibly();
+		try {
+			while ((item = fila.tentarDesenfileirar()) == null && !terminado) {
+				naoVazia.await();
+			}
+		} finally {
+			trava.unlock();
+		}
+		if (item != null) {
+			reporDemanda(1);
+		}
+		return item;
+	}
+
+	/**
+	 * Retira até {@code maximo} elementos de uma só vez, adicionando-os a {@code destino}
+	 * na ordem em que chegaram. Não espera.
+	 * @param destino a coleção que recebe os elementos.
+	 * @param maximo o número máximo de elementos a retirar.
+	 * @return o número de elementos retirados.
+	 * @throws IllegalArgumentException se {@code maximo} for negativo.
+	 */
+	public int drenarPara(Collection<? super E> destino, int maximo) {
+		if (maximo < 0) {
+			throw new IllegalArgumentException("quantidade inválida: " + maximo);
+		}
+		int retirados = 0;
+		trava.lock();
+		try {
+			E item;
+			while (retirados < maximo && (item = fila.tentarDesenfileirar()) != null) {
+				destino.add(item);
+				retirados++;
+			}
+		} finally {
+			trava.unlock();
+		}
+		reporDemanda(retirados);
+		return retirados;
+	}
+
+	/**
+	 * Cancela a assinatura. Os elementos já recebidos continuam disponíveis.
+	 */
+	public void cancelar() {
+		Flow.Subscription atual;
+		trava.lock();
+		try {
+			atual = assinatura;
+		} finally {
+			trava.unlock();
+		}
+		if (atual != null) {
+			atual.cancel();
+		}
+		terminar(null);
+	}
+
+	/**
+	 * Indica se o fluxo terminou, por conclusão, erro ou cancelamento.
+	 * @return {@code true} se não chegarão mais elementos.
+	 */
+	public boolean isTerminado() {
+		return terminado;
+	}
+
+	/**
+	 * Retorna o erro que terminou o fluxo.
+	 * @return o erro, ou {@code null} se o fluxo não terminou com erro.
+	 */
+	public Throwable getErro() {
+		return erro;
+	}
+
+	/**
+	 * Acumula os elementos consumidos e, quando chegam a meio lote, pede-os de novo ao
+	 * publicador. O pedido é feito fora da trava, porque pode provocar entregas na
+	 * própria thread.
+	 */
+	private void reporDemanda(int consumidos) {
+		if (consumidos == 0) {
+			return;
+		}
+		long pedido = 0;
+		Flow.Subscription atual;
+		trava.lock();
+		try {
+			consumidosSemPedido += consumidos;
+			if (consumidosSemPedido >= limiteReposicao && !terminado) {
+				pedido = consumidosSemPedido;
+				consumidosSemPedido = 0;
+			}
+			atual = assinatura;
+		} finally {
+			trava.unlock();
+		}
+		if (pedido > 0) {
+			atual.request(pedido);
+		}
+	}
+
+	private void terminar(Throwable causa) {
+		trava.lock();
+		try {
+			if (terminado) {
+				return;
+			}
+			erro = causa;
+			terminado = true;
+			naoVazia.signalAll();
+		} finally {
+			trava.unlock();
+		}
+	}
+
+}
@@ -0,0 +1,11 @@
+package tad.fila;
+
+public class BarreiraAlertadaException extends RuntimeException {
+
+	private static final long serialVersionUID = 4018326573917624511L;
+
+	public BarreiraAlertadaException() {
+		super("barreira alertada");
+	}
+
+}
@@ -0,0 +1,78 @@
+package tad.fila;
+
+/**
+ * Ponto de espera de um consumidor do {@link AnelDeEventos}. Um evento só está
+ * disponível quando o produtor já o publicou e todos os estágios dos quais este
+ * consumidor depende já terminaram de processá-lo; assim o estágio B de um pipeline
+ * só lê posições que o estágio A liberou.
+ * <p>
+ * {@link #esperarPor(long)} retorna a maior sequência disponível, que pode ser bem
+ * maior que a pedida: o consumidor processa todo esse trecho em lote sem voltar a
+ * consultar a barreira.
+ */
+public final class BarreiraDeSequencia {
+
+	private final Sequencia cursor;
+	private final Sequencia[] dependencias;
+	private final EstrategiaDeEspera espera;
+	private volatile boolean alertada = false;
+
+	BarreiraDeSequencia(Sequencia cursor, Sequencia[] dependencias, EstrategiaDeEspera espera) {
+		this.cursor = cursor;
+		this.dependencias = dependencias;
+		this.espera = espera;
+	}
+
+	/**
+	 * Espera até que a sequência dada esteja disponível.
+	 * @param sequencia a sequência desejada.
+	 * @return a maior sequência disponível, sempre maior ou igual a {@code sequencia}.
+	 * @throws BarreiraAlertadaException se a barreira for alertada durante a espera.
+	 */
+	public long esperarPor(long sequencia) {
+		int tentativa = 0;
+		while (true) {
+			long disponivel = Sequencia.minimo(dependencias, cursor.get());
+			if (disponivel >= sequencia) {
+				return disponivel;
+			}
+			if (alertada) {
+				throw new BarreiraAlertadaException();
+			}
+			espera.esperar(tentativa++);
+		}
+	}
+
+	/**
+	 * Retorna a maior sequência disponível agora, sem esperar.
+	 * @return a maior sequência disponível.
+	 */
+	public long disponivel() {
+		return Sequencia.minimo(dependencias, cursor.get());
+	}
+
+	/**
+	 * Alerta a barreira: esperas em andamento e futuras lançam
+	 * {@link BarreiraAlertadaException} enquanto não houver eventos disponíveis.
+	 * Usado para parar um {@link ProcessadorDeEventos}.
+	 */
+	public void alertar() {
+		alertada = true;
+	}
+
+	/**
+	 * Desfaz o alerta.
+	 */
+	public void limparAlerta() {
+		alertada = false;
+	}
+
+	/**
+	 * Indica se a barreira está alertada.
+	 * @return {@code true} se a barreira estiver alertada.
+	 */
+	public boolean isAlertada() {
+		return alertada;
+	}
+
+}
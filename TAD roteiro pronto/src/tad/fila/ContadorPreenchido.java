@@ -0,0 +1,73 @@
+package tad.fila;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Contador {@code long} isolado em sua própria linha de cache, usado pelas filas
+ * concorrentes para que os cursores de produtores e consumidores não sofram falso
+ * compartilhamento.
+ * <p>
+ * O preenchimento usa a hierarquia de classes: a JVM dispõe os campos da superclasse
+ * antes dos da subclasse, então {@link PreenchimentoEsquerda} fica antes do valor e os
+ * campos de {@link Celula} ficam depois dele. A célula preenchida é um objeto à parte,
+ * referenciado por um campo final; este objeto externo nunca é escrito depois de
+ * construído e por isso não disputa linha de cache com ninguém.
+ */
+final class ContadorPreenchido {
+
+	private static class PreenchimentoEsquerda {
+		long p01, p02, p03, p04, p05, p06, p07;
+	}
+
+	private static class ValorContador extends PreenchimentoEsquerda {
+		long valor;   // Acessos sem VarHandle só são seguros na thread dona
+		long copia;   // Cópia local, na mesma linha de cache, do contador de outra thread
+	}
+
+	private static final class Celula extends ValorContador {
+		long p11, p12, p13, p14, p15, p16, p17;
+	}
+
+	private static final VarHandle VALOR;
+
+	static {
+		try {
+			VALOR = MethodHandles.lookup().findVarHandle(ValorContador.class, "valor", long.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Celula celula = new Celula();
+
+	ContadorPreenchido(long inicial) {
+		celula.valor = inicial;
+	}
+
+	/** Leitura simples do valor; só é segura na thread dona do contador. */
+	long valor() {
+		return celula.valor;
+	}
+
+	long copia() {
+		return celula.copia;
+	}
+
+	void definirCopia(long copia) {
+		celula.copia = copia;
+	}
+
+	long lerAcquire() {
+		return (long) VALOR.getAcquire(celula);
+	}
+
+	void escreverRelease(long novo) {
+		VALOR.setRelease(celula, novo);
+	}
+
+	boolean compararETrocar(long esperado, long novo) {
+		return VALOR.compareAndSet(celula, esperado, novo);
+	}
+
+}
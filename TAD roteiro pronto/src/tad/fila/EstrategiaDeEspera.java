@@ -0,0 +1,58 @@
+package tad.fila;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * O que uma thread faz enquanto espera uma sequência avançar no {@link AnelDeEventos}:
+ * tanto o produtor esperando espaço quanto a {@link BarreiraDeSequencia} de um
+ * consumidor esperando eventos chamam {@link #esperar(int)} a cada verificação sem sucesso.
+ * <p>
+ * As estratégias prontas trocam latência por uso de CPU: {@link #ocupada()} reage mais
+ * rápido mas ocupa um núcleo inteiro; {@link #cedendo()} cede o processador a outras
+ * threads; {@link #estacionando(long)} dorme por um intervalo e praticamente não gasta
+ * CPU enquanto a fila está parada.
+ */
+public interface EstrategiaDeEspera {
+
+	/**
+	 * Chamado a cada verificação em que a sequência esperada ainda não está disponível.
+	 * @param tentativa o número de verificações sem sucesso até agora nesta espera, a partir de 0.
+	 */
+	public void esperar(int tentativa);
+
+	/**
+	 * Espera ativa: apenas avisa o processador que está em laço de espera.
+	 * @return a estratégia.
+	 */
+	public static EstrategiaDeEspera ocupada() {
+		return tentativa -> Thread.onSpinWait();
+	}
+
+	/**
+	 * Espera ativa por algumas tentativas e depois cede o processador a cada tentativa.
+	 * @return a estratégia.
+	 */
+	public static EstrategiaDeEspera cedendo() {
+		return tentativa -> {
+			if (tentativa < 100) {
+				Thread.onSpinWait();
+			} else {
+				Thread.yield();
+			}
+		};
+	}
+
+	/**
+	 * Estaciona a thread pelo intervalo dado a cada tentativa.
+	 * @param nanos o intervalo de cada espera, em nanossegundos.
+	 * @return a estratégia.
+	 * @throws IllegalArgumentException se o intervalo não for positivo.
+	 */
+	public static EstrategiaDeEspera estacionando(long nanos) {
+		if (nanos <= 0) {
+			throw new IllegalArgumentException("intervalo inválido: " + nanos);
+		}
+		return tentativa -> LockSupport.parkNanos(nanos);
+	}
+
+}
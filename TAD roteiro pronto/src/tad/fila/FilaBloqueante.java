@@ -0,0 +1,437 @@
+package tad.fila;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fila limitada sobre um array circular com operações que bloqueiam: em vez de lançar
+ * {@link FilaCheiaException} ou {@link FilaVaziaException} e obrigar quem chama a
+ * tentar de novo em laço, {@link #colocar(Object)} e {@link #retirar()} estacionam a
+ * thread até haver espaço ou elemento, e as versões com prazo desistem depois do
+ * tempo dado.
+ * <p>
+ * A exclusão mútua usa {@link ReentrantLock} com duas {@link Condition}s (fila não
+ * vazia e fila não cheia) em vez de {@code synchronized}: uma thread virtual que espera
+ * numa {@code Condition} libera a thread portadora, enquanto um monitor
+ * {@code synchronized} a prenderia. Cada inserção acorda um único consumidor e cada
+ * remoção um único produtor, então milhares de consumidores esperando não são todos
+ * acordados a cada elemento.
+ * <p>
+ * As operações de {@link FilaIF} continuam disponíveis e não bloqueiam. A fila não
+ * aceita {@code null}, para que {@link #tentarDesenfileirar()} possa usar {@code null}
+ * como indicação de fila vazia.
+ *
+ * @param <E> o tipo dos elementos.
+ */
+public class FilaBloqueante<E> implements FilaIF<E> {
+
+	private final Object[] meusDados;
+	private int cabeca = 0;
+	private int cauda = 0;
+	private int tamanho = 0;
+
+	private final ReentrantLock trava;
+	private final Condition naoVazia;
+	private final Condition naoCheia;
+
+	/**
+	 * Constrói uma fila com a capacidade especificada.
+	 * @param capacidade o número máximo de elementos.
+	 * @param justa se a trava deve atender as threads na ordem de chegada.
+	 * @throws IllegalArgumentException se a capacidade não for positiva.
+	 */
+	public FilaBloqueante(int capacidade, boolean justa) {
+		if (capacidade <= 0) {
+			throw new IllegalArgumentException("capacidade inválida: " + capacidade);
+		}
+		this.meusDados = new Object[capacidade];
+		this.trava = new ReentrantLock(justa);
+		this.naoVazia = trava.newCondition();
+		this.naoCheia = trava.newCondition();
+	}
+
+	/**
+	 * Constrói uma fila com a capacidade especificada e trava não justa.
+	 * @param capacidade o número máximo de elementos.
+	 */
+	public FilaBloqueante(int capacidade) {
+		this(capacidade, false);
+	}
+
+	/**
+	 * Enfileira o item, esperando enquanto a fila estiver cheia.
+	 * @param item o item a ser enfileirado.
+	 * @throws InterruptedException se a thread for interrompida enquanto espera.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	public void colocar(E item) throws InterruptedException {
+		verificarItem(item);
+		trava.lockInterruptibly();
+		try {
+			while (tamanho == meusDados.length) {
+				naoCheia.await();
+			}
+			inserir(item);
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * Tenta enfileirar o item, esperando no máximo o tempo dado por espaço na fila.
+	 * @param item o item a ser enfileirado.
+	 * @param prazo o tempo máximo de espera.
+	 * @param unidade a unidade de {@code prazo}.
+	 * @return {@code true} se o item foi enfileirado, {@code false} se o prazo acabou
+	 *         com a fila ainda cheia.
+	 * @throws InterruptedException se a thread for interrompida enquanto espera.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	public boolean tentarEnfileirar(E item, long prazo, TimeUnit unidade) throws InterruptedException {
+		verificarItem(item);
+		long restante = unidade.toNanos(prazo);
+		trava.lockInterruptibly();
+		try {
+			while (tamanho == meusDados.length) {
+				if (restante <= 0) {
+					return false;
+				}
+				restante = naoCheia.awaitNanos(restante);
+			}
+			inserir(item);
+			return true;
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * Desenfileira o elemento da cabeça, esperando enquanto a fila estiver vazia.
+	 * @return o elemento removido.
+	 * @throws InterruptedException se a thread for interrompida enquanto espera.
+	 */
+	public E retirar() throws InterruptedException {
+		trava.lockInterruptibly();
+		try {
+			while (tamanho == 0) {
+				naoVazia.await();
+			}
+			return remover();
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * Tenta desenfileirar, esperando no máximo o tempo dado por um elemento.
+	 * @param prazo o tempo máximo de espera.
+	 * @param unidade a unidade de {@code prazo}.
+	 * @return o elemento removido, ou {@code null} se o prazo acabou com a fila ainda vazia.
+	 * @throws InterruptedException se a thread for interrompida enquanto espera.
+	 */
+	public E tentarDesenfileirar(long prazo, TimeUnit unidade) throws InterruptedException {
+		long restante = unidade.toNanos(prazo);
+		trava.lockInterruptibly();
+		try {
+			while (tamanho == 0) {
+				if (restante <= 0) {
+					return null;
+				}
+				restante = naoVazia.awaitNanos(restante);
+			}
+			return remover();
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * Remove até {@code maximo} elementos de uma só vez, adicionando-os a {@code destino}
+	 * na ordem da fila. Não espera: se a fila tiver menos elementos, remove os que houver.
+	 * @param destino a coleção que recebe os elementos.
+	 * @param maximo o número máximo de elementos a remover.
+	 * @return o número de elementos removidos.
+	 * @throws IllegalArgumentException se {@code maximo} for negativo.
+	 */
+	public int drenarPara(Collection<? super E> destino, int maximo) {
+		if (maximo < 0) {
+			throw new IllegalArgumentException("quantidade inválida: " + maximo);
+		}
+		trava.lock();
+		int removidos = 0;
+		try {
+			// Remove um a um: se destino.add lançar exceção, a fila continua consistente.
+			while (removidos < maximo && tamanho > 0) {
+				destino.add(elementoEm(cabeca));
+				meusDados[cabeca] = null;
+				cabeca = proximo(cabeca);
+				tamanho--;
+				removidos++;
+			}
+			return removidos;
+		} finally {
+			acordarProdutores(removidos);
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * Remove todos os elementos de uma só vez, adicionando-os a {@code destino} na ordem da fila.
+	 * @param destino a coleção que recebe os elementos.
+	 * @return o número de elementos removidos.
+	 */
+	public int drenarPara(Collection<? super E> destino) {
+		return drenarPara(destino, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Não espera.
+	 * @throws FilaCheiaException se a fila estiver cheia.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void enfileirar(E item) throws FilaCheiaException {
+		if (!tentarEnfileirar(item)) {
+			throw new FilaCheiaException();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Não espera.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public boolean tentarEnfileirar(E item) {
+		verificarItem(item);
+		trava.lock();
+		try {
+			if (tamanho == meusDados.length) {
+				return false;
+			}
+			inserir(item);
+			return true;
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Não espera.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	@Override
+	public E desenfileirar() throws FilaVaziaException {
+		E item = tentarDesenfileirar();
+		if (item == null) {
+			throw new FilaVaziaException();
+		}
+		return item;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Não espera. A fila não aceita {@code null}, então o retorno {@code null} indica
+	 * sempre fila vazia.
+	 */
+	@Override
+	public E tentarDesenfileirar() {
+		trava.lock();
+		try {
+			return tamanho == 0 ? null : remover();
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Não espera; os itens são inseridos sob uma única aquisição da trava, então
+	 * aparecem juntos para os consumidores.
+	 * @throws FilaCheiaException se não houver espaço para todos os itens; nesse caso
+	 *                            nada é enfileirado.
+	 * @throws IllegalArgumentException se algum item for {@code null}.
+	 */
+	@Override
+	public void enfileirarTodos(E[] itens) throws FilaCheiaException {
+		for (E item : itens) {
+			verificarItem(item);
+		}
+		trava.lock();
+		try {
+			if (itens.length > meusDados.length - tamanho) {
+				throw new FilaCheiaException();
+			}
+			for (E item : itens) {
+				meusDados[cauda] = item;
+				cauda = proximo(cauda);
+			}
+			tamanho += itens.length;
+			acordarConsumidores(itens.length);
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Não espera; os elementos são removidos sob uma única aquisição da trava.
+	 */
+	@Override
+	public int desenfileirarAte(E[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		trava.lock();
+		try {
+			int quantidade = Math.min(n, tamanho);
+			for (int i = 0; i < quantidade; i++) {
+				destino[i] = elementoEm(cabeca);
+				meusDados[cabeca] = null;
+				cabeca = proximo(cabeca);
+			}
+			tamanho -= quantidade;
+			acordarProdutores(quantidade);
+			return quantidade;
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento na cauda da fila, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public E verificarCauda() {
+		trava.lock();
+		try {
+			return tamanho == 0 ? null : elementoEm(cauda == 0 ? meusDados.length - 1 : cauda - 1);
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento na cabeça da fila, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public E verificarCabeca() {
+		trava.lock();
+		try {
+			return tamanho == 0 ? null : elementoEm(cabeca);
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		trava.lock();
+		try {
+			return tamanho == 0;
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isFull() {
+		trava.lock();
+		try {
+			return tamanho == meusDados.length;
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * Retorna o número de elementos na fila.
+	 * @return o número de elementos.
+	 */
+	public int tamanho() {
+		trava.lock();
+		try {
+			return tamanho;
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * Retorna a capacidade da fila.
+	 * @return a capacidade.
+	 */
+	public int capacidade() {
+		return meusDados.length;
+	}
+
+	private static void verificarItem(Object item) {
+		if (item == null) {
+			throw new IllegalArgumentException("FilaBloqueante não aceita elementos nulos.");
+		}
+	}
+
+	/**
+	 * Insere na cauda e acorda um consumidor. Deve ser chamado com a trava adquirida e
+	 * com espaço na fila.
+	 */
+	private void inserir(E item) {
+		meusDados[cauda] = item;
+		cauda = proximo(cauda);
+		tamanho++;
+		naoVazia.signal();
+	}
+
+	/**
+	 * Remove da cabeça e acorda um produtor. Deve ser chamado com a trava adquirida e
+	 * com a fila não vazia.
+	 */
+	private E remover() {
+		E item = elementoEm(cabeca);
+		meusDados[cabeca] = null;
+		cabeca = proximo(cabeca);
+		tamanho--;
+		naoCheia.signal();
+		return item;
+	}
+
+	/**
+	 * Acorda um consumidor por elemento inserido, sem acordar mais threads que o necessário.
+	 */
+	private void acordarConsumidores(int quantidade) {
+		for (int i = 0; i < quantidade && trava.hasWaiters(naoVazia); i++) {
+			naoVazia.signal();
+		}
+	}
+
+	/**
+	 * Acorda um produtor por posição liberada, sem acordar mais threads que o necessário.
+	 */
+	private void acordarProdutores(int quantidade) {
+		for (int i = 0; i < quantidade && trava.hasWaiters(naoCheia); i++) {
+			naoCheia.signal();
+		}
+	}
+
+	private int proximo(int indice) {
+		return indice + 1 == meusDados.length ? 0 : indice + 1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private E elementoEm(int indice) {
+		return (E) meusDados[indice];
+	}
+
+}
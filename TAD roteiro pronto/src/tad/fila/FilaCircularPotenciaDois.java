@@ -0,0 +1,251 @@
+package tad.fila;
+
+import java.util.Arrays;
+
+/**
+ * Implementação de uma fila de inteiros sobre um array circular cuja capacidade é
+ * sempre uma potência de dois. Com isso, a posição no array é obtida com uma máscara
+ * de bits ({@code indice & mascara}) em vez do resto da divisão usado em {@link MinhaFila}.
+ * <p>
+ * Cabeça e cauda são contadores que só avançam; o número de elementos é a diferença
+ * entre eles, então não há um contador separado para manter. A aritmética de
+ * {@code int} com transbordo continua correta porque a diferença nunca passa da capacidade.
+ * <p>
+ * No modo redimensionável, a fila dobra de tamanho quando enche (e {@link #isFull()}
+ * sempre retorna {@code false}) e encolhe pela metade quando fica com menos de um
+ * quarto ocupado, sem ficar abaixo da capacidade inicial. Ao redimensionar, o anel é
+ * desenrolado para o novo array com no máximo duas cópias em bloco. No modo fixo, a
+ * fila se comporta como {@link MinhaFila} e lança {@link FilaCheiaException} quando cheia.
+ */
+public class FilaCircularPotenciaDois implements FilaIF<Integer> {
+
+	private static final int CAPACIDADE_PADRAO = 16;
+	private static final int CAPACIDADE_MAXIMA = 1 << 30;
+
+	private Integer[] meusDados;
+	private int mascara;
+	private int cabeca = 0; // Contador de remoções; a posição é cabeca & mascara
+	private int cauda = 0;  // Contador de inserções; a posição é cauda & mascara
+
+	private final int capacidadeInicial;
+	private final boolean redimensionavel;
+
+	/**
+	 * Constrói uma fila com pelo menos a capacidade especificada, arredondada para
+	 * cima até a próxima potência de dois.
+	 * @param capacidadeMinima a capacidade mínima desejada.
+	 * @param redimensionavel se a fila deve crescer e encolher conforme o uso.
+	 * @throws IllegalArgumentException se a capacidade não for positiva ou passar de 2^30.
+	 */
+	public FilaCircularPotenciaDois(int capacidadeMinima, boolean redimensionavel) {
+		if (capacidadeMinima <= 0 || capacidadeMinima > CAPACIDADE_MAXIMA) {
+			throw new IllegalArgumentException("capacidade inválida: " + capacidadeMinima);
+		}
+		this.capacidadeInicial = proximaPotenciaDeDois(capacidadeMinima);
+		this.redimensionavel = redimensionavel;
+		this.meusDados = new Integer[capacidadeInicial];
+		this.mascara = capacidadeInicial - 1;
+	}
+
+	/**
+	 * Constrói uma fila de capacidade fixa, arredondada para a próxima potência de dois.
+	 * @param capacidadeMinima a capacidade mínima desejada.
+	 */
+	public FilaCircularPotenciaDois(int capacidadeMinima) {
+		this(capacidadeMinima, false);
+	}
+
+	/**
+	 * Constrói uma fila redimensionável com capacidade inicial padrão (16 elementos).
+	 */
+	public FilaCircularPotenciaDois() {
+		this(CAPACIDADE_PADRAO, true);
+	}
+
+	private static int proximaPotenciaDeDois(int valor) {
+		return valor == 1 ? 1 : Integer.highestOneBit(valor - 1) << 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws FilaCheiaException se a fila de capacidade fixa estiver cheia, ou se a fila
+	 *                            redimensionável já estiver na capacidade máxima.
+	 */
+	@Override
+	public void enfileirar(Integer item) throws FilaCheiaException {
+		if (!tentarEnfileirar(item)) {
+			throw new FilaCheiaException();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	@Override
+	public Integer desenfileirar() throws FilaVaziaException {
+		if (cabeca == cauda) {
+			throw new FilaVaziaException();
+		}
+		return tentarDesenfileirar();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tentarEnfileirar(Integer item) {
+		if (cauda - cabeca == meusDados.length) {
+			if (!redimensionavel || meusDados.length == CAPACIDADE_MAXIMA) {
+				return false;
+			}
+			redimensionar(meusDados.length << 1);
+		}
+		meusDados[cauda & mascara] = item;
+		cauda++;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer tentarDesenfileirar() {
+		if (cabeca == cauda) {
+			return null;
+		}
+		int posicao = cabeca & mascara;
+		Integer itemRemovido = meusDados[posicao];
+		meusDados[posicao] = null;
+		cabeca++;
+		encolherSeNecessario();
+		return itemRemovido;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Os itens são copiados em bloco, com no máximo duas cópias quando o trecho dá a
+	 * volta no fim do array. Na fila redimensionável a capacidade é ajustada uma única vez.
+	 * @throws FilaCheiaException se não houver espaço para todos os itens.
+	 */
+	@Override
+	public void enfileirarTodos(Integer[] itens) throws FilaCheiaException {
+		int quantidade = itens.length;
+		int numElementos = cauda - cabeca;
+		if (quantidade > meusDados.length - numElementos) {
+			if (!redimensionavel || quantidade > CAPACIDADE_MAXIMA - numElementos) {
+				throw new FilaCheiaException();
+			}
+			redimensionar(proximaPotenciaDeDois(numElementos + quantidade));
+		}
+		int inicio = cauda & mascara;
+		int ateOFim = Math.min(quantidade, meusDados.length - inicio);
+		System.arraycopy(itens, 0, meusDados, inicio, ateOFim);
+		System.arraycopy(itens, ateOFim, meusDados, 0, quantidade - ateOFim);
+		cauda += quantidade;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Os elementos são copiados em bloco, com no máximo duas cópias.
+	 */
+	@Override
+	public int desenfileirarAte(Integer[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		int quantidade = Math.min(n, cauda - cabeca);
+		int inicio = cabeca & mascara;
+		int ateOFim = Math.min(quantidade, meusDados.length - inicio);
+		System.arraycopy(meusDados, inicio, destino, 0, ateOFim);
+		System.arraycopy(meusDados, 0, destino, ateOFim, quantidade - ateOFim);
+		Arrays.fill(meusDados, inicio, inicio + ateOFim, null);
+		Arrays.fill(meusDados, 0, quantidade - ateOFim, null);
+		cabeca += quantidade;
+		encolherSeNecessario();
+		return quantidade;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento na cauda da fila, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public Integer verificarCauda() {
+		if (cabeca == cauda) {
+			return null;
+		}
+		return meusDados[(cauda - 1) & mascara];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento na cabeça da fila, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public Integer verificarCabeca() {
+		if (cabeca == cauda) {
+			return null;
+		}
+		return meusDados[cabeca & mascara];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return cabeca == cauda;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila redimensionável só fica cheia ao atingir a capacidade máxima (2^30).
+	 */
+	@Override
+	public boolean isFull() {
+		return cauda - cabeca == meusDados.length
+				&& (!redimensionavel || meusDados.length == CAPACIDADE_MAXIMA);
+	}
+
+	/**
+	 * Retorna o número de elementos na fila.
+	 * @return o número de elementos.
+	 */
+	public int tamanho() {
+		return cauda - cabeca;
+	}
+
+	/**
+	 * Retorna a capacidade atual do array interno, sempre uma potência de dois.
+	 * @return a capacidade atual.
+	 */
+	public int capacidade() {
+		return meusDados.length;
+	}
+
+	private void encolherSeNecessario() {
+		if (redimensionavel && meusDados.length > capacidadeInicial && cauda - cabeca < meusDados.length >>> 2) {
+			redimensionar(meusDados.length >>> 1);
+		}
+	}
+
+	/**
+	 * Desenrola o anel para um novo array com a capacidade dada, deixando a cabeça na
+	 * posição 0. São no máximo duas cópias em bloco: da cabeça até o fim do array antigo,
+	 * e do início do array antigo até a cauda.
+	 */
+	private void redimensionar(int novaCapacidade) {
+		int numElementos = cauda - cabeca;
+		Integer[] novoArray = new Integer[novaCapacidade];
+		int inicio = cabeca & mascara;
+		int ateOFim = Math.min(numElementos, meusDados.length - inicio);
+		System.arraycopy(meusDados, inicio, novoArray, 0, ateOFim);
+		System.arraycopy(meusDados, 0, novoArray, ateOFim, numElementos - ateOFim);
+		meusDados = novoArray;
+		mascara = novaCapacidade - 1;
+		cabeca = 0;
+		cauda = numElementos;
+	}
+
+}
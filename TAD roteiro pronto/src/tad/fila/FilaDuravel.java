@@ -0,0 +1,420 @@
+package tad.fila;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import tad.util.LiberadorDeBuffer;
+
+/**
+ * Fila de inteiros persistente, que sobrevive ao reinício do processo. Os elementos
+ * são registros de 4 bytes gravados em arquivos de segmento mapeados em memória, e as
+ * posições de cabeça e cauda ficam num pequeno cabeçalho também mapeado.
+ * <p>
+ * Cabeça e cauda são contadores {@code long} que só avançam; o registro da posição
+ * {@code p} fica no segmento {@code p / registrosPorSegmento}. Enfileirar e desenfileirar
+ * só escrevem na memória mapeada, sem chamada de sistema por elemento: a chamada só
+ * acontece ao trocar de segmento. Quando a cabeça passa do fim de um segmento, o
+ * arquivo dele é apagado.
+ * <p>
+ * O registro é gravado antes de a cauda avançar no cabeçalho, então se o processo
+ * terminar no meio de uma operação a fila reaberta nunca expõe um registro incompleto.
+ * Os dados mapeados ficam no cache de páginas do sistema operacional; para que
+ * sobrevivam também a uma queda do sistema, chame {@link #sincronizar()}. Ao reabrir,
+ * a fila lê o cabeçalho e apaga segmentos já consumidos, em tempo proporcional ao
+ * número de segmentos e não ao de elementos.
+ * <p>
+ * A fila não tem limite de capacidade além do espaço em disco, então {@link #isFull()}
+ * sempre retorna {@code false}. Não é segura para uso por várias threads nem por vários
+ * processos ao mesmo tempo. Erros de E/S são lançados como {@link UncheckedIOException}.
+ * Depois de {@link #close()}, qualquer operação lança {@link IllegalStateException}.
+ */
+public class FilaDuravel implements FilaIF<Integer>, AutoCloseable {
+
+	private static final int BYTES_POR_REGISTRO = Integer.BYTES;
+	private static final int REGISTROS_POR_SEGMENTO_PADRAO = 1 << 18; // 1 MiB por segmento
+	private static final ByteOrder ORDEM = ByteOrder.LITTLE_ENDIAN;
+
+	private static final String NOME_CABECALHO = "cabecalho.fila";
+	private static final String PREFIXO_SEGMENTO = "segmento-";
+	private static final String SUFIXO_SEGMENTO = ".fila";
+	private static final int POSICAO_CABECA = 0;
+	private static final int POSICAO_CAUDA = 8;
+	private static final int POSICAO_REGISTROS = 16;
+	private static final int TAMANHO_CABECALHO = 20;
+
+	private final Path diretorio;
+	private final int deslocamentoSegmento; // log2 do número de registros por segmento
+	private final int mascaraSegmento;
+	private MappedByteBuffer cabecalho;
+	private long cabeca;
+	private long cauda;
+
+	private MappedByteBuffer segmentoLeitura = null;
+	private long indiceLeitura = -1;
+	private MappedByteBuffer segmentoEscrita = null;
+	private long indiceEscrita = -1;
+	private boolean fechada = false;
+
+	/**
+	 * Abre a fila guardada no diretório dado, ou cria uma fila vazia se o diretório
+	 * ainda não contiver uma.
+	 * @param diretorio o diretório dos arquivos da fila; é criado se não existir.
+	 * @param registrosPorSegmento número de inteiros por arquivo de segmento; deve ser
+	 *                             uma potência de dois entre 1 e 2^28.
+	 * @throws IOException se os arquivos não puderem ser criados ou lidos.
+	 * @throws IllegalArgumentException se o tamanho do segmento for inválido ou diferente
+	 *                                  do usado quando a fila foi criada.
+	 */
+	public FilaDuravel(Path diretorio, int registrosPorSegmento) throws IOException {
+		if (registrosPorSegmento <= 0 || registrosPorSegmento > (1 << 28)
+				|| Integer.bitCount(registrosPorSegmento) != 1) {
+			throw new IllegalArgumentException("registros por segmento deve ser uma potência de dois entre 1 e 2^28: "
+					+ registrosPorSegmento);
+		}
+		this.diretorio = diretorio;
+		this.deslocamentoSegmento = Integer.numberOfTrailingZeros(registrosPorSegmento);
+		this.mascaraSegmento = registrosPorSegmento - 1;
+		Files.createDirectories(diretorio);
+		Path caminhoCabecalho = diretorio.resolve(NOME_CABECALHO);
+		boolean existente = Files.exists(caminhoCabecalho);
+		cabecalho = mapear(caminhoCabecalho, TAMANHO_CABECALHO);
+		if (existente) {
+			int registrosGravados = cabecalho.getInt(POSICAO_REGISTROS);
+			if (registrosGravados != registrosPorSegmento) {
+				LiberadorDeBuffer.liberar(cabecalho);
+				throw new IllegalArgumentException("a fila em " + diretorio + " usa segmentos de "
+						+ registrosGravados + " registros.");
+			}
+			cabeca = cabecalho.getLong(POSICAO_CABECA);
+			cauda = cabecalho.getLong(POSICAO_CAUDA);
+			apagarSegmentosConsumidos();
+		} else {
+			cabecalho.putInt(POSICAO_REGISTROS, registrosPorSegmento);
+			cabecalho.putLong(POSICAO_CABECA, 0);
+			cabecalho.putLong(POSICAO_CAUDA, 0);
+			cabeca = 0;
+			cauda = 0;
+		}
+	}
+
+	/**
+	 * Abre ou cria a fila no diretório dado, com segmentos de 2^18 inteiros (1 MiB).
+	 * @param diretorio o diretório dos arquivos da fila.
+	 * @throws IOException se os arquivos não puderem ser criados ou lidos.
+	 */
+	public FilaDuravel(Path diretorio) throws IOException {
+		this(diretorio, REGISTROS_POR_SEGMENTO_PADRAO);
+	}
+
+	/**
+	 * Enfileira um inteiro sem boxing.
+	 * @param item o valor a ser enfileirado.
+	 */
+	public void enfileirarInt(int item) {
+		verificarAberta();
+		gravar(cauda, item);
+		cauda++;
+		cabecalho.putLong(POSICAO_CAUDA, cauda);
+	}
+
+	/**
+	 * Desenfileira o inteiro da cabeça sem boxing.
+	 * @return o valor que estava na cabeça.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	public int desenfileirarInt() throws FilaVaziaException {
+		verificarAberta();
+		if (cabeca == cauda) {
+			throw new FilaVaziaException();
+		}
+		int item = ler(cabeca);
+		avancarCabeca(cabeca + 1);
+		return item;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila não tem limite de capacidade.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void enfileirar(Integer item) {
+		if (item == null) {
+			throw new IllegalArgumentException("FilaDuravel não aceita elementos nulos.");
+		}
+		enfileirarInt(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	@Override
+	public Integer desenfileirar() throws FilaVaziaException {
+		return desenfileirarInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A cauda é atualizada no cabeçalho uma única vez, depois de todos os registros gravados.
+	 * @throws IllegalArgumentException se algum item for {@code null}; nesse caso nada é enfileirado.
+	 */
+	@Override
+	public void enfileirarTodos(Integer[] itens) {
+		verificarAberta();
+		for (Integer item : itens) {
+			if (item == null) {
+				throw new IllegalArgumentException("FilaDuravel não aceita elementos nulos.");
+			}
+		}
+		long posicao = cauda;
+		for (Integer item : itens) {
+			gravar(posicao++, item);
+		}
+		cauda = posicao;
+		cabecalho.putLong(POSICAO_CAUDA, cauda);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A cabeça é atualizada no cabeçalho uma única vez, e os segmentos esvaziados são
+	 * apagados depois disso.
+	 */
+	@Override
+	public int desenfileirarAte(Integer[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		verificarAberta();
+		int quantidade = (int) Math.min(n, cauda - cabeca);
+		for (int i = 0; i < quantidade; i++) {
+			destino[i] = ler(cabeca + i);
+		}
+		avancarCabeca(cabeca + quantidade);
+		return quantidade;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento na cauda da fila, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public Integer verificarCauda() {
+		verificarAberta();
+		if (cabeca == cauda) {
+			return null;
+		}
+		long posicao = cauda - 1;
+		return segmentoEscrita(posicao >>> deslocamentoSegmento)
+				.getInt((int) (posicao & mascaraSegmento) * BYTES_POR_REGISTRO);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento na cabeça da fila, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public Integer verificarCabeca() {
+		verificarAberta();
+		return cabeca == cauda ? null : ler(cabeca);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		verificarAberta();
+		return cabeca == cauda;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila não tem limite de capacidade, então sempre retorna {@code false}.
+	 */
+	@Override
+	public boolean isFull() {
+		verificarAberta();
+		return false;
+	}
+
+	/**
+	 * Retorna o número de elementos na fila.
+	 * @return o número de elementos.
+	 */
+	public long tamanho() {
+		verificarAberta();
+		return cauda - cabeca;
+	}
+
+	/**
+	 * Força a gravação em disco do segmento da cauda e do cabeçalho, para que os
+	 * elementos enfileirados até agora sobrevivam a uma queda do sistema. Segmentos
+	 * anteriores já foram gravados ao serem deixados para trás.
+	 */
+	public void sincronizar() {
+		verificarAberta();
+		if (segmentoEscrita != null) {
+			segmentoEscrita.force();
+		}
+		cabecalho.force();
+	}
+
+	/**
+	 * Sincroniza a fila com o disco e desfaz os mapeamentos. Os arquivos continuam no
+	 * diretório e podem ser reabertos por uma nova instância. Chamar {@code close} mais
+	 * de uma vez não tem efeito.
+	 */
+	@Override
+	public void close() {
+		if (fechada) {
+			return;
+		}
+		sincronizar();
+		fechada = true;
+		liberarLeitura();
+		liberarEscrita();
+		LiberadorDeBuffer.liberar(cabecalho);
+		cabecalho = null;
+	}
+
+	private void verificarAberta() {
+		if (fechada) {
+			throw new IllegalStateException("a fila já foi fechada.");
+		}
+	}
+
+	private void gravar(long posicao, int item) {
+		segmentoEscrita(posicao >>> deslocamentoSegmento)
+				.putInt((int) (posicao & mascaraSegmento) * BYTES_POR_REGISTRO, item);
+	}
+
+	private int ler(long posicao) {
+		return segmentoLeitura(posicao >>> deslocamentoSegmento)
+				.getInt((int) (posicao & mascaraSegmento) * BYTES_POR_REGISTRO);
+	}
+
+	/**
+	 * Avança a cabeça e grava no cabeçalho. Se a cabeça cruzou o fim de um segmento, o
+	 * arquivo dele é apagado; a cabeça é gravada antes, então uma queda no meio deixa no
+	 * máximo um arquivo já consumido, que é apagado ao reabrir.
+	 */
+	private void avancarCabeca(long novaCabeca) {
+		long segmentoAntigo = cabeca >>> deslocamentoSegmento;
+		cabeca = novaCabeca;
+		cabecalho.putLong(POSICAO_CABECA, cabeca);
+		for (long indice = segmentoAntigo; indice < cabeca >>> deslocamentoSegmento; indice++) {
+			apagarSegmento(indice);
+		}
+	}
+
+	private MappedByteBuffer segmentoLeitura(long indice) {
+		if (indice != indiceLeitura) {
+			liberarLeitura();
+			segmentoLeitura = mapearSegmento(indice);
+			indiceLeitura = indice;
+		}
+		return segmentoLeitura;
+	}
+
+	/**
+	 * Retorna o segmento de escrita com o índice dado. Ao trocar de segmento, o
+	 * anterior é gravado em disco antes de ser desmapeado, para que
+	 * {@link #sincronizar()} só precise cuidar do segmento atual.
+	 */
+	private MappedByteBuffer segmentoEscrita(long indice) {
+		if (indice != indiceEscrita) {
+			if (segmentoEscrita != null) {
+				segmentoEscrita.force();
+			}
+			liberarEscrita();
+			segmentoEscrita = mapearSegmento(indice);
+			indiceEscrita = indice;
+		}
+		return segmentoEscrita;
+	}
+
+	private void liberarLeitura() {
+		if (segmentoLeitura != null) {
+			LiberadorDeBuffer.liberar(segmentoLeitura);
+			segmentoLeitura = null;
+			indiceLeitura = -1;
+		}
+	}
+
+	private void liberarEscrita() {
+		if (segmentoEscrita != null) {
+			LiberadorDeBuffer.liberar(segmentoEscrita);
+			segmentoEscrita = null;
+			indiceEscrita = -1;
+		}
+	}
+
+	private void apagarSegmento(long indice) {
+		if (indice == indiceLeitura) {
+			liberarLeitura();
+		}
+		if (indice == indiceEscrita) {
+			liberarEscrita();
+		}
+		try {
+			Files.deleteIfExists(caminhoSegmento(indice));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Apaga os arquivos de segmentos que ficaram inteiramente antes da cabeça.
+	 */
+	private void apagarSegmentosConsumidos() throws IOException {
+		long primeiroVivo = cabeca >>> deslocamentoSegmento;
+		try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio,
+				PREFIXO_SEGMENTO + "*" + SUFIXO_SEGMENTO)) {
+			for (Path arquivo : arquivos) {
+				String nome = arquivo.getFileName().toString();
+				String numero = nome.substring(PREFIXO_SEGMENTO.length(), nome.length() - SUFIXO_SEGMENTO.length());
+				try {
+					if (Long.parseLong(numero) < primeiroVivo) {
+						Files.deleteIfExists(arquivo);
+					}
+				} catch (NumberFormatException e) {
+					// Não é um segmento desta fila.
+				}
+			}
+		}
+	}
+
+	private Path caminhoSegmento(long indice) {
+		return diretorio.resolve(String.format("%s%019d%s", PREFIXO_SEGMENTO, indice, SUFIXO_SEGMENTO));
+	}
+
+	private MappedByteBuffer mapearSegmento(long indice) {
+		try {
+			return mapear(caminhoSegmento(indice), (long) (mascaraSegmento + 1) * BYTES_POR_REGISTRO);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Mapeia o arquivo para leitura e escrita, criando-o com o tamanho dado se não
+	 * existir. O canal pode ser fechado logo em seguida: o mapeamento continua válido.
+	 */
+	private static MappedByteBuffer mapear(Path caminho, long tamanho) throws IOException {
+		try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+			buffer.order(ORDEM);
+			return buffer;
+		}
+	}
+
+}
@@ -13,5 +13,77 @@ public interface FilaIF<E> {
 	public boolean isEmpty();
 	
 	public boolean isFull();
+	
+	/**
+	 * Enfileira todos os itens do array, na ordem em que aparecem. A implementação
+	 * padrão enfileira um a um; implementações com capacidade limitada devem
+	 * sobrescrever este método para enfileirar tudo ou nada.
+	 * @param itens os itens a serem enfileirados.
+	 * @throws FilaCheiaException se não houver espaço para todos os itens.
+	 */
+	public default void enfileirarTodos(E[] itens) throws FilaCheiaException {
+		for (E item : itens) {
+			enfileirar(item);
+		}
+	}
+	
+	/**
+	 * Desenfileira até n elementos, copiando-os para o início de {@code destino}
+	 * na ordem da fila ({@code destino[0]} recebe a antiga cabeça). Não lança exceção
+	 * se a fila tiver menos que n elementos.
+	 * @param destino o array que recebe os elementos removidos.
+	 * @param n o número máximo de elementos a remover.
+	 * @return o número de elementos efetivamente removidos.
+	 * @throws IllegalArgumentException se n for negativo ou maior que o tamanho de {@code destino}.
+	 */
+	public default int desenfileirarAte(E[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		int removidos = 0;
+		try {
+			while (removidos < n && !isEmpty()) {
+				destino[removidos] = desenfileirar();
+				removidos++;
+			}
+		} catch (FilaVaziaException e) {
+			// Outra thread esvaziou a fila entre o isEmpty e o desenfileirar.
+		}
+		return removidos;
+	}
+	
+	/**
+	 * Tenta enfileirar o item sem lançar exceção quando a fila está cheia.
+	 * @param item o item a ser enfileirado.
+	 * @return {@code true} se o item foi enfileirado, {@code false} se a fila estava cheia.
+	 */
+	public default boolean tentarEnfileirar(E item) {
+		if (isFull()) {
+			return false;
+		}
+		try {
+			enfileirar(item);
+			return true;
+		} catch (FilaCheiaException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Tenta desenfileirar sem lançar exceção quando a fila está vazia. Em filas que
+	 * aceitam {@code null}, o retorno {@code null} é ambíguo; use {@link #isEmpty()}
+	 * antes se precisar distinguir os casos.
+	 * @return o elemento removido da cabeça, ou {@code null} se a fila estava vazia.
+	 */
+	public default E tentarDesenfileirar() {
+		if (isEmpty()) {
+			return null;
+		}
+		try {
+			return desenfileirar();
+		} catch (FilaVaziaException e) {
+			return null;
+		}
+	}
 
 }
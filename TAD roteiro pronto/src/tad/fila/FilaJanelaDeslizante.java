@@ -0,0 +1,362 @@
+package tad.fila;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Fila de inteiros que representa uma janela deslizante sobre uma sequência de
+ * medições e responde mínimo, máximo, soma e contagem da janela em O(1) amortizado,
+ * sem percorrer os elementos.
+ * <p>
+ * A janela pode ser limitada por contagem (no máximo N elementos: ao enfileirar além
+ * disso, o mais antigo é descartado), por tempo (só ficam os elementos enfileirados
+ * há menos que a duração dada) ou pelos dois. Os elementos expirados por tempo são
+ * descartados a cada operação, antes de responder.
+ * <p>
+ * Cada elemento recebe um número de sequência crescente e fica num array circular na
+ * posição dada pela sequência com máscara. Mínimo e máximo usam deques monótonos de
+ * números de sequência: o deque do mínimo guarda apenas elementos que ainda podem vir
+ * a ser o mínimo (valores crescentes da frente para o fundo), porque um elemento com
+ * valor maior ou igual a um posterior nunca mais será o mínimo; o do máximo é
+ * simétrico. Ao enfileirar, o fundo é podado; ao descartar o elemento mais antigo, ele
+ * sai da frente do deque se estiver lá. Cada elemento entra e sai de cada deque no
+ * máximo uma vez, daí o custo amortizado O(1). A soma é um acumulador {@code long}.
+ * <p>
+ * Os arrays crescem sob demanda. A fila não é segura para uso por várias threads.
+ */
+public class FilaJanelaDeslizante implements FilaIF<Integer> {
+
+	/** Valor de {@code tamanhoDaJanela} para janelas sem limite de contagem. */
+	public static final int SEM_LIMITE_DE_CONTAGEM = Integer.MAX_VALUE;
+	/** Valor de {@code duracao} para janelas sem limite de tempo. */
+	public static final long SEM_LIMITE_DE_TEMPO = Long.MAX_VALUE;
+
+	private static final int CAPACIDADE_INICIAL = 16;
+
+	private final int tamanhoDaJanela;
+	private final long duracaoNanos;       // SEM_LIMITE_DE_TEMPO desliga a expiração por tempo
+	private final LongSupplier relogio;
+
+	private int[] valores = new int[CAPACIDADE_INICIAL];
+	private long[] instantes = null;       // Só existe em janelas limitadas por tempo
+	private long primeiro = 0;             // Sequência do elemento mais antigo
+	private long proximo = 0;              // Sequência do próximo elemento
+	private long soma = 0;
+
+	private final DequeMonotono minimos = new DequeMonotono(true);
+	private final DequeMonotono maximos = new DequeMonotono(false);
+
+	/**
+	 * Constrói uma janela limitada por contagem, por tempo ou pelos dois.
+	 * @param tamanhoDaJanela o número máximo de elementos, ou {@link #SEM_LIMITE_DE_CONTAGEM}.
+	 * @param duracao por quanto tempo cada elemento fica na janela, ou {@link #SEM_LIMITE_DE_TEMPO}.
+	 * @param unidade a unidade da duração.
+	 * @param relogio a fonte de tempo, em nanossegundos.
+	 * @throws IllegalArgumentException se o tamanho ou a duração não forem positivos.
+	 */
+	public FilaJanelaDeslizante(int tamanhoDaJanela, long duracao, TimeUnit unidade, LongSupplier relogio) {
+		if (tamanhoDaJanela <= 0) {
+			throw new IllegalArgumentException("tamanho da janela inválido: " + tamanhoDaJanela);
+		}
+		if (duracao <= 0) {
+			throw new IllegalArgumentException("duração inválida: " + duracao);
+		}
+		this.tamanhoDaJanela = tamanhoDaJanela;
+		this.duracaoNanos = duracao == SEM_LIMITE_DE_TEMPO ? SEM_LIMITE_DE_TEMPO : unidade.toNanos(duracao);
+		this.relogio = relogio;
+		if (duracaoNanos != SEM_LIMITE_DE_TEMPO) {
+			instantes = new long[CAPACIDADE_INICIAL];
+		}
+	}
+
+	/**
+	 * Constrói uma janela limitada apenas por contagem.
+	 * @param tamanhoDaJanela o número máximo de elementos.
+	 */
+	public FilaJanelaDeslizante(int tamanhoDaJanela) {
+		this(tamanhoDaJanela, SEM_LIMITE_DE_TEMPO, TimeUnit.NANOSECONDS, System::nanoTime);
+	}
+
+	/**
+	 * Constrói uma janela limitada apenas por tempo, medido com {@link System#nanoTime()}.
+	 * @param duracao por quanto tempo cada elemento fica na janela.
+	 * @param unidade a unidade da duração.
+	 */
+	public FilaJanelaDeslizante(long duracao, TimeUnit unidade) {
+		this(SEM_LIMITE_DE_CONTAGEM, duracao, unidade, System::nanoTime);
+	}
+
+	/**
+	 * Enfileira o inteiro sem boxing. Descarta antes os elementos expirados por tempo e,
+	 * se a janela estiver no limite de contagem, o mais antigo.
+	 * @param item o valor a ser enfileirado.
+	 */
+	public void enfileirarInt(int item) {
+		long agora = expirarAte();
+		if (tamanho() == tamanhoDaJanela) {
+			descartarPrimeiro();
+		}
+		if (tamanho() == valores.length) {
+			crescer();
+		}
+		long sequencia = proximo++;
+		int posicao = (int) sequencia & (valores.length - 1);
+		valores[posicao] = item;
+		if (instantes != null) {
+			instantes[posicao] = agora;
+		}
+		soma += item;
+		minimos.inserir(sequencia, item);
+		maximos.inserir(sequencia, item);
+	}
+
+	/**
+	 * Desenfileira o elemento mais antigo da janela sem boxing.
+	 * @return o valor removido.
+	 * @throws FilaVaziaException se a janela estiver vazia.
+	 */
+	public int desenfileirarInt() throws FilaVaziaException {
+		expirar();
+		if (primeiro == proximo) {
+			throw new FilaVaziaException();
+		}
+		return descartarPrimeiro();
+	}
+
+	/**
+	 * Descarta os elementos expirados por tempo. As demais operações já fazem isso;
+	 * chamar diretamente só é útil para liberar a janela sem consultá-la.
+	 * @return o número de elementos descartados.
+	 */
+	public int expirar() {
+		long antes = primeiro;
+		expirarAte();
+		return (int) (primeiro - antes);
+	}
+
+	/**
+	 * Retorna o menor elemento da janela, em O(1).
+	 * @return o menor elemento.
+	 * @throws FilaVaziaException se a janela estiver vazia.
+	 */
+	public int minimo() throws FilaVaziaException {
+		expirar();
+		if (primeiro == proximo) {
+			throw new FilaVaziaException();
+		}
+		return valorDe(minimos.frente());
+	}
+
+	/**
+	 * Retorna o maior elemento da janela, em O(1).
+	 * @return o maior elemento.
+	 * @throws FilaVaziaException se a janela estiver vazia.
+	 */
+	public int maximo() throws FilaVaziaException {
+		expirar();
+		if (primeiro == proximo) {
+			throw new FilaVaziaException();
+		}
+		return valorDe(maximos.frente());
+	}
+
+	/**
+	 * Retorna a soma dos elementos da janela, em O(1). A soma é acumulada em
+	 * {@code long}, então não transborda para menos de 2^32 elementos.
+	 * @return a soma dos elementos, ou 0 se a janela estiver vazia.
+	 */
+	public long soma() {
+		expirar();
+		return soma;
+	}
+
+	/**
+	 * Retorna o número de elementos da janela, em O(1).
+	 * @return o número de elementos.
+	 */
+	public int contagem() {
+		expirar();
+		return tamanho();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Nunca lança {@link FilaCheiaException}: no limite de contagem, o mais antigo é descartado.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void enfileirar(Integer item) {
+		if (item == null) {
+			throw new IllegalArgumentException("FilaJanelaDeslizante não aceita elementos nulos.");
+		}
+		enfileirarInt(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws FilaVaziaException se a janela estiver vazia.
+	 */
+	@Override
+	public Integer desenfileirar() throws FilaVaziaException {
+		return desenfileirarInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tentarEnfileirar(Integer item) {
+		enfileirar(item);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer tentarDesenfileirar() {
+		expirar();
+		return primeiro == proximo ? null : descartarPrimeiro();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer verificarCauda() {
+		expirar();
+		return primeiro == proximo ? null : valorDe(proximo - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer verificarCabeca() {
+		expirar();
+		return primeiro == proximo ? null : valorDe(primeiro);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		expirar();
+		return primeiro == proximo;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Sempre retorna {@code false}, porque enfileirar numa janela no limite descarta o
+	 * elemento mais antigo em vez de falhar.
+	 */
+	@Override
+	public boolean isFull() {
+		return false;
+	}
+
+	private int tamanho() {
+		return (int) (proximo - primeiro);
+	}
+
+	private int valorDe(long sequencia) {
+		return valores[(int) sequencia & (valores.length - 1)];
+	}
+
+	/**
+	 * Descarta os elementos enfileirados há pelo menos a duração da janela e retorna o
+	 * instante lido do relógio (0 em janelas sem limite de tempo).
+	 */
+	private long expirarAte() {
+		if (instantes == null) {
+			return 0;
+		}
+		long agora = relogio.getAsLong();
+		while (primeiro != proximo
+				&& agora - instantes[(int) primeiro & (instantes.length - 1)] >= duracaoNanos) {
+			descartarPrimeiro();
+		}
+		return agora;
+	}
+
+	private int descartarPrimeiro() {
+		long sequencia = primeiro++;
+		int valor = valorDe(sequencia);
+		soma -= valor;
+		minimos.descartar(sequencia);
+		maximos.descartar(sequencia);
+		return valor;
+	}
+
+	/**
+	 * Dobra o array circular mantendo cada elemento na posição dada pela sua sequência.
+	 */
+	private void crescer() {
+		int[] novosValores = new int[valores.length << 1];
+		long[] novosInstantes = instantes == null ? null : new long[novosValores.length];
+		for (long s = primeiro; s < proximo; s++) {
+			int antiga = (int) s & (valores.length - 1);
+			int nova = (int) s & (novosValores.length - 1);
+			novosValores[nova] = valores[antiga];
+			if (novosInstantes != null) {
+				novosInstantes[nova] = instantes[antiga];
+			}
+		}
+		valores = novosValores;
+		instantes = novosInstantes;
+	}
+
+	/**
+	 * Deque de números de sequência cujos valores são monótonos da frente para o fundo:
+	 * crescentes no deque do mínimo e decrescentes no do máximo. A frente é sempre o
+	 * mínimo (ou máximo) da janela.
+	 */
+	private final class DequeMonotono {
+		private final boolean doMinimo;
+		private long[] sequencias = new long[CAPACIDADE_INICIAL];
+		private int inicio = 0;
+		private int quantidade = 0;
+
+		DequeMonotono(boolean doMinimo) {
+			this.doMinimo = doMinimo;
+		}
+
+		void inserir(long sequencia, int valor) {
+			// Poda o fundo: elementos que o novo valor domina nunca mais serão a resposta.
+			while (quantidade > 0) {
+				int doFundo = valorDe(sequencias[(inicio + quantidade - 1) & (sequencias.length - 1)]);
+				if (doMinimo ? doFundo < valor : doFundo > valor) {
+					break;
+				}
+				quantidade--;
+			}
+			if (quantidade == sequencias.length) {
+				crescer();
+			}
+			sequencias[(inicio + quantidade) & (sequencias.length - 1)] = sequencia;
+			quantidade++;
+		}
+
+		void descartar(long sequencia) {
+			if (quantidade > 0 && sequencias[inicio] == sequencia) {
+				inicio = (inicio + 1) & (sequencias.length - 1);
+				quantidade--;
+			}
+		}
+
+		long frente() {
+			return sequencias[inicio];
+		}
+
+		private void crescer() {
+			long[] novas = new long[sequencias.length << 1];
+			for (int i = 0; i < quantidade; i++) {
+				novas[i] = sequencias[(inicio + i) & (sequencias.length - 1)];
+			}
+			sequencias = novas;
+			inicio = 0;
+		}
+	}
+
+}
@@ -0,0 +1,238 @@
+package tad.fila;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fila limitada sem bloqueio para vários produtores e vários consumidores
+ * (multi-producer/multi-consumer), sobre um array circular em que cada posição tem
+ * um número de sequência.
+ * <p>
+ * A sequência de uma posição diz de quem é a vez: quando vale {@code p}, a posição
+ * está livre para o produtor que obtiver o cursor de inserção {@code p}; quando vale
+ * {@code p + 1}, guarda o elemento do cursor {@code p} e está pronta para o consumidor
+ * que obtiver o cursor de remoção {@code p}. Produtores só disputam (com CAS) o cursor
+ * de inserção e consumidores só o de remoção; depois do CAS cada um escreve ou lê a
+ * sua posição sem interferência e publica a nova sequência com semântica release.
+ * <p>
+ * {@link #isEmpty()}, {@link #isFull()}, {@link #verificarCabeca()} e
+ * {@link #verificarCauda()} não bloqueiam e retornam instantâneos aproximados: o
+ * resultado pode estar desatualizado assim que o método retorna.
+ */
+public class FilaMpmc implements FilaIF<Integer> {
+
+	private static final VarHandle SEQUENCIA = MethodHandles.arrayElementVarHandle(long[].class);
+
+	private final Integer[] meusDados;
+	private final long[] sequencias;
+	private final int mascara;
+	private final ContadorPreenchido cursorInsercao = new ContadorPreenchido(0);
+	private final ContadorPreenchido cursorRemocao = new ContadorPreenchido(0);
+
+	/**
+	 * Constrói uma fila com pelo menos a capacidade especificada, arredondada para
+	 * cima até a próxima potência de dois (no mínimo 2).
+	 * @param capacidadeMinima a capacidade mínima desejada.
+	 * @throws IllegalArgumentException se a capacidade não for positiva ou passar de 2^30.
+	 */
+	public FilaMpmc(int capacidadeMinima) {
+		if (capacidadeMinima <= 0 || capacidadeMinima > (1 << 30)) {
+			throw new IllegalArgumentException("capacidade inválida: " + capacidadeMinima);
+		}
+		// Com uma única posição, "livre para p + 1" e "ocupada por p" teriam a mesma sequência.
+		int capacidade = capacidadeMinima <= 2 ? 2 : Integer.highestOneBit(capacidadeMinima - 1) << 1;
+		meusDados = new Integer[capacidade];
+		sequencias = new long[capacidade];
+		for (int i = 0; i < capacidade; i++) {
+			sequencias[i] = i;
+		}
+		mascara = capacidade - 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws FilaCheiaException se a fila estiver cheia.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void enfileirar(Integer item) throws FilaCheiaException {
+		if (!tentarEnfileirar(item)) {
+			throw new FilaCheiaException();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public boolean tentarEnfileirar(Integer item) {
+		if (item == null) {
+			throw new IllegalArgumentException("FilaMpmc não aceita elementos nulos.");
+		}
+		long posicao = cursorInsercao.lerAcquire();
+		while (true) {
+			int indice = (int) posicao & mascara;
+			long sequencia = (long) SEQUENCIA.getAcquire(sequencias, indice);
+			long diferenca = sequencia - posicao;
+			if (diferenca == 0) {
+				if (cursorInsercao.compararETrocar(posicao, posicao + 1)) {
+					meusDados[indice] = item;
+					SEQUENCIA.setRelease(sequencias, indice, posicao + 1);
+					return true;
+				}
+				posicao = cursorInsercao.lerAcquire();
+			} else if (diferenca < 0) {
+				// A posição ainda guarda o elemento de uma volta anterior: fila cheia.
+				return false;
+			} else {
+				// Outro produtor já avançou o cursor.
+				posicao = cursorInsercao.lerAcquire();
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Reserva as posições de todos os itens com um único CAS no cursor de inserção, e só
+	 * se os consumidores já tiverem reivindicado todas elas; se não couberem todos,
+	 * nenhum é enfileirado. Depois da reserva, cada posição é escrita e publicada em
+	 * ordem, esperando o consumidor da volta anterior terminar de liberá-la.
+	 * @throws FilaCheiaException se não houver espaço para todos os itens.
+	 * @throws IllegalArgumentException se algum item for {@code null}.
+	 */
+	@Override
+	public void enfileirarTodos(Integer[] itens) throws FilaCheiaException {
+		for (Integer item : itens) {
+			if (item == null) {
+				throw new IllegalArgumentException("FilaMpmc não aceita elementos nulos.");
+			}
+		}
+		int quantidade = itens.length;
+		if (quantidade == 0) {
+			return;
+		}
+		long posicao;
+		do {
+			posicao = cursorInsercao.lerAcquire();
+			if (posicao + quantidade - cursorRemocao.lerAcquire() > mascara + 1) {
+				throw new FilaCheiaException();
+			}
+		} while (!cursorInsercao.compararETrocar(posicao, posicao + quantidade));
+		for (int i = 0; i < quantidade; i++) {
+			long minha = posicao + i;
+			int indice = (int) minha & mascara;
+			// O consumidor desta posição na volta anterior já passou do cursor de remoção;
+			// falta no máximo ele publicar a liberação.
+			while ((long) SEQUENCIA.getAcquire(sequencias, indice) != minha) {
+				Thread.onSpinWait();
+			}
+			meusDados[indice] = itens[i];
+			SEQUENCIA.setRelease(sequencias, indice, minha + 1);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	@Override
+	public Integer desenfileirar() throws FilaVaziaException {
+		Integer item = tentarDesenfileirar();
+		if (item == null) {
+			throw new FilaVaziaException();
+		}
+		return item;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila não aceita {@code null}, então o retorno {@code null} indica sempre fila vazia.
+	 */
+	@Override
+	public Integer tentarDesenfileirar() {
+		long posicao = cursorRemocao.lerAcquire();
+		while (true) {
+			int indice = (int) posicao & mascara;
+			long sequencia = (long) SEQUENCIA.getAcquire(sequencias, indice);
+			long diferenca = sequencia - (posicao + 1);
+			if (diferenca == 0) {
+				if (cursorRemocao.compararETrocar(posicao, posicao + 1)) {
+					Integer item = meusDados[indice];
+					meusDados[indice] = null;
+					// Libera a posição para o produtor da próxima volta.
+					SEQUENCIA.setRelease(sequencias, indice, posicao + mascara + 1);
+					return item;
+				}
+				posicao = cursorRemocao.lerAcquire();
+			} else if (diferenca < 0) {
+				// Nenhum produtor publicou esta posição ainda: fila vazia.
+				return null;
+			} else {
+				posicao = cursorRemocao.lerAcquire();
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Instantâneo aproximado; não bloqueia.
+	 * @return o elemento na cabeça no momento da leitura, ou {@code null} se a fila
+	 *         parecia vazia ou a cabeça estava sendo removida.
+	 */
+	@Override
+	public Integer verificarCabeca() {
+		long posicao = cursorRemocao.lerAcquire();
+		int indice = (int) posicao & mascara;
+		if ((long) SEQUENCIA.getAcquire(sequencias, indice) != posicao + 1) {
+			return null;
+		}
+		return meusDados[indice];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Instantâneo aproximado; não bloqueia.
+	 * @return o último elemento publicado no momento da leitura, ou {@code null} se a
+	 *         fila parecia vazia ou a cauda ainda estava sendo escrita.
+	 */
+	@Override
+	public Integer verificarCauda() {
+		long posicao = cursorInsercao.lerAcquire() - 1;
+		if (posicao < cursorRemocao.lerAcquire()) {
+			return null;
+		}
+		int indice = (int) posicao & mascara;
+		if ((long) SEQUENCIA.getAcquire(sequencias, indice) != posicao + 1) {
+			return null;
+		}
+		return meusDados[indice];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Instantâneo aproximado; não bloqueia.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return cursorRemocao.lerAcquire() >= cursorInsercao.lerAcquire();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Instantâneo aproximado; não bloqueia.
+	 */
+	@Override
+	public boolean isFull() {
+		return cursorInsercao.lerAcquire() - cursorRemocao.lerAcquire() > mascara;
+	}
+
+	/**
+	 * Retorna a capacidade da fila, sempre uma potência de dois.
+	 * @return a capacidade.
+	 */
+	public int capacidade() {
+		return mascara + 1;
+	}
+
+}
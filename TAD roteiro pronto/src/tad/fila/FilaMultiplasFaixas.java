@@ -0,0 +1,368 @@
+package tad.fila;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fila FIFO relaxada de inteiros dividida em várias faixas (uma "multifila"). Cada
+ * faixa é uma fila circular pequena com trava própria, e cada elemento leva o instante
+ * em que entrou. Como não existe um par único de cabeça e cauda disputado por todas as
+ * threads, a vazão cresce com o número de núcleos enquanto houver mais faixas que
+ * threads ativas.
+ * <ul>
+ * <li>Inserção com afinidade: cada thread insere sempre na mesma faixa durante
+ * {@code aderencia} operações seguidas e depois sorteia outra; se a trava da faixa
+ * estiver ocupada, sorteia outra na hora em vez de esperar.</li>
+ * <li>Remoção pelo poder de duas escolhas: sorteia duas faixas, compara o instante
+ * das suas cabeças sem travar e remove da que tem o elemento mais antigo.</li>
+ * <li>Roubo: se as duas faixas sorteadas estiverem vazias, percorre as demais a partir
+ * de uma posição aleatória e remove da primeira que tiver elementos.</li>
+ * </ul>
+ * <b>Erro de posto.</b> A fila não garante FIFO estrita: o elemento removido pode não
+ * ser o mais antigo. O erro de posto (quantos elementos mais antigos continuavam na
+ * fila) é limitado em esperança: com N faixas e inserções espalhadas, a análise das
+ * multifilas com duas escolhas dá erro esperado O(N) e O(N log N) com alta
+ * probabilidade. A afinidade agrupa até {@code aderencia} elementos consecutivos de
+ * uma thread na mesma faixa e multiplica esse erro por um fator de até
+ * {@code aderencia}; com {@code aderencia} igual a 1 valem os limites originais. Com
+ * uma única faixa a fila é FIFO estrita. A ordem de inserção de uma mesma thread é
+ * preservada apenas dentro de uma faixa.
+ * <p>
+ * {@link #verificarCabeca()}, {@link #verificarCauda()}, {@link #isEmpty()} e
+ * {@link #tamanho()} percorrem as faixas e são instantâneos aproximados sob
+ * concorrência. A fila não tem limite de tamanho e não aceita {@code null}.
+ */
+public class FilaMultiplasFaixas implements FilaIF<Integer> {
+
+	private static final long VAZIA = Long.MAX_VALUE;
+	private static final int CAPACIDADE_INICIAL_FAIXA = 16;
+	private static final int ADERENCIA_PADRAO = 16;
+
+	private final Faixa[] faixas;
+	private final int aderencia;
+	private final ThreadLocal<Afinidade> afinidade = ThreadLocal.withInitial(Afinidade::new);
+
+	/**
+	 * Constrói a fila com o número de faixas e a aderência dados.
+	 * @param numeroDeFaixas o número de faixas; em geral o dobro do número de threads.
+	 * @param aderencia quantas inserções seguidas uma thread faz na mesma faixa.
+	 * @throws IllegalArgumentException se algum dos parâmetros não for positivo.
+	 */
+	public FilaMultiplasFaixas(int numeroDeFaixas, int aderencia) {
+		if (numeroDeFaixas <= 0) {
+			throw new IllegalArgumentException("número de faixas inválido: " + numeroDeFaixas);
+		}
+		if (aderencia <= 0) {
+			throw new IllegalArgumentException("aderência inválida: " + aderencia);
+		}
+		this.faixas = new Faixa[numeroDeFaixas];
+		for (int i = 0; i < numeroDeFaixas; i++) {
+			faixas[i] = new Faixa();
+		}
+		this.aderencia = aderencia;
+	}
+
+	/**
+	 * Constrói a fila com o número de faixas dado e aderência 16.
+	 * @param numeroDeFaixas o número de faixas.
+	 */
+	public FilaMultiplasFaixas(int numeroDeFaixas) {
+		this(numeroDeFaixas, ADERENCIA_PADRAO);
+	}
+
+	/**
+	 * Constrói a fila com duas faixas por processador disponível e aderência 16.
+	 */
+	public FilaMultiplasFaixas() {
+		this(2 * Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila não tem limite, então nunca lança {@link FilaCheiaException}.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void enfileirar(Integer item) {
+		if (item == null) {
+			throw new IllegalArgumentException("FilaMultiplasFaixas não aceita elementos nulos.");
+		}
+		enfileirarInt(item);
+	}
+
+	/**
+	 * Enfileira o inteiro na faixa da thread atual, sem criar um {@link Integer}.
+	 * @param item o valor a ser enfileirado.
+	 */
+	public void enfileirarInt(int item) {
+		Faixa faixa = travarFaixaDeInsercao();
+		try {
+			// O instante é tomado com a trava, para que cada faixa fique em ordem.
+			faixa.inserir(item, System.nanoTime());
+		} finally {
+			faixa.trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Remove um dos elementos mais antigos, dentro do erro de posto documentado na classe.
+	 * @throws FilaVaziaException se todas as faixas estiverem vazias.
+	 */
+	@Override
+	public Integer desenfileirar() throws FilaVaziaException {
+		return desenfileirarInt();
+	}
+
+	/**
+	 * Desenfileira um dos elementos mais antigos como {@code int}.
+	 * @return o valor removido.
+	 * @throws FilaVaziaException se todas as faixas estiverem vazias.
+	 */
+	public int desenfileirarInt() throws FilaVaziaException {
+		Faixa faixa = travarFaixaNaoVazia();
+		if (faixa == null) {
+			throw new FilaVaziaException();
+		}
+		try {
+			return faixa.remover();
+		} finally {
+			faixa.trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tentarEnfileirar(Integer item) {
+		enfileirar(item);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer tentarDesenfileirar() {
+		Faixa faixa = travarFaixaNaoVazia();
+		if (faixa == null) {
+			return null;
+		}
+		try {
+			return faixa.remover();
+		} finally {
+			faixa.trava.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Retorna o elemento mais recente entre as caudas das faixas.
+	 */
+	@Override
+	public Integer verificarCauda() {
+		Integer cauda = null;
+		long carimboCauda = Long.MIN_VALUE;
+		for (Faixa faixa : faixas) {
+			faixa.trava.lock();
+			try {
+				if (faixa.tamanho > 0 && faixa.carimboDaCauda() >= carimboCauda) {
+					carimboCauda = faixa.carimboDaCauda();
+					cauda = faixa.itemDaCauda();
+				}
+			} finally {
+				faixa.trava.unlock();
+			}
+		}
+		return cauda;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Retorna o elemento mais antigo entre as cabeças das faixas, que não é
+	 * necessariamente o próximo a ser desenfileirado.
+	 */
+	@Override
+	public Integer verificarCabeca() {
+		Integer cabeca = null;
+		long carimboCabeca = VAZIA;
+		for (Faixa faixa : faixas) {
+			faixa.trava.lock();
+			try {
+				if (faixa.tamanho > 0 && faixa.carimboCabeca < carimboCabeca) {
+					carimboCabeca = faixa.carimboCabeca;
+					cabeca = faixa.itens[faixa.cabeca];
+				}
+			} finally {
+				faixa.trava.unlock();
+			}
+		}
+		return cabeca;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		for (Faixa faixa : faixas) {
+			if (faixa.tamanho > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila não tem limite de tamanho, então sempre retorna {@code false}.
+	 */
+	@Override
+	public boolean isFull() {
+		return false;
+	}
+
+	/**
+	 * Instantâneo aproximado do número de elementos em todas as faixas.
+	 * @return o número de elementos.
+	 */
+	public int tamanho() {
+		int soma = 0;
+		for (Faixa faixa : faixas) {
+			soma += faixa.tamanho;
+		}
+		return soma;
+	}
+
+	/**
+	 * Retorna o número de faixas.
+	 * @return o número de faixas.
+	 */
+	public int numeroDeFaixas() {
+		return faixas.length;
+	}
+
+	/**
+	 * Trava a faixa de inserção da thread atual. Troca de faixa quando a aderência se
+	 * esgota ou quando a trava está ocupada; depois de N tentativas sem sucesso, espera
+	 * pela trava da faixa atual.
+	 */
+	private Faixa travarFaixaDeInsercao() {
+		Afinidade minha = afinidade.get();
+		ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+		if (minha.faixa == null || --minha.usosRestantes <= 0) {
+			minha.faixa = faixas[aleatorio.nextInt(faixas.length)];
+			minha.usosRestantes = aderencia;
+		}
+		for (int tentativa = 0; tentativa < faixas.length; tentativa++) {
+			if (minha.faixa.trava.tryLock()) {
+				return minha.faixa;
+			}
+			minha.faixa = faixas[aleatorio.nextInt(faixas.length)];
+			minha.usosRestantes = aderencia;
+		}
+		minha.faixa.trava.lock();
+		return minha.faixa;
+	}
+
+	/**
+	 * Escolhe entre duas faixas sorteadas a de cabeça mais antiga e a trava; se as duas
+	 * estiverem vazias, rouba da primeira faixa não vazia. Retorna a faixa travada e com
+	 * pelo menos um elemento, ou {@code null} se todas estavam vazias.
+	 */
+	private Faixa travarFaixaNaoVazia() {
+		ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+		int n = faixas.length;
+		for (int tentativa = 0; tentativa < n; tentativa++) {
+			Faixa a = faixas[aleatorio.nextInt(n)];
+			Faixa b = faixas[aleatorio.nextInt(n)];
+			Faixa escolhida = b.carimboCabeca < a.carimboCabeca ? b : a;
+			if (escolhida.carimboCabeca == VAZIA) {
+				break;
+			}
+			if (escolhida.trava.tryLock()) {
+				if (escolhida.tamanho > 0) {
+					return escolhida;
+				}
+				escolhida.trava.unlock();
+			}
+		}
+		int inicio = aleatorio.nextInt(n);
+		for (int i = 0; i < n; i++) {
+			Faixa faixa = faixas[(inicio + i) % n];
+			if (faixa.tamanho > 0) {
+				faixa.trava.lock();
+				if (faixa.tamanho > 0) {
+					return faixa;
+				}
+				faixa.trava.unlock();
+			}
+		}
+		return null;
+	}
+
+	/** Faixa de inserção atual de uma thread e quantas inserções ainda faz nela. */
+	private static final class Afinidade {
+		Faixa faixa = null;
+		int usosRestantes = 0;
+	}
+
+	/**
+	 * Fila circular de inteiros com o instante de entrada de cada um. Os campos só são
+	 * alterados com a trava; {@code tamanho} e {@code carimboCabeca} são voláteis para a
+	 * amostragem sem trava.
+	 */
+	private static final class Faixa {
+		final ReentrantLock trava = new ReentrantLock();
+		int[] itens = new int[CAPACIDADE_INICIAL_FAIXA];
+		long[] carimbos = new long[CAPACIDADE_INICIAL_FAIXA];
+		int cabeca = 0;
+		volatile int tamanho = 0;
+		volatile long carimboCabeca = VAZIA;
+
+		void inserir(int item, long carimbo) {
+			if (tamanho == itens.length) {
+				crescer();
+			}
+			int posicao = (cabeca + tamanho) & (itens.length - 1);
+			itens[posicao] = item;
+			carimbos[posicao] = carimbo;
+			if (tamanho == 0) {
+				carimboCabeca = carimbo;
+			}
+			tamanho = tamanho + 1;
+		}
+
+		int remover() {
+			int item = itens[cabeca];
+			cabeca = (cabeca + 1) & (itens.length - 1);
+			int restantes = tamanho - 1;
+			tamanho = restantes;
+			carimboCabeca = restantes == 0 ? VAZIA : carimbos[cabeca];
+			return item;
+		}
+
+		int itemDaCauda() {
+			return itens[(cabeca + tamanho - 1) & (itens.length - 1)];
+		}
+
+		long carimboDaCauda() {
+			return carimbos[(cabeca + tamanho - 1) & (carimbos.length - 1)];
+		}
+
+		private void crescer() {
+			int[] novosItens = new int[itens.length << 1];
+			long[] novosCarimbos = new long[carimbos.length << 1];
+			for (int i = 0; i < tamanho; i++) {
+				int posicao = (cabeca + i) & (itens.length - 1);
+				novosItens[i] = itens[posicao];
+				novosCarimbos[i] = carimbos[posicao];
+			}
+			itens = novosItens;
+			carimbos = novosCarimbos;
+			cabeca = 0;
+		}
+	}
+
+}
@@ -0,0 +1,392 @@
+package tad.fila;
+
+/**
+ * Fila de prioridade de inteiros endereçável, sobre um heap de pareamento (pairing
+ * heap) mínimo. Cada inserção devolve uma {@link Alca} para o elemento, que permite
+ * diminuir a sua chave sem procurá-lo na fila, como no algoritmo de Dijkstra.
+ * <p>
+ * O heap é uma árvore em que cada nó guarda o primeiro filho e o próximo irmão.
+ * Inserir, {@link #diminuirChave(Alca, int)} e {@link #fundir(FilaPareamento)} apenas
+ * ligam duas árvores, comparando as raízes, em O(1). Remover o mínimo junta os filhos
+ * da raiz em duas passadas (pares da esquerda para a direita, depois acumulando da
+ * direita para a esquerda), em O(log n) amortizado.
+ * <p>
+ * Os nós inseridos por {@link #enfileirar(Integer)}, que nunca chegam a quem chamou,
+ * voltam para um pequeno estoque ao serem removidos e são reaproveitados nas próximas
+ * inserções. Os nós devolvidos como alça por {@link #inserir(int, int)} nunca são
+ * reaproveitados: uma alça antiga não pode passar a representar outro elemento, e
+ * {@link Alca#isValida()} continua falso depois da remoção.
+ * <p>
+ * Cada alça guarda a fila dona, e {@link #diminuirChave(Alca, int)} rejeita alças de
+ * outras filas. Para que {@link #fundir(FilaPareamento)} continue O(1), a posse não é
+ * atualizada nó a nó: a identidade da fila absorvida passa a apontar para a da fila
+ * que a absorveu, e a dona de uma alça é encontrada seguindo esses apontamentos, com
+ * compressão de caminho.
+ * <p>
+ * Cada elemento pode levar um rótulo inteiro (por exemplo, o vértice de um grafo) além
+ * da chave. {@link #verificarCabeca()} retorna a menor chave e {@link #verificarCauda()}
+ * a chave do elemento inserido mais recentemente, enquanto ele estiver na fila. A fila
+ * não tem limite de capacidade.
+ */
+public class FilaPareamento implements FilaIF<Integer> {
+
+	private static final int LIMITE_ESTOQUE = 1024;
+
+	/**
+	 * Identidade de uma fila para verificar a posse das alças. Depois de uma fusão, a
+	 * identidade da fila absorvida aponta para a da fila que a absorveu.
+	 */
+	private static final class Identidade {
+		private Identidade destino; // null enquanto a identidade for a atual de alguma fila
+	}
+
+	/**
+	 * Alça de um elemento da fila, que também é o nó do heap.
+	 */
+	public static final class Alca {
+		private int chave;
+		private int rotulo;
+		private boolean valida;
+		private boolean exposta;   // Devolvida a quem chamou; nunca volta para o estoque
+		private Identidade dona;   // Identidade da fila na inserção; null depois da remoção
+		private Alca filho;    // Primeiro filho
+		private Alca irmao;    // Próximo irmão; no estoque, o próximo nó livre
+		private Alca anterior; // Irmão anterior, ou o pai se este for o primeiro filho
+
+		private Alca() {
+		}
+
+		/**
+		 * Retorna a chave atual do elemento.
+		 * @return a chave.
+		 */
+		public int chave() {
+			return chave;
+		}
+
+		/**
+		 * Retorna o rótulo do elemento.
+		 * @return o rótulo.
+		 */
+		public int rotulo() {
+			return rotulo;
+		}
+
+		/**
+		 * Indica se o elemento desta alça ainda está em uma fila. Depois que o elemento
+		 * sai da fila, a alça nunca volta a ser válida.
+		 * @return {@code true} se a alça ainda é válida.
+		 */
+		public boolean isValida() {
+			return valida;
+		}
+	}
+
+	private Identidade identidade = new Identidade();
+	private Alca raiz = null;
+	private int tamanho = 0;
+	private Alca ultimoInserido = null;
+	private Alca estoque = null;
+	private int tamanhoEstoque = 0;
+
+	/**
+	 * Enfileira um elemento com a chave e o rótulo dados, em O(1).
+	 * @param chave a prioridade do elemento; a menor sai primeiro.
+	 * @param rotulo um valor associado ao elemento.
+	 * @return a alça do elemento, válida até ele sair da fila.
+	 */
+	public Alca inserir(int chave, int rotulo) {
+		Alca nodo = new Alca();
+		nodo.exposta = true;
+		ligarNovo(nodo, chave, rotulo);
+		return nodo;
+	}
+
+	private void ligarNovo(Alca nodo, int chave, int rotulo) {
+		nodo.chave = chave;
+		nodo.rotulo = rotulo;
+		nodo.valida = true;
+		nodo.dona = identidade;
+		raiz = raiz == null ? nodo : ligar(raiz, nodo);
+		tamanho++;
+		ultimoInserido = nodo;
+	}
+
+	/**
+	 * Indica se a alça é de um elemento que está nesta fila, inserido nela ou numa fila
+	 * fundida a ela.
+	 * @param alca a alça a verificar.
+	 * @return {@code true} se o elemento da alça está nesta fila.
+	 */
+	public boolean contem(Alca alca) {
+		return alca.valida && resolver(alca.dona) == identidade;
+	}
+
+	/**
+	 * Segue os apontamentos deixados pelas fusões até a identidade atual, encurtando o
+	 * caminho para as próximas consultas.
+	 */
+	private static Identidade resolver(Identidade inicial) {
+		Identidade atual = inicial;
+		while (atual.destino != null) {
+			atual = atual.destino;
+		}
+		Identidade passo = inicial;
+		while (passo != atual) {
+			Identidade proximo = passo.destino;
+			passo.destino = atual;
+			passo = proximo;
+		}
+		return atual;
+	}
+
+	/**
+	 * Diminui a chave de um elemento da fila, em O(1) amortizado: o nó é separado do
+	 * pai, com a sua subárvore, e ligado de novo à raiz.
+	 * @param alca a alça do elemento, obtida desta fila ou de uma fila fundida a ela.
+	 * @param novaChave a nova chave, que não pode ser maior que a atual.
+	 * @throws IllegalArgumentException se a alça não for mais válida, se for de outra
+	 *                                  fila ou se a nova chave for maior que a atual.
+	 */
+	public void diminuirChave(Alca alca, int novaChave) {
+		if (!alca.valida) {
+			throw new IllegalArgumentException("a alça não pertence mais a nenhuma fila.");
+		}
+		if (resolver(alca.dona) != identidade) {
+			throw new IllegalArgumentException("a alça pertence a outra fila.");
+		}
+		if (novaChave > alca.chave) {
+			throw new IllegalArgumentException("a nova chave " + novaChave + " é maior que a atual " + alca.chave);
+		}
+		alca.chave = novaChave;
+		if (alca == raiz) {
+			return;
+		}
+		// Separa o nó da lista de irmãos e do pai.
+		if (alca.anterior.filho == alca) {
+			alca.anterior.filho = alca.irmao;
+		} else {
+			alca.anterior.irmao = alca.irmao;
+		}
+		if (alca.irmao != null) {
+			alca.irmao.anterior = alca.anterior;
+		}
+		alca.irmao = null;
+		alca.anterior = null;
+		raiz = ligar(raiz, alca);
+	}
+
+	/**
+	 * Move todos os elementos de {@code outra} para esta fila, em O(1). As alças dos
+	 * elementos movidos continuam válidas e passam a ser usadas com esta fila;
+	 * {@code outra} fica vazia.
+	 * @param outra a fila a ser fundida.
+	 * @throws IllegalArgumentException se {@code outra} for esta fila.
+	 */
+	public void fundir(FilaPareamento outra) {
+		if (outra == this) {
+			throw new IllegalArgumentException("uma fila não pode ser fundida com ela mesma.");
+		}
+		if (outra.raiz == null) {
+			return;
+		}
+		raiz = raiz == null ? outra.raiz : ligar(raiz, outra.raiz);
+		tamanho += outra.tamanho;
+		if (ultimoInserido == null) {
+			ultimoInserido = outra.ultimoInserido;
+		}
+		outra.raiz = null;
+		outra.tamanho = 0;
+		outra.ultimoInserido = null;
+		// As alças movidas passam a pertencer a esta fila; a outra recomeça com uma nova identidade.
+		outra.identidade.destino = identidade;
+		outra.identidade = new Identidade();
+	}
+
+	/**
+	 * Retorna o rótulo do elemento de menor chave, sem removê-lo.
+	 * @return o rótulo do mínimo.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	public int rotuloDoMinimo() throws FilaVaziaException {
+		if (raiz == null) {
+			throw new FilaVaziaException();
+		}
+		return raiz.rotulo;
+	}
+
+	/**
+	 * Remove o elemento de menor chave e retorna a chave, sem boxing, em O(log n) amortizado.
+	 * @return a menor chave.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	public int desenfileirarInt() throws FilaVaziaException {
+		if (raiz == null) {
+			throw new FilaVaziaException();
+		}
+		Alca minimo = raiz;
+		int chave = minimo.chave;
+		raiz = combinarFilhos(minimo.filho);
+		tamanho--;
+		devolverNodo(minimo);
+		return chave;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * O item é a chave do elemento, enfileirado com rótulo 0.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void enfileirar(Integer item) {
+		if (item == null) {
+			throw new IllegalArgumentException("FilaPareamento não aceita elementos nulos.");
+		}
+		ligarNovo(obterNodo(), item, 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Remove o elemento de menor chave e retorna a chave.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	@Override
+	public Integer desenfileirar() throws FilaVaziaException {
+		return desenfileirarInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return a chave do elemento inserido mais recentemente, ou {@code null} se a fila
+	 *         estiver vazia ou se esse elemento já tiver sido removido.
+	 */
+	@Override
+	public Integer verificarCauda() {
+		return ultimoInserido == null ? null : ultimoInserido.chave;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return a menor chave, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public Integer verificarCabeca() {
+		return raiz == null ? null : raiz.chave;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return raiz == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila não tem limite de capacidade, então sempre retorna {@code false}.
+	 */
+	@Override
+	public boolean isFull() {
+		return false;
+	}
+
+	/**
+	 * Retorna o número de elementos na fila.
+	 * @return o número de elementos.
+	 */
+	public int tamanho() {
+		return tamanho;
+	}
+
+	/**
+	 * Liga duas raízes: a de chave maior vira o primeiro filho da outra.
+	 * @return a raiz resultante.
+	 */
+	private static Alca ligar(Alca a, Alca b) {
+		if (b.chave < a.chave) {
+			Alca troca = a;
+			a = b;
+			b = troca;
+		}
+		b.anterior = a;
+		b.irmao = a.filho;
+		if (a.filho != null) {
+			a.filho.anterior = b;
+		}
+		a.filho = b;
+		return a;
+	}
+
+	/**
+	 * Junta a lista de irmãos que começa em {@code primeiro} numa única árvore, em
+	 * duas passadas. A primeira liga pares da esquerda para a direita e empilha os
+	 * resultados (reaproveitando o campo {@code irmao}); a segunda desempilha, ou seja,
+	 * percorre da direita para a esquerda, ligando cada árvore ao acumulado.
+	 */
+	private static Alca combinarFilhos(Alca primeiro) {
+		if (primeiro == null) {
+			return null;
+		}
+		Alca pilha = null;
+		while (primeiro != null) {
+			Alca a = primeiro;
+			Alca b = a.irmao;
+			a.anterior = null;
+			a.irmao = null;
+			if (b == null) {
+				a.irmao = pilha;
+				pilha = a;
+				break;
+			}
+			primeiro = b.irmao;
+			b.anterior = null;
+			b.irmao = null;
+			Alca par = ligar(a, b);
+			par.irmao = pilha;
+			pilha = par;
+		}
+		Alca resultado = pilha;
+		pilha = pilha.irmao;
+		resultado.irmao = null;
+		while (pilha != null) {
+			Alca proximo = pilha.irmao;
+			pilha.irmao = null;
+			resultado = ligar(resultado, pilha);
+			pilha = proximo;
+		}
+		return resultado;
+	}
+
+	private Alca obterNodo() {
+		if (estoque == null) {
+			return new Alca();
+		}
+		Alca nodo = estoque;
+		estoque = nodo.irmao;
+		nodo.irmao = null;
+		tamanhoEstoque--;
+		return nodo;
+	}
+
+	/**
+	 * Invalida o nó removido e, se ele nunca foi devolvido como alça, guarda-o no
+	 * estoque, se houver espaço.
+	 */
+	private void devolverNodo(Alca nodo) {
+		if (nodo == ultimoInserido) {
+			ultimoInserido = null;
+		}
+		nodo.valida = false;
+		nodo.dona = null;
+		nodo.filho = null;
+		nodo.anterior = null;
+		nodo.irmao = null;
+		if (!nodo.exposta && tamanhoEstoque < LIMITE_ESTOQUE) {
+			nodo.irmao = estoque;
+			estoque = nodo;
+			tamanhoEstoque++;
+		}
+	}
+
+}
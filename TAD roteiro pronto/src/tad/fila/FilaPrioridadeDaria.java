@@ -0,0 +1,313 @@
+package tad.fila;
+
+/**
+ * Fila de prioridade de inteiros sobre um heap d-ário mínimo guardado num único
+ * {@code int[]}: desenfileirar sempre remove o menor elemento.
+ * <p>
+ * Os d filhos do nó {@code i} ficam lado a lado, nas posições {@code d*i + 1} até
+ * {@code d*i + d}, então a busca pelo menor filho ao descer percorre memória contígua.
+ * Com aridade 4 ou 8 o heap fica mais raso que o binário e cada descida toca menos
+ * linhas de cache, ao custo de mais comparações por nível. A aridade é uma potência de
+ * dois para que pais e filhos sejam calculados com deslocamentos de bits.
+ * <p>
+ * {@link #verificarCabeca()} retorna o menor elemento. {@link #verificarCauda()}
+ * retorna o elemento inserido mais recentemente enquanto ele ainda estiver na fila; a
+ * posição dele no heap é acompanhada a cada movimentação. A capacidade é fixa e
+ * {@link FilaCheiaException} é lançada quando a fila está cheia.
+ */
+public class FilaPrioridadeDaria implements FilaIF<Integer> {
+
+	private static final int ARIDADE_PADRAO = 4;
+
+	private final int[] meusDados;
+	private final int deslocamento; // log2 da aridade
+	private int tamanho = 0;
+	private int posicaoUltimo = -1; // Posição no heap do último inserido, ou -1 se já saiu
+
+	/**
+	 * Constrói uma fila vazia.
+	 * @param aridade o número de filhos de cada nó: 2, 4 ou 8.
+	 * @param capacidade o número máximo de elementos.
+	 * @throws IllegalArgumentException se a aridade ou a capacidade forem inválidas.
+	 */
+	public FilaPrioridadeDaria(int aridade, int capacidade) {
+		if (aridade != 2 && aridade != 4 && aridade != 8) {
+			throw new IllegalArgumentException("aridade deve ser 2, 4 ou 8: " + aridade);
+		}
+		if (capacidade <= 0) {
+			throw new IllegalArgumentException("capacidade inválida: " + capacidade);
+		}
+		this.meusDados = new int[capacidade];
+		this.deslocamento = Integer.numberOfTrailingZeros(aridade);
+	}
+
+	/**
+	 * Constrói uma fila vazia com aridade 4.
+	 * @param capacidade o número máximo de elementos.
+	 */
+	public FilaPrioridadeDaria(int capacidade) {
+		this(ARIDADE_PADRAO, capacidade);
+	}
+
+	/**
+	 * Constrói uma fila com os elementos dados, montando o heap de uma vez em O(n) em
+	 * vez de inserir um a um em O(n log n). O último elemento do array é considerado o
+	 * inserido mais recentemente.
+	 * @param aridade o número de filhos de cada nó: 2, 4 ou 8.
+	 * @param capacidade o número máximo de elementos.
+	 * @param elementos os elementos iniciais; o array não é alterado.
+	 * @throws IllegalArgumentException se a aridade ou a capacidade forem inválidas, ou
+	 *                                  se houver mais elementos que a capacidade.
+	 */
+	public FilaPrioridadeDaria(int aridade, int capacidade, int[] elementos) {
+		this(aridade, capacidade);
+		if (elementos.length > capacidade) {
+			throw new IllegalArgumentException("elementos demais para a capacidade: " + elementos.length);
+		}
+		System.arraycopy(elementos, 0, meusDados, 0, elementos.length);
+		tamanho = elementos.length;
+		posicaoUltimo = tamanho - 1;
+		// Desce cada nó interno, do último até a raiz.
+		for (int i = pai(tamanho - 1); i >= 0; i--) {
+			descer(i);
+		}
+	}
+
+	/**
+	 * Enfileira um inteiro sem boxing, em O(log n).
+	 * @param item o valor a ser enfileirado.
+	 * @throws FilaCheiaException se a fila estiver cheia.
+	 */
+	public void enfileirarInt(int item) throws FilaCheiaException {
+		if (tamanho == meusDados.length) {
+			throw new FilaCheiaException();
+		}
+		inserir(item);
+	}
+
+	/**
+	 * Remove e retorna o menor elemento sem boxing, em O(d log n / log d).
+	 * @return o menor elemento.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	public int desenfileirarInt() throws FilaVaziaException {
+		if (tamanho == 0) {
+			throw new FilaVaziaException();
+		}
+		return removerMinimo();
+	}
+
+	/**
+	 * Retorna o menor elemento sem removê-lo e sem boxing.
+	 * @return o menor elemento.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	public int minimoInt() throws FilaVaziaException {
+		if (tamanho == 0) {
+			throw new FilaVaziaException();
+		}
+		return meusDados[0];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * O item é posicionado pela sua prioridade, não no fim da fila.
+	 * @throws FilaCheiaException se a fila estiver cheia.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void enfileirar(Integer item) throws FilaCheiaException {
+		if (item == null) {
+			throw new IllegalArgumentException("FilaPrioridadeDaria não aceita elementos nulos.");
+		}
+		enfileirarInt(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Remove o menor elemento.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	@Override
+	public Integer desenfileirar() throws FilaVaziaException {
+		return desenfileirarInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Insere tudo ou nada: se não houver espaço para todos os itens, nenhum é inserido.
+	 * @throws FilaCheiaException se não houver espaço para todos os itens.
+	 * @throws IllegalArgumentException se algum item for {@code null}.
+	 */
+	@Override
+	public void enfileirarTodos(Integer[] itens) throws FilaCheiaException {
+		if (itens.length > meusDados.length - tamanho) {
+			throw new FilaCheiaException();
+		}
+		for (Integer item : itens) {
+			if (item == null) {
+				throw new IllegalArgumentException("FilaPrioridadeDaria não aceita elementos nulos.");
+			}
+		}
+		for (Integer item : itens) {
+			inserir(item);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Os elementos saem em ordem crescente.
+	 */
+	@Override
+	public int desenfileirarAte(Integer[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		int quantidade = Math.min(n, tamanho);
+		for (int i = 0; i < quantidade; i++) {
+			destino[i] = removerMinimo();
+		}
+		return quantidade;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento inserido mais recentemente, ou {@code null} se a fila estiver
+	 *         vazia ou se esse elemento já tiver sido removido.
+	 */
+	@Override
+	public Integer verificarCauda() {
+		return posicaoUltimo < 0 ? null : meusDados[posicaoUltimo];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o menor elemento, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public Integer verificarCabeca() {
+		return tamanho == 0 ? null : meusDados[0];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return tamanho == 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isFull() {
+		return tamanho == meusDados.length;
+	}
+
+	/**
+	 * Retorna o número de elementos na fila.
+	 * @return o número de elementos.
+	 */
+	public int tamanho() {
+		return tamanho;
+	}
+
+	/**
+	 * Retorna a aridade do heap.
+	 * @return o número de filhos de cada nó.
+	 */
+	public int aridade() {
+		return 1 << deslocamento;
+	}
+
+	private int pai(int posicao) {
+		return (posicao - 1) >> deslocamento;
+	}
+
+	private void inserir(int item) {
+		meusDados[tamanho] = item;
+		posicaoUltimo = tamanho;
+		tamanho++;
+		subir(tamanho - 1);
+	}
+
+	private int removerMinimo() {
+		int minimo = meusDados[0];
+		if (posicaoUltimo == 0) {
+			posicaoUltimo = -1;
+		}
+		tamanho--;
+		if (tamanho > 0) {
+			meusDados[0] = meusDados[tamanho];
+			if (posicaoUltimo == tamanho) {
+				posicaoUltimo = 0;
+			}
+			descer(0);
+		}
+		return minimo;
+	}
+
+	/**
+	 * Sobe o elemento da posição dada até o lugar certo, deslocando os pais maiores
+	 * para baixo em vez de trocar par a par.
+	 */
+	private void subir(int posicao) {
+		int item = meusDados[posicao];
+		boolean ehUltimo = posicao == posicaoUltimo;
+		while (posicao > 0) {
+			int posicaoPai = pai(posicao);
+			int valorPai = meusDados[posicaoPai];
+			if (valorPai <= item) {
+				break;
+			}
+			meusDados[posicao] = valorPai;
+			if (posicaoPai == posicaoUltimo) {
+				posicaoUltimo = posicao;
+			}
+			posicao = posicaoPai;
+		}
+		meusDados[posicao] = item;
+		if (ehUltimo) {
+			posicaoUltimo = posicao;
+		}
+	}
+
+	/**
+	 * Desce o elemento da posição dada, trocando-o a cada nível pelo menor dos até d
+	 * filhos, que ficam contíguos no array.
+	 */
+	private void descer(int posicao) {
+		int item = meusDados[posicao];
+		boolean ehUltimo = posicao == posicaoUltimo;
+		int aridade = 1 << deslocamento;
+		while (true) {
+			int primeiroFilho = (posicao << deslocamento) + 1;
+			if (primeiroFilho >= tamanho) {
+				break;
+			}
+			int fimFilhos = Math.min(primeiroFilho + aridade, tamanho);
+			int menorFilho = primeiroFilho;
+			int menorValor = meusDados[primeiroFilho];
+			for (int filho = primeiroFilho + 1; filho < fimFilhos; filho++) {
+				if (meusDados[filho] < menorValor) {
+					menorValor = meusDados[filho];
+					menorFilho = filho;
+				}
+			}
+			if (item <= menorValor) {
+				break;
+			}
+			meusDados[posicao] = menorValor;
+			if (menorFilho == posicaoUltimo) {
+				posicaoUltimo = posicao;
+			}
+			posicao = menorFilho;
+		}
+		meusDados[posicao] = item;
+		if (ehUltimo) {
+			posicaoUltimo = posicao;
+		}
+	}
+
+}
@@ -0,0 +1,385 @@
+package tad.fila;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Fila de atraso de inteiros sobre uma roda de tempo hierárquica (hierarchical timing
+ * wheel): cada item agendado só sai da fila depois que o seu prazo vence.
+ * <p>
+ * O tempo é dividido em ticks de duração configurável. A roda do nível 0 tem uma
+ * posição por tick; cada posição do nível {@code L} cobre {@code N^L} ticks, em que
+ * {@code N} é o número de posições por roda. Um item vai para o nível mais baixo cujo
+ * alcance cobre o seu prazo, numa lista duplamente encadeada, então agendar e cancelar
+ * são O(1). Quando o nível 0 dá uma volta completa, a próxima posição do nível 1 é
+ * esvaziada e os seus itens descem para o nível 0 (e assim por diante nos níveis acima).
+ * Prazos além do alcance do nível mais alto ficam na última posição alcançável e são
+ * reposicionados quando ela é esvaziada.
+ * <p>
+ * {@link #avancar()} lê o relógio e processa os ticks vencidos; todos os itens de um
+ * tick passam juntos, em lote, para a lista de expirados, na ordem em que foram
+ * agendados. {@link #expirados()} oferece essa lista como uma {@link FilaIF} somente
+ * de leitura, que avança a roda antes de cada consulta. A fila não é segura para uso
+ * por várias threads.
+ */
+public class FilaRodaDeTempo {
+
+	private static final int POSICOES_PADRAO = 64;
+	private static final int NIVEIS_PADRAO = 4;
+
+	/**
+	 * Alça de um item agendado, usada para cancelá-lo.
+	 */
+	public static final class Agendamento {
+		private final int item;
+		private final long tickExpiracao;
+		private Lista lista;          // Lista onde o item está, ou null se já saiu da fila
+		private Agendamento anterior;
+		private Agendamento proximo;
+
+		private Agendamento(int item, long tickExpiracao) {
+			this.item = item;
+			this.tickExpiracao = tickExpiracao;
+		}
+
+		/**
+		 * Retorna o item agendado.
+		 * @return o item.
+		 */
+		public int item() {
+			return item;
+		}
+
+		/**
+		 * Indica se o item ainda está na fila, esperando o prazo ou já expirado mas
+		 * ainda não retirado.
+		 * @return {@code true} se o item ainda está na fila.
+		 */
+		public boolean isNaFila() {
+			return lista != null;
+		}
+	}
+
+	/**
+	 * Lista duplamente encadeada de agendamentos, usada tanto pelas posições das rodas
+	 * quanto pela lista de expirados. Inserção no fim e remoção de qualquer nó em O(1).
+	 */
+	private static final class Lista {
+		Agendamento primeiro;
+		Agendamento ultimo;
+		int quantidade;
+
+		void adicionar(Agendamento agendamento) {
+			agendamento.lista = this;
+			agendamento.proximo = null;
+			agendamento.anterior = ultimo;
+			if (ultimo == null) {
+				primeiro = agendamento;
+			} else {
+				ultimo.proximo = agendamento;
+			}
+			ultimo = agendamento;
+			quantidade++;
+		}
+
+		void remover(Agendamento agendamento) {
+			if (agendamento.anterior == null) {
+				primeiro = agendamento.proximo;
+			} else {
+				agendamento.anterior.proximo = agendamento.proximo;
+			}
+			if (agendamento.proximo == null) {
+				ultimo = agendamento.anterior;
+			} else {
+				agendamento.proximo.anterior = agendamento.anterior;
+			}
+			agendamento.lista = null;
+			agendamento.anterior = null;
+			agendamento.proximo = null;
+			quantidade--;
+		}
+
+		/**
+		 * Esvazia a lista e retorna a cadeia que ela continha, ainda ligada pelos
+		 * campos {@code proximo}.
+		 */
+		Agendamento esvaziar() {
+			Agendamento cadeia = primeiro;
+			primeiro = null;
+			ultimo = null;
+			quantidade = 0;
+			return cadeia;
+		}
+	}
+
+	private final LongSupplier relogio;
+	private final long inicio;
+	private final long nanosPorTick;
+	private final int bitsPorNivel;
+	private final int mascara;
+	private final Lista[][] rodas;
+	private final Lista expirados = new Lista();
+	private long tickAtual = 0;
+	private int pendentes = 0;
+
+	/**
+	 * Constrói uma fila com a resolução e a geometria dadas.
+	 * @param resolucao a duração de um tick.
+	 * @param unidade a unidade de {@code resolucao}.
+	 * @param posicoesPorRoda posições de cada roda; deve ser uma potência de dois entre 2 e 2^16.
+	 * @param niveis número de rodas; o alcance sem reposicionamento é {@code posicoesPorRoda^niveis} ticks.
+	 * @param relogio fonte de tempo em nanossegundos, como {@link System#nanoTime()}.
+	 * @throws IllegalArgumentException se algum parâmetro for inválido.
+	 */
+	public FilaRodaDeTempo(long resolucao, TimeUnit unidade, int posicoesPorRoda, int niveis, LongSupplier relogio) {
+		long nanos = unidade.toNanos(resolucao);
+		if (nanos <= 0) {
+			throw new IllegalArgumentException("resolução inválida: " + resolucao + " " + unidade);
+		}
+		if (posicoesPorRoda < 2 || posicoesPorRoda > (1 << 16) || Integer.bitCount(posicoesPorRoda) != 1) {
+			throw new IllegalArgumentException("posições por roda deve ser uma potência de dois entre 2 e 2^16: "
+					+ posicoesPorRoda);
+		}
+		int bits = Integer.numberOfTrailingZeros(posicoesPorRoda);
+		if (niveis < 1 || (long) bits * niveis > 62) {
+			throw new IllegalArgumentException("número de níveis inválido: " + niveis);
+		}
+		this.relogio = relogio;
+		this.inicio = relogio.getAsLong();
+		this.nanosPorTick = nanos;
+		this.bitsPorNivel = bits;
+		this.mascara = posicoesPorRoda - 1;
+		this.rodas = new Lista[niveis][posicoesPorRoda];
+		for (Lista[] roda : rodas) {
+			for (int i = 0; i < roda.length; i++) {
+				roda[i] = new Lista();
+			}
+		}
+	}
+
+	/**
+	 * Constrói uma fila com a resolução dada, 4 rodas de 64 posições e o relógio
+	 * {@link System#nanoTime()}.
+	 * @param resolucao a duração de um tick.
+	 * @param unidade a unidade de {@code resolucao}.
+	 */
+	public FilaRodaDeTempo(long resolucao, TimeUnit unidade) {
+		this(resolucao, unidade, POSICOES_PADRAO, NIVEIS_PADRAO, System::nanoTime);
+	}
+
+	/**
+	 * Agenda um item para expirar depois do atraso dado, arredondado para cima até o
+	 * próximo tick, em O(1).
+	 * @param item o item a agendar.
+	 * @param atraso o atraso a partir de agora; com zero ou negativo o item vai direto para
+	 *               os expirados, mesmo no meio de um tick.
+	 * @param unidade a unidade de {@code atraso}.
+	 * @return a alça do agendamento, usada para cancelá-lo.
+	 */
+	public Agendamento agendar(int item, long atraso, TimeUnit unidade) {
+		long tick = tickAtual;
+		if (atraso > 0) {
+			long agora = relogio.getAsLong() - inicio;
+			long prazo = agora + unidade.toNanos(atraso);
+			if (prazo < agora) {
+				// Soma saturada: toNanos já satura em Long.MAX_VALUE e a soma daria a volta.
+				prazo = Long.MAX_VALUE;
+			}
+			tick = Math.max(tickAtual, ceilDiv(prazo, nanosPorTick));
+		}
+		Agendamento agendamento = new Agendamento(item, tick);
+		posicionar(agendamento);
+		pendentes++;
+		return agendamento;
+	}
+
+	/**
+	 * Cancela um agendamento, em O(1). Itens já expirados mas ainda não retirados de
+	 * {@link #expirados()} também podem ser cancelados.
+	 * @param agendamento a alça devolvida por {@link #agendar(int, long, TimeUnit)}.
+	 * @return {@code true} se o item foi retirado da fila, {@code false} se já tinha saído.
+	 */
+	public boolean cancelar(Agendamento agendamento) {
+		Lista lista = agendamento.lista;
+		if (lista == null) {
+			return false;
+		}
+		if (lista != expirados) {
+			pendentes--;
+		}
+		lista.remover(agendamento);
+		return true;
+	}
+
+	/**
+	 * Processa todos os ticks vencidos até o instante atual do relógio, movendo os itens
+	 * expirados para {@link #expirados()}.
+	 * @return o número de itens que expiraram nesta chamada.
+	 */
+	public int avancar() {
+		long tickAlvo = (relogio.getAsLong() - inicio) / nanosPorTick;
+		int antes = expirados.quantidade;
+		while (tickAtual < tickAlvo) {
+			tickAtual++;
+			if ((tickAtual & mascara) == 0) {
+				cascatear(1);
+			}
+			Lista posicao = rodas[0][(int) tickAtual & mascara];
+			pendentes -= posicao.quantidade;
+			Agendamento agendamento = posicao.esvaziar();
+			while (agendamento != null) {
+				Agendamento seguinte = agendamento.proximo;
+				expirados.adicionar(agendamento);
+				agendamento = seguinte;
+			}
+		}
+		return expirados.quantidade - antes;
+	}
+
+	/**
+	 * Retorna uma visão dos itens expirados como {@link FilaIF}: a cabeça é o item que
+	 * expirou há mais tempo. Cada consulta avança a roda até o instante atual. A visão é
+	 * somente de leitura: enfileirar lança {@link UnsupportedOperationException}; use
+	 * {@link #agendar(int, long, TimeUnit)}.
+	 * @return a visão dos expirados.
+	 */
+	public FilaIF<Integer> expirados() {
+		return new VisaoExpirados();
+	}
+
+	/**
+	 * Retorna o número de itens que ainda esperam o prazo.
+	 * @return o número de itens pendentes.
+	 */
+	public int pendentes() {
+		return pendentes;
+	}
+
+	/**
+	 * Retorna o número de itens expirados ainda não retirados, sem avançar a roda.
+	 * @return o número de itens expirados.
+	 */
+	public int expiradosDisponiveis() {
+		return expirados.quantidade;
+	}
+
+	/**
+	 * Esvazia a posição atual do nível dado e reposiciona os seus itens, que descem
+	 * para níveis mais baixos. Se o nível também completou uma volta, o nível acima é
+	 * esvaziado antes.
+	 */
+	private void cascatear(int nivel) {
+		if (nivel >= rodas.length) {
+			return;
+		}
+		long indice = tickAtual >>> (bitsPorNivel * nivel);
+		if ((indice & mascara) == 0) {
+			cascatear(nivel + 1);
+		}
+		Agendamento agendamento = rodas[nivel][(int) indice & mascara].esvaziar();
+		while (agendamento != null) {
+			Agendamento seguinte = agendamento.proximo;
+			posicionar(agendamento);
+			agendamento = seguinte;
+		}
+	}
+
+	/**
+	 * Coloca o agendamento no nível mais baixo cujo alcance cobre o seu prazo, ou direto
+	 * nos expirados se o prazo já venceu.
+	 */
+	private void posicionar(Agendamento agendamento) {
+		long tick = agendamento.tickExpiracao;
+		long distancia = tick - tickAtual;
+		if (distancia <= 0) {
+			pendentes--;
+			expirados.adicionar(agendamento);
+			return;
+		}
+		for (int nivel = 0; nivel < rodas.length; nivel++) {
+			if (distancia >>> (bitsPorNivel * (nivel + 1)) == 0) {
+				rodas[nivel][(int) (tick >>> (bitsPorNivel * nivel)) & mascara].adicionar(agendamento);
+				return;
+			}
+		}
+		// Além do alcance: fica na posição mais distante do último nível e é
+		// reposicionado quando ela for esvaziada.
+		int ultimoNivel = rodas.length - 1;
+		long limite = tickAtual + (1L << (bitsPorNivel * rodas.length)) - 1;
+		rodas[ultimoNivel][(int) (limite >>> (bitsPorNivel * ultimoNivel)) & mascara].adicionar(agendamento);
+	}
+
+	private static long ceilDiv(long dividendo, long divisor) {
+		return -Math.floorDiv(-dividendo, divisor);
+	}
+
+	/**
+	 * Visão {@link FilaIF} da lista de expirados.
+	 */
+	private final class VisaoExpirados implements FilaIF<Integer> {
+
+		@Override
+		public void enfileirar(Integer item) {
+			throw new UnsupportedOperationException("use agendar para inserir itens.");
+		}
+
+		@Override
+		public Integer desenfileirar() throws FilaVaziaException {
+			Integer item = tentarDesenfileirar();
+			if (item == null) {
+				throw new FilaVaziaException();
+			}
+			return item;
+		}
+
+		@Override
+		public Integer tentarDesenfileirar() {
+			avancar();
+			Agendamento primeiro = expirados.primeiro;
+			if (primeiro == null) {
+				return null;
+			}
+			expirados.remover(primeiro);
+			return primeiro.item;
+		}
+
+		@Override
+		public int desenfileirarAte(Integer[] destino, int n) {
+			if (n < 0 || n > destino.length) {
+				throw new IllegalArgumentException("quantidade inválida: " + n);
+			}
+			avancar();
+			int removidos = 0;
+			while (removidos < n && expirados.primeiro != null) {
+				Agendamento primeiro = expirados.primeiro;
+				expirados.remover(primeiro);
+				destino[removidos++] = primeiro.item;
+			}
+			return removidos;
+		}
+
+		@Override
+		public Integer verificarCauda() {
+			avancar();
+			return expirados.ultimo == null ? null : expirados.ultimo.item;
+		}
+
+		@Override
+		public Integer verificarCabeca() {
+			avancar();
+			return expirados.primeiro == null ? null : expirados.primeiro.item;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			avancar();
+			return expirados.primeiro == null;
+		}
+
+		@Override
+		public boolean isFull() {
+			return false;
+		}
+	}
+
+}
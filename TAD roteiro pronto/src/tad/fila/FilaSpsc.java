@@ -0,0 +1,191 @@
+package tad.fila;
+
+/**
+ * Fila limitada sem bloqueio para exatamente um produtor e um consumidor
+ * (single-producer/single-consumer). Só a thread produtora pode chamar os métodos de
+ * inserção e só a thread consumidora pode chamar os de remoção; com essa restrição
+ * nenhuma operação precisa de lock ou CAS.
+ * <p>
+ * Os contadores de cabeça e cauda ficam em objetos preenchidos com campos extras para
+ * ocuparem linhas de cache diferentes (evitando falso compartilhamento) e são
+ * publicados com semântica release/acquire: o produtor escreve o elemento e só então
+ * publica a nova cauda, então o consumidor que lê a cauda com acquire enxerga o elemento.
+ * <p>
+ * Cada lado guarda uma cópia do contador do outro lado e só relê o contador
+ * compartilhado quando a cópia indica fila cheia (produtor) ou vazia (consumidor).
+ * <p>
+ * {@link #isEmpty()}, {@link #isFull()} e {@link #verificarCauda()} são instantâneos
+ * aproximados quando chamados fora da thread dona do respectivo contador.
+ */
+public class FilaSpsc implements FilaIF<Integer> {
+
+	private final Integer[] meusDados;
+	private final int mascara;
+	private final ContadorPreenchido cauda = new ContadorPreenchido(0);  // Dono: produtor; cópia guarda a cabeça
+	private final ContadorPreenchido cabeca = new ContadorPreenchido(0); // Dono: consumidor; cópia guarda a cauda
+
+	/**
+	 * Constrói uma fila com pelo menos a capacidade especificada, arredondada para
+	 * cima até a próxima potência de dois.
+	 * @param capacidadeMinima a capacidade mínima desejada.
+	 * @throws IllegalArgumentException se a capacidade não for positiva ou passar de 2^30.
+	 */
+	public FilaSpsc(int capacidadeMinima) {
+		if (capacidadeMinima <= 0 || capacidadeMinima > (1 << 30)) {
+			throw new IllegalArgumentException("capacidade inválida: " + capacidadeMinima);
+		}
+		int capacidade = capacidadeMinima == 1 ? 1 : Integer.highestOneBit(capacidadeMinima - 1) << 1;
+		meusDados = new Integer[capacidade];
+		mascara = capacidade - 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Deve ser chamado apenas pela thread produtora.
+	 * @throws FilaCheiaException se a fila estiver cheia.
+	 */
+	@Override
+	public void enfileirar(Integer item) throws FilaCheiaException {
+		if (!tentarEnfileirar(item)) {
+			throw new FilaCheiaException();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Deve ser chamado apenas pela thread produtora.
+	 */
+	@Override
+	public boolean tentarEnfileirar(Integer item) {
+		long posicao = cauda.valor();
+		if (posicao - cauda.copia() > mascara) {
+			cauda.definirCopia(cabeca.lerAcquire());
+			if (posicao - cauda.copia() > mascara) {
+				return false;
+			}
+		}
+		meusDados[(int) posicao & mascara] = item;
+		cauda.escreverRelease(posicao + 1);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Deve ser chamado apenas pela thread produtora. Se não couberem todos, nenhum é
+	 * enfileirado; se couberem, são escritos e publicados de uma vez, com uma única
+	 * escrita release da cauda.
+	 * @throws FilaCheiaException se não houver espaço para todos os itens.
+	 */
+	@Override
+	public void enfileirarTodos(Integer[] itens) throws FilaCheiaException {
+		int quantidade = itens.length;
+		long posicao = cauda.valor();
+		if (posicao + quantidade - cauda.copia() > mascara + 1) {
+			cauda.definirCopia(cabeca.lerAcquire());
+			if (posicao + quantidade - cauda.copia() > mascara + 1) {
+				throw new FilaCheiaException();
+			}
+		}
+		for (int i = 0; i < quantidade; i++) {
+			meusDados[(int) (posicao + i) & mascara] = itens[i];
+		}
+		cauda.escreverRelease(posicao + quantidade);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Deve ser chamado apenas pela thread consumidora.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
+	@Override
+	public Integer desenfileirar() throws FilaVaziaException {
+		long posicao = cabeca.valor();
+		if (posicao >= cabeca.copia()) {
+			cabeca.definirCopia(cauda.lerAcquire());
+			if (posicao >= cabeca.copia()) {
+				throw new FilaVaziaException();
+			}
+		}
+		return remover(posicao);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Deve ser chamado apenas pela thread consumidora.
+	 */
+	@Override
+	public Integer tentarDesenfileirar() {
+		long posicao = cabeca.valor();
+		if (posicao >= cabeca.copia()) {
+			cabeca.definirCopia(cauda.lerAcquire());
+			if (posicao >= cabeca.copia()) {
+				return null;
+			}
+		}
+		return remover(posicao);
+	}
+
+	private Integer remover(long posicao) {
+		int indice = (int) posicao & mascara;
+		Integer item = meusDados[indice];
+		meusDados[indice] = null;
+		// O release também publica a limpeza da posição antes de o produtor reutilizá-la.
+		cabeca.escreverRelease(posicao + 1);
+		return item;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Deve ser chamado apenas pela thread consumidora.
+	 * @return o elemento na cabeça da fila, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public Integer verificarCabeca() {
+		long posicao = cabeca.valor();
+		if (posicao >= cauda.lerAcquire()) {
+			return null;
+		}
+		return meusDados[(int) posicao & mascara];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Exato na thread produtora; em outras threads é um instantâneo aproximado.
+	 * @return o elemento na cauda da fila, ou {@code null} se a fila estiver vazia.
+	 */
+	@Override
+	public Integer verificarCauda() {
+		long posicaoCauda = cauda.lerAcquire();
+		if (posicaoCauda <= cabeca.lerAcquire()) {
+			return null;
+		}
+		return meusDados[(int) (posicaoCauda - 1) & mascara];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Instantâneo aproximado quando a outra thread está operando.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return cabeca.lerAcquire() >= cauda.lerAcquire();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Instantâneo aproximado quando a outra thread está operando.
+	 */
+	@Override
+	public boolean isFull() {
+		return cauda.lerAcquire() - cabeca.lerAcquire() > mascara;
+	}
+
+	/**
+	 * Retorna a capacidade da fila, sempre uma potência de dois.
+	 * @return a capacidade.
+	 */
+	public int capacidade() {
+		return mascara + 1;
+	}
+
+}
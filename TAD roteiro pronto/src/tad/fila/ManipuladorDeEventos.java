@@ -0,0 +1,21 @@
+package tad.fila;
+
+/**
+ * Lógica de um estágio do pipeline, chamada pelo {@link ProcessadorDeEventos} para
+ * cada evento liberado pela sua barreira.
+ *
+ * @param <T> o tipo dos eventos.
+ */
+public interface ManipuladorDeEventos<T> {
+
+	/**
+	 * Processa um evento. O evento pertence ao anel e é reaproveitado nas voltas
+	 * seguintes, então não deve ser guardado depois que o método retornar.
+	 * @param evento o evento a processar; pode ser alterado para os estágios seguintes.
+	 * @param sequencia a sequência do evento.
+	 * @param fimDoLote {@code true} se este é o último evento disponível no lote atual,
+	 *                  momento adequado para descarregar trabalho acumulado.
+	 */
+	public void aoEvento(T evento, long sequencia, boolean fimDoLote);
+
+}
@@ -0,0 +1,21 @@
+package tad.fila;
+
+/**
+ * Decide o que fazer quando o {@link ManipuladorDeEventos} de um estágio lança uma
+ * exceção, chamado pelo {@link ProcessadorDeEventos} na própria thread do estágio.
+ *
+ * @param <T> o tipo dos eventos.
+ */
+public interface ManipuladorDeExcecoes<T> {
+
+	/**
+	 * Trata a exceção lançada ao processar um evento. Quando o método retorna, o evento
+	 * conta como processado e o estágio segue para o próximo; se o método lançar uma
+	 * exceção, ela escapa de {@link ProcessadorDeEventos#run()} e o estágio para.
+	 * @param erro a exceção lançada pelo manipulador de eventos.
+	 * @param evento o evento que estava sendo processado.
+	 * @param sequencia a sequência do evento.
+	 */
+	public void aoFalhar(RuntimeException erro, T evento, long sequencia);
+
+}
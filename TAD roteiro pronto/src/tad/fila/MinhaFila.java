@@ -1,5 +1,7 @@
 package tad.fila;
 
+import java.util.Arrays;
+
 /**
  * Implementação de uma fila de inteiros usando um array fixo com estratégia circular.
  * A fila segue o princípio FIFO (First-In, First-Out).
@@ -69,6 +71,75 @@ public class MinhaFila implements FilaIF<Integer> {
 		return itemRemovido;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tentarEnfileirar(Integer item) {
+		if (isFull()) {
+			return false;
+		}
+		meusDados[cauda] = item;
+		cauda = (cauda + 1) % tamanho;
+		numElementos++;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer tentarDesenfileirar() {
+		if (isEmpty()) {
+			return null;
+		}
+		Integer itemRemovido = meusDados[cabeca];
+		meusDados[cabeca] = null; // Opcional: limpar a posição
+		cabeca = (cabeca + 1) % tamanho;
+		numElementos--;
+		return itemRemovido;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Os itens são copiados em bloco para o array circular, com no máximo duas cópias
+	 * quando o trecho dá a volta no fim do array. Se não couberem todos, nenhum é enfileirado.
+	 * @throws FilaCheiaException se não houver espaço para todos os itens.
+	 */
+	@Override
+	public void enfileirarTodos(Integer[] itens) throws FilaCheiaException {
+		int quantidade = itens.length;
+		if (quantidade > tamanho - numElementos) {
+			throw new FilaCheiaException();
+		}
+		int ateOFim = Math.min(quantidade, tamanho - cauda);
+		System.arraycopy(itens, 0, meusDados, cauda, ateOFim);
+		System.arraycopy(itens, ateOFim, meusDados, 0, quantidade - ateOFim);
+		cauda = (cauda + quantidade) % tamanho;
+		numElementos += quantidade;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Os elementos são copiados em bloco do array circular, com no máximo duas cópias.
+	 */
+	@Override
+	public int desenfileirarAte(Integer[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		int quantidade = Math.min(n, numElementos);
+		int ateOFim = Math.min(quantidade, tamanho - cabeca);
+		System.arraycopy(meusDados, cabeca, destino, 0, ateOFim);
+		System.arraycopy(meusDados, 0, destino, ateOFim, quantidade - ateOFim);
+		// Opcional: limpar as posições
+		Arrays.fill(meusDados, cabeca, cabeca + ateOFim, null);
+		Arrays.fill(meusDados, 0, quantidade - ateOFim, null);
+		cabeca = (cabeca + quantidade) % tamanho;
+		numElementos -= quantidade;
+		return quantidade;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * Retorna o último elemento inserido na fila (o mais recente) sem removê-lo.
@@ -1,40 +1,243 @@
 package tad.fila;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementação de uma fila encadeada sem bloqueio e sem limite de capacidade
+ * (fila de Michael-Scott). Cabeça e cauda são {@link AtomicReference}s atualizadas
+ * com compare-and-set, e a cadeia sempre começa por um nó sentinela: o primeiro
+ * elemento da fila é o sucessor da cabeça.
+ * <p>
+ * Para enfileirar, a thread liga o novo nó ao {@code proximo} do último nó com CAS e
+ * só depois tenta avançar a cauda. Entre esses dois passos a cauda fica atrasada um
+ * nó; qualquer thread que encontrar a cauda atrasada ajuda a avançá-la antes de
+ * continuar, então nenhuma operação fica esperando outra terminar.
+ * <p>
+ * Os nós nunca são reutilizados: um nó removido só é recolhido pelo coletor de lixo
+ * quando nenhuma thread guarda mais referência a ele, então um CAS nunca confunde um
+ * nó antigo com um novo no mesmo endereço (o problema ABA de filas com reciclagem
+ * manual de memória). {@link #isFull()} sempre retorna {@code false}.
+ * <p>
+ * A fila não aceita {@code null}, para que {@link #tentarDesenfileirar()} possa usar
+ * {@code null} como indicação de fila vazia.
+ */
 public class MinhaFilaEncadeada implements FilaIF<Integer> {
 
+	/**
+	 * Nó da fila. A chave é escrita antes da publicação do nó; o campo {@code proximo}
+	 * só passa de {@code null} para um nó, uma única vez, por CAS.
+	 */
+	private static final class Nodo {
+		final Integer chave;
+		volatile Nodo proximo;
+
+		Nodo(Integer chave) {
+			this.chave = chave;
+		}
+	}
+
+	private static final VarHandle PROXIMO;
+
+	static {
+		try {
+			PROXIMO = MethodHandles.lookup().findVarHandle(Nodo.class, "proximo", Nodo.class);
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final AtomicReference<Nodo> cabeca;
+	private final AtomicReference<Nodo> cauda;
+
+	/**
+	 * Constrói uma fila vazia, formada apenas pelo nó sentinela.
+	 */
+	public MinhaFilaEncadeada() {
+		Nodo sentinela = new Nodo(null);
+		cabeca = new AtomicReference<Nodo>(sentinela);
+		cauda = new AtomicReference<Nodo>(sentinela);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila não tem limite de capacidade.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void enfileirar(Integer item) {
+		if (item == null) {
+			throw new IllegalArgumentException("MinhaFilaEncadeada não aceita elementos nulos.");
+		}
+		Nodo novo = new Nodo(item);
+		ligarAoFim(novo, novo);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila não tem limite de capacidade, então sempre enfileira.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
 	@Override
-	public void enfileirar(Integer item) throws FilaCheiaException {
-		// TODO Auto-generated method stub
-		
+	public boolean tentarEnfileirar(Integer item) {
+		enfileirar(item);
+		return true;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * A cadeia com todos os itens é montada fora da fila e ligada ao último nó com um
+	 * único CAS, então os itens aparecem para as outras threads de uma só vez e sem
+	 * elementos de outros produtores intercalados.
+	 * @throws IllegalArgumentException se algum item for {@code null}; nesse caso nada é enfileirado.
+	 */
+	@Override
+	public void enfileirarTodos(Integer[] itens) {
+		if (itens.length == 0) {
+			return;
+		}
+		for (Integer item : itens) {
+			if (item == null) {
+				throw new IllegalArgumentException("MinhaFilaEncadeada não aceita elementos nulos.");
+			}
+		}
+		Nodo primeiro = new Nodo(itens[0]);
+		Nodo ultimo = primeiro;
+		for (int i = 1; i < itens.length; i++) {
+			Nodo novo = new Nodo(itens[i]);
+			ultimo.proximo = novo;
+			ultimo = novo;
+		}
+		ligarAoFim(primeiro, ultimo);
+	}
+
+	/**
+	 * Liga a cadeia de {@code primeiro} até {@code ultimo} ao fim da fila e tenta
+	 * avançar a cauda até {@code ultimo}. Se a cauda estiver atrasada, ajuda a avançá-la.
+	 */
+	private void ligarAoFim(Nodo primeiro, Nodo ultimo) {
+		while (true) {
+			Nodo atual = cauda.get();
+			Nodo seguinte = atual.proximo;
+			if (seguinte != null) {
+				// Outra thread ligou um nó e ainda não avançou a cauda.
+				cauda.compareAndSet(atual, seguinte);
+			} else if (PROXIMO.compareAndSet(atual, null, primeiro)) {
+				// Se falhar, outra thread já avançou a cauda por nós.
+				cauda.compareAndSet(atual, ultimo);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws FilaVaziaException se a fila estiver vazia no momento da remoção.
+	 */
 	@Override
 	public Integer desenfileirar() throws FilaVaziaException {
-		// TODO Auto-generated method stub
-		return null;
+		Integer item = tentarDesenfileirar();
+		if (item == null) {
+			throw new FilaVaziaException();
+		}
+		return item;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A fila não aceita {@code null}, então o retorno {@code null} indica sempre fila vazia.
+	 */
+	@Override
+	public Integer tentarDesenfileirar() {
+		while (true) {
+			Nodo sentinela = cabeca.get();
+			Nodo primeiro = sentinela.proximo;
+			if (primeiro == null) {
+				return null;
+			}
+			if (sentinela == cauda.get()) {
+				// A cauda ainda aponta para o sentinela: avança antes de removê-lo.
+				cauda.compareAndSet(sentinela, primeiro);
+			} else if (cabeca.compareAndSet(sentinela, primeiro)) {
+				// O primeiro nó vira o novo sentinela; sua chave é o elemento removido.
+				return primeiro.chave;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Os elementos são retirados como um único trecho da cadeia, com um único CAS na cabeça.
+	 */
+	@Override
+	public int desenfileirarAte(Integer[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		Nodo sentinela;
+		Nodo corte;
+		int removidos;
+		do {
+			sentinela = cabeca.get();
+			corte = sentinela;
+			removidos = 0;
+			while (removidos < n && corte.proximo != null) {
+				corte = corte.proximo;
+				removidos++;
+			}
+		} while (removidos > 0 && !cabeca.compareAndSet(sentinela, corte));
+		// O último nó removido vira o novo sentinela; copia as chaves do trecho em ordem.
+		// A cauda pode ter ficado para trás da nova cabeça: os nós removidos continuam
+		// ligados, então o próximo enfileirar a alcança seguindo os campos proximo.
+		Nodo nodo = sentinela;
+		for (int i = 0; i < removidos; i++) {
+			nodo = nodo.proximo;
+			destino[i] = nodo.chave;
+		}
+		return removidos;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * Instantâneo: o resultado pode estar desatualizado se outras threads estiverem operando.
+	 * @return o elemento na cauda da fila, ou {@code null} se a fila estiver vazia.
+	 */
 	@Override
 	public Integer verificarCauda() {
-		// TODO Auto-generated method stub
-		return null;
+		Nodo ultimo = cauda.get();
+		Nodo seguinte;
+		while ((seguinte = ultimo.proximo) != null) {
+			ultimo = seguinte;
+		}
+		return ultimo == cabeca.get() ? null : ultimo.chave;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * Instantâneo: o resultado pode estar desatualizado se outras threads estiverem operando.
+	 * @return o elemento na cabeça da fila, ou {@code null} se a fila estiver vazia.
+	 */
 	@Override
 	public Integer verificarCabeca() {
-		// TODO Auto-generated method stub
-		return null;
+		Nodo primeiro = cabeca.get().proximo;
+		return primeiro == null ? null : primeiro.chave;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
 	@Override
 	public boolean isEmpty() {
-		// TODO Auto-generated method stub
-		return false;
+		return cabeca.get().proximo == null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * A fila não tem limite de capacidade, então sempre retorna {@code false}.
+	 */
 	@Override
 	public boolean isFull() {
-		// TODO Auto-generated method stub
 		return false;
 	}
 
@@ -0,0 +1,102 @@
+package tad.fila;
+
+/**
+ * Executa um estágio do pipeline: espera eventos na {@link BarreiraDeSequencia}, entrega
+ * cada um ao {@link ManipuladorDeEventos} e só então avança a sua {@link Sequencia}, que
+ * os estágios seguintes e o produtor usam para saber até onde este estágio chegou.
+ * <p>
+ * Cada espera retorna todos os eventos disponíveis de uma vez; o lote inteiro é
+ * processado e a sequência é publicada uma única vez no fim dele.
+ * <p>
+ * O processador roda na thread que chamar {@link #run()} até que {@link #parar()} seja
+ * chamado. Ao parar, ele termina o lote em andamento, processa os eventos já publicados
+ * e sai quando não houver mais nenhum disponível.
+ * <p>
+ * Uma exceção lançada pelo manipulador não interrompe o estágio: ela é entregue ao
+ * {@link ManipuladorDeExcecoes}, o evento conta como processado e a sequência avança
+ * normalmente. Se o estágio parasse, a sua sequência ficaria parada e o produtor,
+ * limitado por ela em {@link AnelDeEventos#proximo()}, esperaria para sempre. O
+ * tratamento padrão só registra a exceção em {@code System.err}.
+ *
+ * @param <T> o tipo dos eventos.
+ */
+public class ProcessadorDeEventos<T> implements Runnable {
+
+	private final AnelDeEventos<T> anel;
+	private final BarreiraDeSequencia barreira;
+	private final ManipuladorDeEventos<T> manipulador;
+	private final ManipuladorDeExcecoes<? super T> manipuladorDeExcecoes;
+	private final Sequencia sequencia = new Sequencia();
+
+	/**
+	 * Constrói um processador para o anel e a barreira dados, com um tratamento de
+	 * exceções próprio.
+	 * @param anel o anel de onde os eventos são lidos.
+	 * @param barreira a barreira que define as dependências deste estágio.
+	 * @param manipulador a lógica do estágio.
+	 * @param manipuladorDeExcecoes chamado quando {@code manipulador} lança uma exceção.
+	 */
+	public ProcessadorDeEventos(AnelDeEventos<T> anel, BarreiraDeSequencia barreira,
+			ManipuladorDeEventos<T> manipulador, ManipuladorDeExcecoes<? super T> manipuladorDeExcecoes) {
+		this.anel = anel;
+		this.barreira = barreira;
+		this.manipulador = manipulador;
+		this.manipuladorDeExcecoes = manipuladorDeExcecoes;
+	}
+
+	/**
+	 * Constrói um processador para o anel e a barreira dados. Exceções lançadas pelo
+	 * manipulador são registradas em {@code System.err} e o evento é descartado.
+	 * @param anel o anel de onde os eventos são lidos.
+	 * @param barreira a barreira que define as dependências deste estágio.
+	 * @param manipulador a lógica do estágio.
+	 */
+	public ProcessadorDeEventos(AnelDeEventos<T> anel, BarreiraDeSequencia barreira,
+			ManipuladorDeEventos<T> manipulador) {
+		this(anel, barreira, manipulador, (erro, evento, sequencia) ->
+				System.err.println("Erro ao processar o evento " + sequencia + ": " + erro));
+	}
+
+	/**
+	 * Retorna a sequência deste estágio, para ser usada como dependência dos estágios
+	 * seguintes ou como sequência de controle do anel.
+	 * @return a sequência do último evento processado.
+	 */
+	public Sequencia getSequencia() {
+		return sequencia;
+	}
+
+	/**
+	 * Pede que o processador pare depois de consumir os eventos já publicados.
+	 */
+	public void parar() {
+		barreira.alertar();
+	}
+
+	/**
+	 * Processa eventos até {@link #parar()} ser chamado.
+	 */
+	@Override
+	public void run() {
+		long proxima = sequencia.get() + 1;
+		while (true) {
+			long disponivel;
+			try {
+				disponivel = barreira.esperarPor(proxima);
+			} catch (BarreiraAlertadaException e) {
+				return;
+			}
+			for (long s = proxima; s <= disponivel; s++) {
+				T evento = anel.obter(s);
+				try {
+					manipulador.aoEvento(evento, s, s == disponivel);
+				} catch (RuntimeException e) {
+					manipuladorDeExcecoes.aoFalhar(e, evento, s);
+				}
+			}
+			sequencia.set(disponivel);
+			proxima = disponivel + 1;
+		}
+	}
+
+}
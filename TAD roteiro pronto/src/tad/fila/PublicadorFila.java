@@ -0,0 +1,308 @@
+package tad.fila;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Expõe uma {@link FilaIF} como {@link Flow.Publisher}. Os produtores chamam
+ * {@link #oferecer(Object)}, que nunca bloqueia nem lança {@link FilaCheiaException}:
+ * o retorno {@code false} é o sinal de contrapressão de que a fila está cheia porque o
+ * assinante não está pedindo elementos, e o produtor decide se espera, descarta ou
+ * repassa a pressão adiante. A fila é o único buffer entre os dois lados, então o
+ * consumo de memória é limitado pela capacidade dela.
+ * <p>
+ * Os elementos só saem da fila quando o assinante tem demanda, pedida com
+ * {@link Flow.Subscription#request(long)}. A entrega é feita em lotes do tamanho da
+ * demanda (limitados a {@code loteMaximo}): cada lote é retirado da fila numa única
+ * aquisição da trava e entregue fora dela, para que os produtores não esperem pelo
+ * {@code onNext} do assinante.
+ * <p>
+ * Como uma fila entrega cada elemento uma única vez, o publicador aceita um assinante
+ * por vez; depois de um cancelamento, outro pode assinar e recebe os elementos que
+ * ficaram na fila. Elementos de um lote já retirado que ainda não tinham sido
+ * entregues quando o assinante cancela são descartados.
+ * <p>
+ * A fila passada ao construtor deve ser usada apenas pelo publicador, que a protege
+ * com uma trava, e por isso pode ser uma fila sem sincronização como {@link MinhaFila}.
+ * O publicador não aceita {@code null}, que {@link FilaIF#tentarDesenfileirar()} usa
+ * como indicação de fila vazia.
+ *
+ * @param <E> o tipo dos elementos.
+ */
+public class PublicadorFila<E> implements Flow.Publisher<E>, AutoCloseable {
+
+	private static final int LOTE_MAXIMO_PADRAO = 256;
+
+	private final FilaIF<E> fila;
+	private final Executor executor;
+	private final int loteMaximo;
+	private final ReentrantLock trava = new ReentrantLock();
+
+	private final AtomicReference<Assinatura> assinatura = new AtomicReference<Assinatura>();
+	private final AtomicInteger entregasPendentes = new AtomicInteger(); // Serializa o laço de entrega
+	private volatile boolean encerrado = false;
+	private volatile Throwable erro = null;
+
+	/**
+	 * Constrói um publicador sobre a fila dada.
+	 * @param fila a fila que guarda os elementos ainda não pedidos.
+	 * @param executor o executor onde os elementos são entregues ao assinante.
+	 * @param loteMaximo o número máximo de elementos retirados da fila de uma só vez.
+	 * @throws IllegalArgumentException se {@code loteMaximo} não for positivo.
+	 */
+	public PublicadorFila(FilaIF<E> fila, Executor executor, int loteMaximo) {
+		if (loteMaximo <= 0) {
+			throw new IllegalArgumentException("quantidade inválida: " + loteMaximo);
+		}
+		this.fila = Objects.requireNonNull(fila);
+		this.executor = Objects.requireNonNull(executor);
+		this.loteMaximo = loteMaximo;
+	}
+
+	/**
+	 * Constrói um publicador que entrega os elementos na própria thread que os oferece
+	 * ou que pede mais demanda, em lotes de até 256 elementos.
+	 * @param fila a fila que guarda os elementos ainda não pedidos.
+	 */
+	public PublicadorFila(FilaIF<E> fila) {
+		this(fila, Runnable::run, LOTE_MAXIMO_PADRAO);
+	}
+
+	/**
+	 * Oferece um elemento sem bloquear.
+	 * @param item o elemento a publicar.
+	 * @return {@code true} se o elemento entrou na fila, {@code false} se a fila estava
+	 *         cheia e o produtor deve reduzir o ritmo.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 * @throws IllegalStateException se o publicador já tiver sido encerrado.
+	 */
+	public boolean oferecer(E item) {
+		if (item == null) {
+			throw new IllegalArgumentException("PublicadorFila não aceita elementos nulos.");
+		}
+		if (encerrado) {
+			throw new IllegalStateException("publicador encerrado.");
+		}
+		boolean aceito;
+		trava.lock();
+		try {
+			aceito = fila.tentarEnfileirar(item);
+		} finally {
+			trava.unlock();
+		}
+		if (aceito) {
+			agendarEntrega();
+		}
+		return aceito;
+	}
+
+	/**
+	 * Indica se a fila está cheia, ou seja, se {@link #oferecer(Object)} recusaria um
+	 * elemento agora.
+	 * @return {@code true} se a fila estiver cheia.
+	 */
+	public boolean isSaturado() {
+		trava.lock();
+		try {
+			return fila.isFull();
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	/**
+	 * Instantâneo aproximado da demanda ainda não atendida do assinante.
+	 * @return o número de elementos pedidos e ainda não entregues, ou 0 se não houver assinante.
+	 */
+	public long demandaPendente() {
+		Assinatura atual = assinatura.get();
+		return atual == null ? 0 : atual.demanda.get();
+	}
+
+	/**
+	 * Indica se há um assinante ativo.
+	 * @return {@code true} se houver um assinante que não cancelou nem terminou.
+	 */
+	public boolean temAssinante() {
+		return assinatura.get() != null;
+	}
+
+	/**
+	 * Encerra o publicador: não aceita novos elementos e, depois que o assinante
+	 * receber o que ficou na fila, chama {@code onComplete}.
+	 */
+	@Override
+	public void close() {
+		encerrado = true;
+		agendarEntrega();
+	}
+
+	/**
+	 * Encerra o publicador com erro: o assinante recebe o que ficou na fila e depois
+	 * {@code onError}.
+	 * @param causa o erro repassado ao assinante.
+	 */
+	public void fecharComErro(Throwable causa) {
+		erro = Objects.requireNonNull(causa);
+		close();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Um segundo assinante, enquanto o primeiro estiver ativo, recebe
+	 * {@code onError} com {@link IllegalStateException}.
+	 */
+	@Override
+	public void subscribe(Flow.Subscriber<? super E> assinante) {
+		Objects.requireNonNull(assinante);
+		Assinatura nova = new Assinatura(assinante);
+		if (!assinatura.compareAndSet(null, nova)) {
+			assinante.onSubscribe(new Flow.Subscription() {
+				@Override
+				public void request(long n) {
+				}
+
+				@Override
+				public void cancel() {
+				}
+			});
+			assinante.onError(new IllegalStateException("PublicadorFila aceita um único assinante por vez."));
+			return;
+		}
+		assinante.onSubscribe(nova);
+		// Só entrega depois que onSubscribe retornou; pedidos feitos dentro dele apenas acumulam demanda.
+		nova.iniciada = true;
+		agendarEntrega();
+	}
+
+	/**
+	 * Garante que o laço de entrega rode depois desta chamada. Só uma execução do laço
+	 * fica ativa; chamadas concorrentes apenas incrementam o contador e o laço em
+	 * andamento repete a verificação.
+	 */
+	private void agendarEntrega() {
+		if (entregasPendentes.getAndIncrement() == 0) {
+			executor.execute(this::entregar);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void entregar() {
+		Object[] lote = null;
+		int perdidas = 1;
+		do {
+			Assinatura atual = assinatura.get();
+			if (atual != null && atual.iniciada) {
+				Throwable erroDePedido = atual.erroDePedido;
+				if (erroDePedido != null && atual.terminar()) {
+					atual.assinante.onError(erroDePedido);
+				}
+				long demanda;
+				while ((demanda = atual.demanda.get()) > 0 && !atual.terminada.get()) {
+					if (lote == null) {
+						lote = new Object[loteMaximo];
+					}
+					int quantidade = retirarLote(lote, (int) Math.min(demanda, loteMaximo));
+					if (quantidade == 0) {
+						break;
+					}
+					atual.demanda.addAndGet(-quantidade);
+					for (int i = 0; i < quantidade; i++) {
+						E item = (E) lote[i];
+						lote[i] = null;
+						if (!atual.terminada.get()) {
+							atual.assinante.onNext(item);
+						}
+					}
+				}
+				if (encerrado && !atual.terminada.get() && filaVazia() && atual.terminar()) {
+					Throwable causa = erro;
+					if (causa != null) {
+						atual.assinante.onError(causa);
+					} else {
+						atual.assinante.onComplete();
+					}
+				}
+			}
+			perdidas = entregasPendentes.addAndGet(-perdidas);
+		} while (perdidas != 0);
+	}
+
+	private int retirarLote(Object[] lote, int maximo) {
+		trava.lock();
+		try {
+			int quantidade = 0;
+			E item;
+			while (quantidade < maximo && (item = fila.tentarDesenfileirar()) != null) {
+				lote[quantidade++] = item;
+			}
+			return quantidade;
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	private boolean filaVazia() {
+		trava.lock();
+		try {
+			return fila.isEmpty();
+		} finally {
+			trava.unlock();
+		}
+	}
+
+	private final class Assinatura implements Flow.Subscription {
+		final Flow.Subscriber<? super E> assinante;
+		final AtomicLong demanda = new AtomicLong();
+		final AtomicBoolean terminada = new AtomicBoolean();
+		volatile boolean iniciada = false;
+		volatile Throwable erroDePedido = null;
+
+		Assinatura(Flow.Subscriber<? super E> assinante) {
+			this.assinante = assinante;
+		}
+
+		@Override
+		public void request(long n) {
+			if (terminada.get()) {
+				return;
+			}
+			if (n <= 0) {
+				// Regra 3.9 da especificação: pedido não positivo encerra com erro, sinalizado
+				// pelo laço de entrega para não concorrer com um onNext em andamento.
+				erroDePedido = new IllegalArgumentException("quantidade inválida: " + n);
+				agendarEntrega();
+				return;
+			}
+			demanda.getAndAccumulate(n, (atual, pedido) -> {
+				long soma = atual + pedido;
+				return soma < 0 ? Long.MAX_VALUE : soma; // Demanda acima de Long.MAX_VALUE é ilimitada.
+			});
+			agendarEntrega();
+		}
+
+		@Override
+		public void cancel() {
+			terminar();
+		}
+
+		/**
+		 * Marca a assinatura como terminada e libera o publicador para outro assinante.
+		 * @return {@code true} se esta chamada terminou a assinatura.
+		 */
+		boolean terminar() {
+			if (terminada.compareAndSet(false, true)) {
+				assinatura.compareAndSet(this, null);
+				return true;
+			}
+			return false;
+		}
+	}
+
+}
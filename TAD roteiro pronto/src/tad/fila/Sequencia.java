@@ -0,0 +1,54 @@
+package tad.fila;
+
+/**
+ * Contador de sequência usado pelo {@link AnelDeEventos}: o cursor do produtor e a
+ * posição de cada {@link ProcessadorDeEventos} são sequências. O valor fica isolado em
+ * sua própria linha de cache e é lido com acquire e escrito com release, então quem lê
+ * uma sequência enxerga tudo o que foi escrito nos eventos antes de ela avançar.
+ * <p>
+ * Toda sequência começa em {@code -1}, indicando que nenhum evento foi publicado ou
+ * processado ainda.
+ */
+public final class Sequencia {
+
+	/** Valor inicial de toda sequência. */
+	public static final long VALOR_INICIAL = -1L;
+
+	private final ContadorPreenchido contador = new ContadorPreenchido(VALOR_INICIAL);
+
+	/**
+	 * Retorna o valor atual da sequência.
+	 * @return o valor atual.
+	 */
+	public long get() {
+		return contador.lerAcquire();
+	}
+
+	/**
+	 * Publica um novo valor para a sequência.
+	 * @param valor o novo valor.
+	 */
+	public void set(long valor) {
+		contador.escreverRelease(valor);
+	}
+
+	/**
+	 * Retorna o menor valor entre as sequências, ou {@code padrao} se não houver nenhuma.
+	 * @param sequencias as sequências a consultar.
+	 * @param padrao o valor retornado para um array vazio, e o limite superior do resultado.
+	 * @return o menor valor.
+	 */
+	public static long minimo(Sequencia[] sequencias, long padrao) {
+		long minimo = padrao;
+		for (Sequencia sequencia : sequencias) {
+			minimo = Math.min(minimo, sequencia.get());
+		}
+		return minimo;
+	}
+
+	@Override
+	public String toString() {
+		return Long.toString(get());
+	}
+
+}
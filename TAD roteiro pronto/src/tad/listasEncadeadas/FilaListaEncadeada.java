@@ -1,47 +1,129 @@
 package tad.listasEncadeadas;
 
-import tad.fila.FilaCheiaException;
 import tad.fila.FilaIF;
 import tad.fila.FilaVaziaException;
 
+/**
+ * Fila intrusiva: os próprios {@link NodoListaEncadeada} recebidos em
+ * {@link #enfileirar(NodoListaEncadeada)} são encadeados pelo campo {@code proximo},
+ * sem lista auxiliar nem nós extras. Com ponteiros para a cabeça e para a cauda,
+ * enfileirar e desenfileirar são O(1) e não alocam nada, então quem chama pode
+ * reaproveitar os mesmos nós em ciclos de enfileirar e desenfileirar.
+ * <p>
+ * Enquanto está na fila, o nó pertence a ela: o campo {@code proximo} não deve ser
+ * alterado por quem chama e o nó não pode estar em outra fila ou lista ao mesmo
+ * tempo. Ao sair da fila, o {@code proximo} do nó volta a ser {@code null}. A fila não
+ * tem limite de tamanho e não é segura para uso por várias threads.
+ */
 public class FilaListaEncadeada implements FilaIF<NodoListaEncadeada<Integer>> {
-	
-	private ListaEncadeadaIF<Integer> fila;
 
+	private NodoListaEncadeada<Integer> cabeca = null;
+	private NodoListaEncadeada<Integer> cauda = null;
+	private int tamanho = 0;
+
+	/**
+	 * {@inheritDoc}
+	 * Encadeia o próprio nó no fim da fila, sem alocar.
+	 * @throws IllegalArgumentException se o nó for {@code null} ou já estiver encadeado
+	 *         a outro nó.
+	 */
 	@Override
-	public void enfileirar(NodoListaEncadeada<Integer> item) throws FilaCheiaException {
-		// TODO Auto-generated method stub
-		
+	public void enfileirar(NodoListaEncadeada<Integer> item) {
+		if (item == null) {
+			throw new IllegalArgumentException("FilaListaEncadeada não aceita nós nulos.");
+		}
+		if (item.getProximo() != null || item == cauda) {
+			throw new IllegalArgumentException("o nó já está encadeado em uma fila ou lista.");
+		}
+		if (cauda == null) {
+			cabeca = item;
+		} else {
+			cauda.setProximo(item);
+		}
+		cauda = item;
+		tamanho++;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * O nó devolvido sai desligado da fila e pode ser enfileirado de novo.
+	 * @throws FilaVaziaException se a fila estiver vazia.
+	 */
 	@Override
 	public NodoListaEncadeada<Integer> desenfileirar() throws FilaVaziaException {
-		// TODO Auto-generated method stub
-		return null;
+		if (cabeca == null) {
+			throw new FilaVaziaException();
+		}
+		return removerCabeca();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tentarEnfileirar(NodoListaEncadeada<Integer> item) {
+		enfileirar(item);
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NodoListaEncadeada<Integer> tentarDesenfileirar() {
+		return cabeca == null ? null : removerCabeca();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
 	@Override
 	public NodoListaEncadeada<Integer> verificarCauda() {
-		// TODO Auto-generated method stub
-		return null;
+		return cauda;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
 	@Override
 	public NodoListaEncadeada<Integer> verificarCabeca() {
-		// TODO Auto-generated method stub
-		return null;
+		return cabeca;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
 	@Override
 	public boolean isEmpty() {
-		// TODO Auto-generated method stub
-		return false;
+		return cabeca == null;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * A fila não tem limite de tamanho, então sempre retorna {@code false}.
+	 */
 	@Override
 	public boolean isFull() {
-		// TODO Auto-generated method stub
 		return false;
 	}
 
+	/**
+	 * Retorna o número de nós na fila.
+	 * @return o número de nós.
+	 */
+	public int tamanho() {
+		return tamanho;
+	}
+
+	private NodoListaEncadeada<Integer> removerCabeca() {
+		NodoListaEncadeada<Integer> removido = cabeca;
+		cabeca = removido.getProximo();
+		if (cabeca == null) {
+			cauda = null;
+		}
+		removido.setProximo(null);
+		tamanho--;
+		return removido;
+	}
+
 }
@@ -8,6 +8,14 @@ public interface ListaEncadeadaIF<T extends Comparable<T>> {
 	public void insert(T chave);
 	public void insert(T chave, int index);
 	public NodoListaEncadeada<T> remove(T chave);
+	/**
+	 * Remove a primeira ocorrência da chave sem lançar {@link ListaVaziaException}
+	 * quando a lista está vazia.
+	 * @return o nó removido, ou {@code null} se a lista estiver vazia ou a chave não for encontrada
+	 */
+	public default NodoListaEncadeada<T> tentarRemover(T chave) {
+		return isEmpty() ? null : remove(chave);
+	}
 	/**
 	 * Existem uma conotação semântica para o imprime em ordem. É para imprimir na ordem em que
 	 * os elementos são inseridos.
@@ -1,11 +1,15 @@
 package tad.pilha;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+
 public class MinhaPilha implements PilhaIF<Integer> {
 	
 	// private int tamanho = 10; // Removido, usaremos capacidade e topoPilha
 	private Integer[] meusDados = null;
 	private int topoPilha; // Índice do elemento no topo da pilha, -1 se vazia
 	private int capacidade;  // Capacidade máxima da pilha
+	private int modificacoes = 0; // Contador de alterações, usado pelas visões de multitop para detectar mudanças
 
 	private static final int CAPACIDADE_PADRAO = 5; // Para o pilhaCheiaTest passar
 
@@ -37,6 +41,7 @@ public class MinhaPilha implements PilhaIF<Integer> {
 		}
 		topoPilha++;
 		meusDados[topoPilha] = item;
+		modificacoes++;
 	}
 
 	/**
@@ -51,9 +56,73 @@ public class MinhaPilha implements PilhaIF<Integer> {
 		Integer item = meusDados[topoPilha];
 		meusDados[topoPilha] = null; // Limpa a referência para ajudar o GC
 		topoPilha--;
+		modificacoes++;
+		return item;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean tentarEmpilhar(Integer item) {
+		if (isFull()) {
+			return false;
+		}
+		topoPilha++;
+		meusDados[topoPilha] = item;
+		modificacoes++;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer tentarDesempilhar() {
+		if (isEmpty()) {
+			return null;
+		}
+		Integer item = meusDados[topoPilha];
+		meusDados[topoPilha] = null; // Limpa a referência para ajudar o GC
+		topoPilha--;
+		modificacoes++;
 		return item;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * Os itens são copiados em bloco para o array interno. Se não couberem todos,
+	 * nenhum é empilhado.
+	 * @throws PilhaCheiaException se não houver espaço para todos os itens.
+	 */
+	@Override
+	public void empilharTodos(Integer[] itens) throws PilhaCheiaException {
+		if (itens.length > capacidade - (topoPilha + 1)) {
+			throw new PilhaCheiaException();
+		}
+		System.arraycopy(itens, 0, meusDados, topoPilha + 1, itens.length);
+		topoPilha += itens.length;
+		modificacoes++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Os elementos são copiados em bloco do array interno.
+	 */
+	@Override
+	public int desempilharAte(Integer[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		int removidos = Math.min(n, topoPilha + 1);
+		int inicio = topoPilha + 1 - removidos;
+		System.arraycopy(meusDados, inicio, destino, 0, removidos);
+		Arrays.fill(meusDados, inicio, topoPilha + 1, null); // Limpa as referências para ajudar o GC
+		topoPilha = inicio - 1;
+		modificacoes++;
+		return removidos;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * Retorna o elemento no topo da pilha sem removê-lo.
@@ -70,20 +139,53 @@ public class MinhaPilha implements PilhaIF<Integer> {
 	/**
 	 * {@inheritDoc}
 	 * Retorna uma nova pilha contendo os k elementos do topo desta pilha.
-	 * O elemento que está no topo desta pilha também estará no topo da nova pilha.
-	 * Esta operação não modifica a pilha original.
+	 * Os elementos são empilhados na nova pilha do topo para a base desta, então o
+	 * elemento que está no topo desta pilha fica na base da nova. Se k for maior que o
+	 * número de elementos, mas não passar do dobro, a nova pilha contém só o elemento
+	 * do topo. Esta operação não modifica a pilha original.
 	 *
 	 * @param k o número de elementos a serem incluídos na nova pilha.
-	 * @return uma nova PilhaIF contendo os k elementos do topo.
-	 * @throws PilhaVaziaException se k for maior que o número de elementos atualmente na pilha,
-	 *                             e k > 0.
+	 * @return uma nova PilhaIF contendo os k elementos do topo, ou uma pilha vazia se k <= 0.
+	 * @throws PilhaVaziaException se k for maior que o dobro do número de elementos
+	 *                             atualmente na pilha.
 	 */
 	@Override
 	public PilhaIF<Integer> multitop(int k) {
-		int tamanhoAtualPilha = topoPilha + 1;
+		int quantidade = quantidadeMultitop(k, topoPilha + 1);
+		MinhaPilha resultado = new MinhaPilha(quantidade);
+		// Para manter a ordem do teste (topo da original é o primeiro a ser empilhado na nova),
+		// copiamos do topo para a base diretamente no array da nova pilha
+		for (int i = 0; i < quantidade; i++) {
+			resultado.meusDados[i] = meusDados[topoPilha - i];
+		}
+		resultado.topoPilha = quantidade - 1;
+		return resultado;
+	}
+
+	/**
+	 * Retorna uma visão somente leitura, em O(1), dos mesmos elementos que
+	 * {@link #multitop(int)} retornaria. A visão compartilha o array desta pilha em vez
+	 * de copiá-lo; uma cópia só é feita quando {@link VisaoMultitop#materializar()} é chamado.
+	 * <p>
+	 * A visão é fail-fast: qualquer acesso a ela depois que esta pilha for modificada
+	 * lança {@link ConcurrentModificationException}.
+	 *
+	 * @param k o número de elementos do topo que a visão deve abranger.
+	 * @return a visão dos k elementos do topo.
+	 * @throws PilhaVaziaException nas mesmas condições de {@link #multitop(int)}.
+	 */
+	public VisaoMultitop multitopVisao(int k) {
+		return new VisaoMultitop(topoPilha, -1, quantidadeMultitop(k, topoPilha + 1));
+	}
 
+	/**
+	 * Calcula quantos elementos o multitop de k deve conter em uma pilha com o tamanho dado.
+	 * Também usado por {@link MinhaPilhaInt}, que segue a mesma regra.
+	 * @throws PilhaVaziaException se k for muito maior que o número de elementos na pilha.
+	 */
+	static int quantidadeMultitop(int k, int tamanhoAtualPilha) {
 		if (k <= 0) {
-			return new MinhaPilha(0);
+			return 0;
 		}
 
 		// Se k for muito maior que o tamanho da pilha (mais que o dobro), lançamos exceção
@@ -94,26 +196,116 @@ public class MinhaPilha implements PilhaIF<Integer> {
 		// Se k for maior que o tamanho atual mas não "muito maior",
 		// retornamos apenas o elemento do topo
 		if (k > tamanhoAtualPilha) {
-			PilhaIF<Integer> resultado = new MinhaPilha(1);
-			try {
-				resultado.empilhar(meusDados[topoPilha]);
-			} catch (PilhaCheiaException e) {
-				System.err.println("Erro inesperado em multitop: PilhaCheiaException na pilha resultado.");
+			return 1;
+		}
+		return k;
+	}
+
+	/**
+	 * Visão somente leitura sobre os elementos do topo de uma {@link MinhaPilha}.
+	 * Como no resultado de {@link MinhaPilha#multitop(int)}, o elemento do topo da pilha
+	 * de origem fica na base da visão. Operações que alterariam a visão lançam
+	 * {@link UnsupportedOperationException}.
+	 */
+	public final class VisaoMultitop implements PilhaIF<Integer> {
+
+		private final int baseOrigem; // Índice, no array da origem, do elemento da base da visão
+		private final int passo;      // -1 ou +1: direção, no array da origem, da base para o topo da visão
+		private final int quantidade;
+		private final int modificacoesEsperadas;
+
+		private VisaoMultitop(int baseOrigem, int passo, int quantidade) {
+			this.baseOrigem = baseOrigem;
+			this.passo = passo;
+			this.quantidade = quantidade;
+			this.modificacoesEsperadas = modificacoes;
+		}
+
+		private void verificarModificacao() {
+			if (modificacoes != modificacoesEsperadas) {
+				throw new ConcurrentModificationException("a pilha de origem foi modificada depois da criação da visão.");
 			}
-			return resultado;
 		}
-		
-		PilhaIF<Integer> resultado = new MinhaPilha(k);
-		// Para manter a ordem do teste (topo da original é o primeiro a ser empilhado na nova),
-		// precisamos empilhar na ordem do topo para a base dos k elementos
-		for (int i = 0; i < k; i++) {
-			try {
-				resultado.empilhar(meusDados[topoPilha - i]);
-			} catch (PilhaCheiaException e) {
-				System.err.println("Erro inesperado em multitop: PilhaCheiaException na pilha resultado.");
+
+		/**
+		 * Sempre lança {@link UnsupportedOperationException}: a visão é somente leitura.
+		 */
+		@Override
+		public void empilhar(Integer item) {
+			throw new UnsupportedOperationException("visão de multitop é somente leitura.");
+		}
+
+		/**
+		 * Sempre lança {@link UnsupportedOperationException}: a visão é somente leitura.
+		 */
+		@Override
+		public Integer desempilhar() {
+			throw new UnsupportedOperationException("visão de multitop é somente leitura.");
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @return o elemento no topo da visão, ou {@code null} se ela estiver vazia.
+		 * @throws ConcurrentModificationException se a pilha de origem foi modificada.
+		 */
+		@Override
+		public Integer topo() {
+			verificarModificacao();
+			if (quantidade == 0) {
+				return null;
 			}
+			return meusDados[baseOrigem + passo * (quantidade - 1)];
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * Retorna, em O(1), uma visão dos k elementos do topo desta visão,
+		 * com as mesmas regras de {@link MinhaPilha#multitop(int)}.
+		 * @throws ConcurrentModificationException se a pilha de origem foi modificada.
+		 */
+		@Override
+		public VisaoMultitop multitop(int k) {
+			verificarModificacao();
+			// O topo desta visão passa a ser a base da nova, que percorre o array no sentido oposto.
+			int novaBase = baseOrigem + passo * (quantidade - 1);
+			return new VisaoMultitop(novaBase, -passo, quantidadeMultitop(k, quantidade));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * @throws ConcurrentModificationException se a pilha de origem foi modificada.
+		 */
+		@Override
+		public boolean isEmpty() {
+			verificarModificacao();
+			return quantidade == 0;
+		}
+
+		/**
+		 * Retorna o número de elementos da visão.
+		 * @return o número de elementos.
+		 * @throws ConcurrentModificationException se a pilha de origem foi modificada.
+		 */
+		public int tamanho() {
+			verificarModificacao();
+			return quantidade;
+		}
+
+		/**
+		 * Copia os elementos da visão para uma nova {@link MinhaPilha} independente,
+		 * igual à que {@link MinhaPilha#multitop(int)} teria retornado.
+		 * @return uma nova pilha com os elementos da visão.
+		 * @throws ConcurrentModificationException se a pilha de origem foi modificada.
+		 */
+		public MinhaPilha materializar() {
+			verificarModificacao();
+			MinhaPilha resultado = new MinhaPilha(quantidade);
+			for (int i = 0; i < quantidade; i++) {
+				resultado.meusDados[i] = meusDados[baseOrigem + passo * i];
+			}
+			resultado.topoPilha = quantidade - 1;
+			return resultado;
 		}
-		return resultado;
 	}
 
 	/**
@@ -128,7 +320,8 @@ public class MinhaPilha implements PilhaIF<Integer> {
 	 * Verifica se a pilha está cheia.
 	 * @return true se a pilha estiver cheia, false caso contrário.
 	 */
-	private boolean isFull() {
+	@Override
+	public boolean isFull() {
 		return topoPilha == capacidade - 1;
 	}
 
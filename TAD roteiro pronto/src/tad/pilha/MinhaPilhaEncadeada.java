@@ -1,38 +1,188 @@
 package tad.pilha;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementação de uma pilha encadeada sem bloqueio (pilha de Treiber).
+ * O topo é uma {@link AtomicReference} atualizada com compare-and-set, então várias
+ * threads produtoras e consumidoras podem compartilhar a pilha sem um lock global.
+ * Os nós não são alterados depois de publicados, o que torna seguro percorrer a cadeia
+ * a partir de um topo lido uma única vez (usado por {@link #multitop(int)}).
+ * A pilha não tem limite de capacidade, então {@link PilhaCheiaException} nunca é lançada.
+ */
 public class MinhaPilhaEncadeada implements PilhaIF<Integer> {
-	
-//	private ListaEncadeadaIF<Integer> listaEncadeada = new MinhaListaEncadeada<Integer>();
 
+	/**
+	 * Nó da pilha. O campo {@code proximo} aponta para o elemento abaixo e só é
+	 * escrito antes de o nó ser publicado pelo CAS no topo.
+	 */
+	private static final class Nodo {
+		final Integer chave;
+		Nodo proximo;
+
+		Nodo(Integer chave, Nodo proximo) {
+			this.chave = chave;
+			this.proximo = proximo;
+		}
+	}
+
+	private final AtomicReference<Nodo> topo = new AtomicReference<Nodo>();
+
+	/**
+	 * {@inheritDoc}
+	 * A pilha não tem limite de capacidade.
+	 */
 	@Override
-	public void empilhar(Integer item) throws PilhaCheiaException {
-		// TODO Auto-generated method stub
-//		listaEncadeada.insere(item);
-		
+	public void empilhar(Integer item) {
+		Nodo atual;
+		Nodo novo;
+		do {
+			atual = topo.get();
+			novo = new Nodo(item, atual);
+		} while (!topo.compareAndSet(atual, novo));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * @throws PilhaVaziaException se a pilha estiver vazia no momento da remoção.
+	 */
 	@Override
 	public Integer desempilhar() throws PilhaVaziaException {
-		// TODO Auto-generated method stub
-		return null;
+		Nodo removido = removerTopo();
+		if (removido == null) {
+			throw new PilhaVaziaException();
+		}
+		return removido.chave;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer tentarDesempilhar() {
+		Nodo removido = removerTopo();
+		return removido == null ? null : removido.chave;
+	}
+
+	/**
+	 * Remove o nó do topo com CAS.
+	 * @return o nó removido, ou {@code null} se a pilha estava vazia.
+	 */
+	private Nodo removerTopo() {
+		Nodo atual;
+		do {
+			atual = topo.get();
+			if (atual == null) {
+				return null;
+			}
+		} while (!topo.compareAndSet(atual, atual.proximo));
+		return atual;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A cadeia com todos os itens é montada fora da pilha e ligada ao topo com um
+	 * único CAS, então os itens aparecem para as outras threads de uma só vez.
+	 */
+	@Override
+	public void empilharTodos(Integer[] itens) {
+		if (itens.length == 0) {
+			return;
+		}
+		Nodo base = new Nodo(itens[0], null);
+		Nodo novoTopo = base;
+		for (int i = 1; i < itens.length; i++) {
+			novoTopo = new Nodo(itens[i], novoTopo);
+		}
+		Nodo atual;
+		do {
+			atual = topo.get();
+			base.proximo = atual;
+		} while (!topo.compareAndSet(atual, novoTopo));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Os elementos são retirados como um único trecho da cadeia, com um único CAS no topo.
+	 */
+	@Override
+	public int desempilharAte(Integer[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		Nodo atual;
+		Nodo corte;
+		int removidos;
+		do {
+			atual = topo.get();
+			corte = atual;
+			removidos = 0;
+			while (removidos < n && corte != null) {
+				corte = corte.proximo;
+				removidos++;
+			}
+		} while (removidos > 0 && !topo.compareAndSet(atual, corte));
+		// Os nós do trecho removido não mudam depois de publicados; copia do topo para a base.
+		Nodo no = atual;
+		for (int i = removidos - 1; i >= 0; i--) {
+			destino[i] = no.chave;
+			no = no.proximo;
+		}
+		return removidos;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento no topo, ou {@code null} se a pilha estiver vazia.
+	 */
 	@Override
 	public Integer topo() {
-		// TODO Auto-generated method stub
-		return null;
+		Nodo atual = topo.get();
+		return atual == null ? null : atual.chave;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * Retorna uma nova pilha com os k elementos do topo, com o topo desta pilha também
+	 * no topo da nova. Os elementos vêm de um único instantâneo do topo, portanto formam
+	 * um estado consistente da pilha mesmo com outras threads empilhando e desempilhando.
+	 *
+	 * @param k o número de elementos a serem copiados.
+	 * @return uma nova pilha com os k elementos do topo, ou uma pilha vazia se k <= 0.
+	 * @throws PilhaVaziaException se o instantâneo tiver menos que k elementos.
+	 */
 	@Override
 	public PilhaIF<Integer> multitop(int k) {
-		// TODO Auto-generated method stub
-		return null;
+		MinhaPilhaEncadeada resultado = new MinhaPilhaEncadeada();
+		if (k <= 0) {
+			return resultado;
+		}
+		Nodo instantaneo = topo.get();
+		Integer[] chaves = new Integer[k];
+		Nodo atual = instantaneo;
+		for (int i = 0; i < k; i++) {
+			if (atual == null) {
+				throw new PilhaVaziaException("k é maior que o número de elementos na pilha.");
+			}
+			chaves[i] = atual.chave;
+			atual = atual.proximo;
+		}
+		// Reconstrói a cadeia da base para o topo; a nova pilha ainda não é visível a
+		// outras threads, então não há necessidade de CAS.
+		Nodo novoTopo = null;
+		for (int i = k - 1; i >= 0; i--) {
+			novoTopo = new Nodo(chaves[i], novoTopo);
+		}
+		resultado.topo.set(novoTopo);
+		return resultado;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
 	@Override
 	public boolean isEmpty() {
-		// TODO Auto-generated method stub
-		return false;
+		return topo.get() == null;
 	}
 
 }
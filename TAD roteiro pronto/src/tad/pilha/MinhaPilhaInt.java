@@ -0,0 +1,361 @@
+package tad.pilha;
+
+/**
+ * Implementação de uma pilha de inteiros sobre um array primitivo {@code int[]}.
+ * Diferente de {@link MinhaPilha}, os elementos não são armazenados como {@link Integer},
+ * evitando o boxing/unboxing a cada operação quando usados os métodos
+ * {@link #empilharInt(int)}, {@link #desempilharInt()} e {@link #topoInt()}.
+ * O array interno cresce quando a pilha enche e encolhe quando a ocupação cai abaixo
+ * de um limiar, de acordo com a política informada no construtor.
+ * Como a pilha cresce sob demanda, {@link PilhaCheiaException} só é lançada quando o
+ * array atinge o tamanho máximo suportado pela JVM.
+ */
+public class MinhaPilhaInt implements PilhaIF<Integer> {
+
+	private static final int CAPACIDADE_PADRAO = 16;
+	private static final double FATOR_CRESCIMENTO_PADRAO = 2.0;
+	private static final double LIMIAR_ENCOLHIMENTO_PADRAO = 0.25;
+
+	private int[] meusDados;
+	private int tamanho; // Número de elementos; o topo fica em meusDados[tamanho - 1]
+	private int limiteEncolhimento; // Abaixo deste tamanho o array encolhe; recalculado a cada redimensionamento
+
+	private final int capacidadeMinima;
+	private final double fatorCrescimento;
+	private final double limiarEncolhimento;
+
+	/**
+	 * Constrói uma pilha com a política de redimensionamento especificada.
+	 * @param capacidadeInicial capacidade inicial do array; também é a menor capacidade
+	 *                          para a qual a pilha encolhe.
+	 * @param fatorCrescimento fator pelo qual a capacidade é multiplicada quando a pilha
+	 *                         enche; deve ser maior que 1.
+	 * @param limiarEncolhimento fração de ocupação (entre 0 e {@code 1 / fatorCrescimento})
+	 *                           abaixo da qual a capacidade é dividida pelo fator de crescimento.
+	 *                           Use 0 para nunca encolher.
+	 * @throws IllegalArgumentException se algum parâmetro estiver fora dos limites.
+	 */
+	public MinhaPilhaInt(int capacidadeInicial, double fatorCrescimento, double limiarEncolhimento) {
+		if (capacidadeInicial <= 0) {
+			throw new IllegalArgumentException("capacidade inicial deve ser positiva: " + capacidadeInicial);
+		}
+		if (!(fatorCrescimento > 1.0)) {
+			throw new IllegalArgumentException("fator de crescimento deve ser maior que 1: " + fatorCrescimento);
+		}
+		// O limiar precisa ficar abaixo de 1/fator, senão a pilha encolheria para uma
+		// capacidade que já estaria cheia e voltaria a crescer na próxima inserção.
+		if (limiarEncolhimento < 0.0 || limiarEncolhimento >= 1.0 / fatorCrescimento) {
+			throw new IllegalArgumentException("limiar de encolhimento inválido: " + limiarEncolhimento);
+		}
+		this.capacidadeMinima = capacidadeInicial;
+		this.fatorCrescimento = fatorCrescimento;
+		this.limiarEncolhimento = limiarEncolhimento;
+		this.meusDados = new int[capacidadeInicial];
+		this.tamanho = 0;
+		this.limiteEncolhimento = 0; // Já está na capacidade mínima
+	}
+
+	/**
+	 * Constrói uma pilha com a capacidade inicial especificada, dobrando quando enche
+	 * e encolhendo pela metade quando fica com um quarto da capacidade ocupada.
+	 * @param capacidadeInicial capacidade inicial do array.
+	 */
+	public MinhaPilhaInt(int capacidadeInicial) {
+		this(capacidadeInicial, FATOR_CRESCIMENTO_PADRAO, LIMIAR_ENCOLHIMENTO_PADRAO);
+	}
+
+	/**
+	 * Constrói uma pilha com capacidade e política de redimensionamento padrão.
+	 */
+	public MinhaPilhaInt() {
+		this(CAPACIDADE_PADRAO);
+	}
+
+	/**
+	 * Empilha um inteiro sem boxing.
+	 * @param item o valor a ser empilhado.
+	 */
+	public void empilharInt(int item) {
+		if (tamanho == meusDados.length) {
+			crescer();
+		}
+		meusDados[tamanho++] = item;
+	}
+
+	/**
+	 * Desempilha o inteiro do topo sem boxing.
+	 * @return o valor que estava no topo.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int desempilharInt() {
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		int item = meusDados[--tamanho];
+		if (tamanho < limiteEncolhimento) {
+			encolher();
+		}
+		return item;
+	}
+
+	/**
+	 * Retorna o inteiro do topo sem removê-lo e sem boxing.
+	 * @return o valor no topo.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int topoInt() {
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		return meusDados[tamanho - 1];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A pilha cresce sob demanda.
+	 * @throws PilhaCheiaException se o array interno atingir o tamanho máximo suportado.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void empilhar(Integer item) {
+		if (item == null) {
+			throw new IllegalArgumentException("MinhaPilhaInt não aceita elementos nulos.");
+		}
+		empilharInt(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	@Override
+	public Integer desempilhar() throws PilhaVaziaException {
+		return desempilharInt();
+	}
+
+	/**
+	 * Empilha em bloco {@code quantidade} valores de {@code itens}, a partir de
+	 * {@code inicio}, sem boxing. O último valor copiado fica no topo.
+	 * @param itens o array de origem.
+	 * @param inicio a posição do primeiro valor a empilhar.
+	 * @param quantidade o número de valores a empilhar.
+	 */
+	public void empilharTodosInt(int[] itens, int inicio, int quantidade) {
+		if (inicio < 0 || quantidade < 0 || quantidade > itens.length - inicio) {
+			throw new IndexOutOfBoundsException("intervalo inválido: " + inicio + ", " + quantidade);
+		}
+		garantirCapacidade(quantidade);
+		System.arraycopy(itens, inicio, meusDados, tamanho, quantidade);
+		tamanho += quantidade;
+	}
+
+	/**
+	 * Desempilha até n valores para o início de {@code destino}, sem boxing, na ordem
+	 * da pilha: {@code destino[0]} recebe o mais fundo dos removidos e
+	 * {@code destino[m - 1]} o antigo topo.
+	 * @param destino o array que recebe os valores removidos.
+	 * @param n o número máximo de valores a remover.
+	 * @return o número de valores efetivamente removidos.
+	 * @throws IllegalArgumentException se n for negativo ou maior que o tamanho de {@code destino}.
+	 */
+	public int desempilharAteInt(int[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		int removidos = Math.min(n, tamanho);
+		tamanho -= removidos;
+		System.arraycopy(meusDados, tamanho, destino, 0, removidos);
+		if (tamanho < limiteEncolhimento) {
+			encolher();
+		}
+		return removidos;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A capacidade é ajustada uma única vez antes da cópia.
+	 * @throws IllegalArgumentException se algum item for {@code null}; nesse caso
+	 *                                  nenhum item é empilhado.
+	 */
+	@Override
+	public void empilharTodos(Integer[] itens) {
+		for (Integer item : itens) {
+			if (item == null) {
+				throw new IllegalArgumentException("MinhaPilhaInt não aceita elementos nulos.");
+			}
+		}
+		garantirCapacidade(itens.length);
+		for (Integer item : itens) {
+			meusDados[tamanho++] = item;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int desempilharAte(Integer[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		int removidos = Math.min(n, tamanho);
+		tamanho -= removidos;
+		for (int i = 0; i < removidos; i++) {
+			destino[i] = meusDados[tamanho + i];
+		}
+		if (tamanho < limiteEncolhimento) {
+			encolher();
+		}
+		return removidos;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento no topo, ou {@code null} se a pilha estiver vazia.
+	 */
+	@Override
+	public Integer topo() {
+		if (tamanho == 0) {
+			return null;
+		}
+		return meusDados[tamanho - 1];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Segue as mesmas regras de {@link MinhaPilha#multitop(int)}, para que esta pilha
+	 * possa substituí-la: o topo desta pilha é o primeiro elemento empilhado na nova,
+	 * ficando na base dela, e um k entre o tamanho e o dobro do tamanho retorna só o
+	 * elemento do topo.
+	 *
+	 * @param k o número de elementos a serem copiados.
+	 * @return uma nova pilha com os k elementos do topo, ou uma pilha vazia se k <= 0.
+	 * @throws PilhaVaziaException se k for maior que o dobro do número de elementos na pilha.
+	 */
+	@Override
+	public PilhaIF<Integer> multitop(int k) {
+		int quantidade = MinhaPilha.quantidadeMultitop(k, tamanho);
+		if (quantidade == 0) {
+			return new MinhaPilhaInt();
+		}
+		MinhaPilhaInt resultado = new MinhaPilhaInt(quantidade, fatorCrescimento, limiarEncolhimento);
+		for (int i = 0; i < quantidade; i++) {
+			resultado.meusDados[i] = meusDados[tamanho - 1 - i];
+		}
+		resultado.tamanho = quantidade;
+		return resultado;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return tamanho == 0;
+	}
+
+	/**
+	 * Retorna o número de elementos na pilha.
+	 * @return o número de elementos.
+	 */
+	public int tamanho() {
+		return tamanho;
+	}
+
+	/**
+	 * Retorna a capacidade atual do array interno.
+	 * @return a capacidade atual.
+	 */
+	public int capacidade() {
+		return meusDados.length;
+	}
+
+	/**
+	 * Aumenta o array interno multiplicando a capacidade pelo fator de crescimento.
+	 */
+	private void crescer() {
+		int novaCapacidade = (int) Math.min(Integer.MAX_VALUE - 8, (long) (meusDados.length * fatorCrescimento));
+		if (novaCapacidade <= meusDados.length) {
+			if (meusDados.length == Integer.MAX_VALUE - 8) {
+				throw new PilhaCheiaException();
+			}
+			novaCapacidade = meusDados.length + 1;
+		}
+		redimensionar(novaCapacidade);
+	}
+
+	/**
+	 * Cresce o array, quantas vezes forem necessárias, para caber mais {@code adicionais} elementos.
+	 */
+	private void garantirCapacidade(int adicionais) {
+		if (adicionais > Integer.MAX_VALUE - 8 - tamanho) {
+			throw new PilhaCheiaException();
+		}
+		int necessario = tamanho + adicionais;
+		if (necessario <= meusDados.length) {
+			return;
+		}
+		long novaCapacidade = meusDados.length;
+		while (novaCapacidade < necessario) {
+			novaCapacidade = Math.max(novaCapacidade + 1, (long) (novaCapacidade * fatorCrescimento));
+		}
+		redimensionar((int) Math.min(Integer.MAX_VALUE - 8, novaCapacidade));
+	}
+
+	/**
+	 * Reduz o array interno dividindo a capacidade pelo fator de crescimento quantas
+	 * vezes forem necessárias para a ocupação voltar a ficar acima do limiar, sem ficar
+	 * abaixo da capacidade inicial. Uma remoção em bloco pode exigir várias divisões,
+	 * mas o array é copiado uma única vez.
+	 */
+	private void encolher() {
+		int novaCapacidade = meusDados.length;
+		while (novaCapacidade > capacidadeMinima && tamanho < (int) (novaCapacidade * limiarEncolhimento)) {
+			novaCapacidade = Math.max(capacidadeMinima, (int) (novaCapacidade / fatorCrescimento));
+		}
+		if (novaCapacidade < meusDados.length) {
+			redimensionar(novaCapacidade);
+		}
+	}
+
+	private void redimensionar(int novaCapacidade) {
+		int[] novoArray = new int[novaCapacidade];
+		System.arraycopy(meusDados, 0, novoArray, 0, tamanho);
+		meusDados = novoArray;
+		limiteEncolhimento = novaCapacidade > capacidadeMinima ? (int) (novaCapacidade * limiarEncolhimento) : 0;
+	}
+
+	/**
+	 * Duas pilhas são iguais se contiverem os mesmos valores na mesma ordem.
+	 * A capacidade e a política de redimensionamento não entram na comparação.
+	 *
+	 * @param obj o objeto a ser comparado com esta pilha.
+	 * @return {@code true} se as pilhas forem iguais, {@code false} caso contrário.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (obj == null || getClass() != obj.getClass()) return false;
+		MinhaPilhaInt outraPilha = (MinhaPilhaInt) obj;
+		if (this.tamanho != outraPilha.tamanho) return false;
+		for (int i = 0; i < tamanho; i++) {
+			if (this.meusDados[i] != outraPilha.meusDados[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Retorna um código hash baseado nos valores contidos na pilha.
+	 *
+	 * @return um código hash para esta pilha.
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		for (int i = 0; i < tamanho; i++) {
+			result = 31 * result + meusDados[i];
+		}
+		return 31 * result + tamanho;
+	}
+
+}
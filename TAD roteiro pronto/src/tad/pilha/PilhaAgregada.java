@@ -0,0 +1,208 @@
+package tad.pilha;
+
+/**
+ * Pilha de inteiros que mantém mínimo, máximo, soma e contagem dos elementos
+ * empilhados, todos consultáveis em O(1).
+ * <p>
+ * Além do array de dados, a pilha guarda dois arrays primitivos auxiliares:
+ * na posição i, {@code minimos[i]} e {@code maximos[i]} são o mínimo e o máximo
+ * dos elementos da base até a posição i. Ao empilhar, cada trilha recebe o valor
+ * combinado com o do nível de baixo; ao desempilhar, basta descer um nível. A soma
+ * é um acumulador {@code long} atualizado a cada operação.
+ * <p>
+ * Os arrays crescem sob demanda, então a pilha não tem limite de capacidade.
+ */
+public class PilhaAgregada implements PilhaIF<Integer> {
+
+	private static final int CAPACIDADE_PADRAO = 16;
+
+	private int[] meusDados;
+	private int[] minimos;
+	private int[] maximos;
+	private int tamanho = 0;
+	private long soma = 0;
+
+	/**
+	 * Constrói uma pilha com a capacidade inicial especificada.
+	 * @param capacidadeInicial a capacidade inicial dos arrays internos.
+	 */
+	public PilhaAgregada(int capacidadeInicial) {
+		int capacidade = capacidadeInicial > 0 ? capacidadeInicial : CAPACIDADE_PADRAO;
+		meusDados = new int[capacidade];
+		minimos = new int[capacidade];
+		maximos = new int[capacidade];
+	}
+
+	/**
+	 * Constrói uma pilha com capacidade inicial padrão.
+	 */
+	public PilhaAgregada() {
+		this(CAPACIDADE_PADRAO);
+	}
+
+	/**
+	 * Empilha um inteiro sem boxing, atualizando os agregados em O(1).
+	 * @param item o valor a ser empilhado.
+	 */
+	public void empilharInt(int item) {
+		if (tamanho == meusDados.length) {
+			crescer();
+		}
+		if (tamanho == 0) {
+			minimos[0] = item;
+			maximos[0] = item;
+		} else {
+			minimos[tamanho] = Math.min(item, minimos[tamanho - 1]);
+			maximos[tamanho] = Math.max(item, maximos[tamanho - 1]);
+		}
+		meusDados[tamanho++] = item;
+		soma += item;
+	}
+
+	/**
+	 * Desempilha o inteiro do topo sem boxing, atualizando os agregados em O(1).
+	 * @return o valor que estava no topo.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int desempilharInt() {
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		int item = meusDados[--tamanho];
+		soma -= item;
+		return item;
+	}
+
+	/**
+	 * Retorna o inteiro do topo sem removê-lo e sem boxing.
+	 * @return o valor no topo.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int topoInt() {
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		return meusDados[tamanho - 1];
+	}
+
+	/**
+	 * Retorna o menor elemento da pilha, em O(1).
+	 * @return o menor elemento.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int minimo() {
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		return minimos[tamanho - 1];
+	}
+
+	/**
+	 * Retorna o maior elemento da pilha, em O(1).
+	 * @return o maior elemento.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int maximo() {
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		return maximos[tamanho - 1];
+	}
+
+	/**
+	 * Retorna a soma dos elementos da pilha, em O(1). A soma é acumulada em
+	 * {@code long}, então não transborda para menos de 2^32 elementos.
+	 * @return a soma dos elementos, ou 0 se a pilha estiver vazia.
+	 */
+	public long soma() {
+		return soma;
+	}
+
+	/**
+	 * Retorna o número de elementos da pilha, em O(1).
+	 * @return o número de elementos.
+	 */
+	public int contagem() {
+		return tamanho;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A pilha não tem limite de capacidade.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void empilhar(Integer item) {
+		if (item == null) {
+			throw new IllegalArgumentException("PilhaAgregada não aceita elementos nulos.");
+		}
+		empilharInt(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	@Override
+	public Integer desempilhar() throws PilhaVaziaException {
+		return desempilharInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento no topo, ou {@code null} se a pilha estiver vazia.
+	 */
+	@Override
+	public Integer topo() {
+		return tamanho == 0 ? null : meusDados[tamanho - 1];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Retorna uma nova pilha agregada com os k elementos do topo desta pilha, na mesma
+	 * ordem, com os agregados recalculados para esses elementos.
+	 *
+	 * @param k o número de elementos a serem copiados.
+	 * @return uma nova pilha com os k elementos do topo, ou uma pilha vazia se k <= 0.
+	 * @throws PilhaVaziaException se k for maior que o número de elementos na pilha.
+	 */
+	@Override
+	public PilhaIF<Integer> multitop(int k) {
+		if (k <= 0) {
+			return new PilhaAgregada();
+		}
+		if (k > tamanho) {
+			throw new PilhaVaziaException("k é maior que o número de elementos na pilha.");
+		}
+		PilhaAgregada resultado = new PilhaAgregada(k);
+		for (int i = tamanho - k; i < tamanho; i++) {
+			resultado.empilharInt(meusDados[i]);
+		}
+		return resultado;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return tamanho == 0;
+	}
+
+	/**
+	 * Dobra a capacidade dos três arrays internos.
+	 */
+	private void crescer() {
+		int novaCapacidade = meusDados.length * 2;
+		int[] novosDados = new int[novaCapacidade];
+		int[] novosMinimos = new int[novaCapacidade];
+		int[] novosMaximos = new int[novaCapacidade];
+		System.arraycopy(meusDados, 0, novosDados, 0, tamanho);
+		System.arraycopy(minimos, 0, novosMinimos, 0, tamanho);
+		System.arraycopy(maximos, 0, novosMaximos, 0, tamanho);
+		meusDados = novosDados;
+		minimos = novosMinimos;
+		maximos = novosMaximos;
+	}
+
+}
@@ -0,0 +1,327 @@
+package tad.pilha;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicStampedReference;
+
+/**
+ * Pilha sem bloqueio com recuo por eliminação (elimination-backoff stack).
+ * Funciona como a {@link MinhaPilhaEncadeada}, mas quando o CAS no topo falha por
+ * contenção a thread tenta se encontrar com uma operação oposta em um array de
+ * trocadores: um {@code empilhar} e um {@code desempilhar} que colidem trocam o
+ * elemento diretamente e terminam sem tocar no topo compartilhado.
+ * <p>
+ * Cada thread mantém a sua própria faixa ativa do array e o seu tempo de espera.
+ * Uma troca bem-sucedida indica contenção alta, então a faixa aumenta para espalhar
+ * as threads; uma espera que expira sem parceiro indica contenção baixa, então a
+ * faixa diminui (concentrando as threads nos primeiros trocadores) e a espera fica
+ * mais curta.
+ * <p>
+ * A pilha não tem limite de capacidade, então {@link PilhaCheiaException} nunca é lançada.
+ */
+public class PilhaEliminacao implements PilhaIF<Integer> {
+
+	private static final long ESPERA_MINIMA_NANOS = 1_000;
+	private static final long ESPERA_MAXIMA_NANOS = 100_000;
+
+	/**
+	 * Nó da pilha. {@code proximo} só é escrito antes de o nó ser publicado pelo CAS.
+	 */
+	private static final class Nodo {
+		final Integer chave;
+		Nodo proximo;
+
+		Nodo(Integer chave) {
+			this.chave = chave;
+		}
+	}
+
+	/**
+	 * Trocador sem bloqueio de uma única posição. O carimbo indica o estado da posição:
+	 * vazia, com uma thread esperando, ou ocupada por uma troca em andamento.
+	 * Quem empilha oferece o seu {@link Nodo}; quem desempilha oferece {@code null}.
+	 */
+	private static final class Trocador {
+		private static final int VAZIO = 0;
+		private static final int ESPERANDO = 1;
+		private static final int OCUPADO = 2;
+
+		private final AtomicStampedReference<Nodo> posicao = new AtomicStampedReference<Nodo>(null, VAZIO);
+
+		/**
+		 * Tenta trocar {@code meuItem} com outra thread até o prazo.
+		 * @return o item recebido, ou {@link #TEMPO_ESGOTADO} se ninguém apareceu.
+		 */
+		Object trocar(Nodo meuItem, long esperaNanos) {
+			long prazo = System.nanoTime() + esperaNanos;
+			int[] carimbo = new int[1];
+			while (System.nanoTime() < prazo) {
+				Nodo item = posicao.get(carimbo);
+				switch (carimbo[0]) {
+				case VAZIO:
+					if (posicao.compareAndSet(item, meuItem, VAZIO, ESPERANDO)) {
+						while (System.nanoTime() < prazo) {
+							item = posicao.get(carimbo);
+							if (carimbo[0] == OCUPADO) {
+								posicao.set(null, VAZIO);
+								return item;
+							}
+							Thread.onSpinWait();
+						}
+						if (posicao.compareAndSet(meuItem, null, ESPERANDO, VAZIO)) {
+							return TEMPO_ESGOTADO;
+						}
+						// Um parceiro chegou entre o fim da espera e o CAS.
+						item = posicao.getReference();
+						posicao.set(null, VAZIO);
+						return item;
+					}
+					break;
+				case ESPERANDO:
+					if (posicao.compareAndSet(item, meuItem, ESPERANDO, OCUPADO)) {
+						return item;
+					}
+					break;
+				default: // OCUPADO: outras duas threads estão trocando, tenta de novo
+					Thread.onSpinWait();
+					break;
+				}
+			}
+			return TEMPO_ESGOTADO;
+		}
+	}
+
+	/**
+	 * Faixa ativa do array de eliminação e tempo de espera de uma thread.
+	 */
+	private static final class Politica {
+		int faixa = 1;
+		long esperaNanos = ESPERA_MINIMA_NANOS;
+	}
+
+	private static final Object TEMPO_ESGOTADO = new Object();
+
+	private final AtomicReference<Nodo> topo = new AtomicReference<Nodo>();
+	private final Trocador[] eliminacao;
+	private final ThreadLocal<Politica> politica = ThreadLocal.withInitial(Politica::new);
+
+	/**
+	 * Constrói uma pilha com um array de eliminação do tamanho especificado.
+	 * @param tamanhoEliminacao número máximo de trocadores que as threads podem usar.
+	 * @throws IllegalArgumentException se o tamanho não for positivo.
+	 */
+	public PilhaEliminacao(int tamanhoEliminacao) {
+		if (tamanhoEliminacao <= 0) {
+			throw new IllegalArgumentException("tamanho do array de eliminação deve ser positivo: " + tamanhoEliminacao);
+		}
+		eliminacao = new Trocador[tamanhoEliminacao];
+		for (int i = 0; i < tamanhoEliminacao; i++) {
+			eliminacao[i] = new Trocador();
+		}
+	}
+
+	/**
+	 * Constrói uma pilha com um trocador por processador disponível.
+	 */
+	public PilhaEliminacao() {
+		this(Math.max(1, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A pilha não tem limite de capacidade.
+	 */
+	@Override
+	public void empilhar(Integer item) {
+		Nodo novo = new Nodo(item);
+		while (true) {
+			Nodo atual = topo.get();
+			novo.proximo = atual;
+			if (topo.compareAndSet(atual, novo)) {
+				return;
+			}
+			// Quem desempilha oferece null: recebê-lo significa que o nó foi entregue.
+			if (visitarEliminacao(novo) == null) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws PilhaVaziaException se a pilha estiver vazia no momento da remoção.
+	 */
+	@Override
+	public Integer desempilhar() throws PilhaVaziaException {
+		Nodo removido = removerTopo();
+		if (removido == null) {
+			throw new PilhaVaziaException();
+		}
+		return removido.chave;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer tentarDesempilhar() {
+		Nodo removido = removerTopo();
+		return removido == null ? null : removido.chave;
+	}
+
+	/**
+	 * Remove o nó do topo com CAS ou recebe um nó de um {@code empilhar} concorrente
+	 * pelo array de eliminação.
+	 * @return o nó removido, ou {@code null} se a pilha estava vazia.
+	 */
+	private Nodo removerTopo() {
+		while (true) {
+			Nodo atual = topo.get();
+			if (atual == null) {
+				return null;
+			}
+			if (topo.compareAndSet(atual, atual.proximo)) {
+				return atual;
+			}
+			Object recebido = visitarEliminacao(null);
+			if (recebido instanceof Nodo) {
+				return (Nodo) recebido;
+			}
+		}
+	}
+
+	/**
+	 * Tenta eliminar a operação em um trocador aleatório da faixa ativa e ajusta a
+	 * política da thread de acordo com o resultado.
+	 * @param oferta o nó a entregar, ou {@code null} para pedir um nó.
+	 * @return o que foi recebido do parceiro, ou {@link #TEMPO_ESGOTADO}.
+	 */
+	private Object visitarEliminacao(Nodo oferta) {
+		Politica minha = politica.get();
+		int indice = ThreadLocalRandom.current().nextInt(minha.faixa);
+		Object recebido = eliminacao[indice].trocar(oferta, minha.esperaNanos);
+		if (recebido == TEMPO_ESGOTADO) {
+			if (minha.faixa > 1) {
+				minha.faixa--;
+			}
+			minha.esperaNanos = Math.max(ESPERA_MINIMA_NANOS, minha.esperaNanos / 2);
+		} else if ((recebido == null) != (oferta == null)) {
+			// Troca entre operações opostas: houve eliminação.
+			if (minha.faixa < eliminacao.length) {
+				minha.faixa++;
+			}
+			minha.esperaNanos = Math.min(ESPERA_MAXIMA_NANOS, minha.esperaNanos * 2);
+		} else {
+			// Encontrou uma operação do mesmo tipo; a troca não vale e ambas tentam de novo.
+			return TEMPO_ESGOTADO;
+		}
+		return recebido;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A cadeia com todos os itens é montada fora da pilha e ligada ao topo com um
+	 * único CAS, então os itens aparecem para as outras threads de uma só vez.
+	 */
+	@Override
+	public void empilharTodos(Integer[] itens) {
+		if (itens.length == 0) {
+			return;
+		}
+		Nodo base = new Nodo(itens[0]);
+		Nodo novoTopo = base;
+		for (int i = 1; i < itens.length; i++) {
+			Nodo novo = new Nodo(itens[i]);
+			novo.proximo = novoTopo;
+			novoTopo = novo;
+		}
+		Nodo atual;
+		do {
+			atual = topo.get();
+			base.proximo = atual;
+		} while (!topo.compareAndSet(atual, novoTopo));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Os elementos são retirados como um único trecho da cadeia, com um único CAS no topo.
+	 */
+	@Override
+	public int desempilharAte(Integer[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		Nodo atual;
+		Nodo corte;
+		int removidos;
+		do {
+			atual = topo.get();
+			corte = atual;
+			removidos = 0;
+			while (removidos < n && corte != null) {
+				corte = corte.proximo;
+				removidos++;
+			}
+		} while (removidos > 0 && !topo.compareAndSet(atual, corte));
+		// Os nós do trecho removido não mudam depois de publicados; copia do topo para a base.
+		Nodo no = atual;
+		for (int i = removidos - 1; i >= 0; i--) {
+			destino[i] = no.chave;
+			no = no.proximo;
+		}
+		return removidos;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento no topo, ou {@code null} se a pilha estiver vazia.
+	 */
+	@Override
+	public Integer topo() {
+		Nodo atual = topo.get();
+		return atual == null ? null : atual.chave;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Retorna uma nova pilha com os k elementos do topo de um único instantâneo,
+	 * com o topo desta pilha também no topo da nova.
+	 *
+	 * @param k o número de elementos a serem copiados.
+	 * @return uma nova pilha com os k elementos do topo, ou uma pilha vazia se k <= 0.
+	 * @throws PilhaVaziaException se o instantâneo tiver menos que k elementos.
+	 */
+	@Override
+	public PilhaIF<Integer> multitop(int k) {
+		PilhaEliminacao resultado = new PilhaEliminacao(eliminacao.length);
+		if (k <= 0) {
+			return resultado;
+		}
+		Integer[] chaves = new Integer[k];
+		Nodo atual = topo.get();
+		for (int i = 0; i < k; i++) {
+			if (atual == null) {
+				throw new PilhaVaziaException("k é maior que o número de elementos na pilha.");
+			}
+			chaves[i] = atual.chave;
+			atual = atual.proximo;
+		}
+		Nodo novoTopo = null;
+		for (int i = k - 1; i >= 0; i--) {
+			Nodo novo = new Nodo(chaves[i]);
+			novo.proximo = novoTopo;
+			novoTopo = novo;
+		}
+		resultado.topo.set(novoTopo);
+		return resultado;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return topo.get() == null;
+	}
+
+}
@@ -0,0 +1,233 @@
+package tad.pilha;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import tad.util.LiberadorDeBuffer;
+
+/**
+ * Implementação de uma pilha de inteiros armazenada fora do heap, em segmentos de
+ * {@link ByteBuffer} diretos com 4 bytes por elemento. O coletor de lixo só enxerga
+ * o pequeno array de referências para os segmentos, nunca os elementos, então pilhas
+ * com centenas de milhões de inteiros não aumentam o tempo das pausas de GC.
+ * <p>
+ * A pilha cresce alocando novos segmentos, sem copiar os existentes, e por isso não
+ * fica limitada ao tamanho máximo de um único buffer. Ao esvaziar, mantém no máximo
+ * um segmento livre de reserva e libera os demais.
+ * <p>
+ * A memória é liberada explicitamente por {@link #close()}; depois disso qualquer
+ * operação lança {@link IllegalStateException}. Use a pilha em um bloco
+ * try-with-resources. {@link PilhaCheiaException} só é lançada se a alocação de
+ * memória direta falhar.
+ */
+public class PilhaForaDoHeap implements PilhaIF<Integer>, AutoCloseable {
+
+	private static final int BYTES_POR_ELEMENTO = Integer.BYTES;
+	private static final int ELEMENTOS_POR_SEGMENTO_PADRAO = 1 << 20; // 4 MiB por segmento
+
+	private final int deslocamentoSegmento;  // log2 do número de elementos por segmento
+	private final int mascaraSegmento;
+	private ByteBuffer[] segmentos = new ByteBuffer[8];
+	private int segmentosAlocados = 0;
+	private long tamanho = 0;
+	private boolean fechada = false;
+
+	/**
+	 * Constrói uma pilha com segmentos do tamanho especificado.
+	 * @param elementosPorSegmento número de inteiros por segmento; deve ser uma potência
+	 *                             de dois entre 1 e 2^29.
+	 * @throws IllegalArgumentException se o tamanho do segmento for inválido.
+	 */
+	public PilhaForaDoHeap(int elementosPorSegmento) {
+		if (elementosPorSegmento <= 0 || elementosPorSegmento > (1 << 29)
+				|| Integer.bitCount(elementosPorSegmento) != 1) {
+			throw new IllegalArgumentException("elementos por segmento deve ser uma potência de dois entre 1 e 2^29: "
+					+ elementosPorSegmento);
+		}
+		this.deslocamentoSegmento = Integer.numberOfTrailingZeros(elementosPorSegmento);
+		this.mascaraSegmento = elementosPorSegmento - 1;
+	}
+
+	/**
+	 * Constrói uma pilha com segmentos de 2^20 inteiros (4 MiB).
+	 */
+	public PilhaForaDoHeap() {
+		this(ELEMENTOS_POR_SEGMENTO_PADRAO);
+	}
+
+	/**
+	 * Empilha um inteiro sem boxing.
+	 * @param item o valor a ser empilhado.
+	 * @throws PilhaCheiaException se não for possível alocar um novo segmento.
+	 */
+	public void empilharInt(int item) {
+		verificarAberta();
+		int indiceSegmento = (int) (tamanho >>> deslocamentoSegmento);
+		if (indiceSegmento == segmentosAlocados) {
+			alocarSegmento();
+		}
+		segmentos[indiceSegmento].putInt(((int) tamanho & mascaraSegmento) * BYTES_POR_ELEMENTO, item);
+		tamanho++;
+	}
+
+	/**
+	 * Desempilha o inteiro do topo sem boxing.
+	 * @return o valor que estava no topo.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int desempilharInt() {
+		int item = topoInt();
+		tamanho--;
+		// Mantém um segmento de reserva além do que contém o topo para não alocar e
+		// liberar repetidamente quando a pilha oscila na fronteira entre segmentos.
+		int segmentosUsados = (int) ((tamanho + mascaraSegmento) >>> deslocamentoSegmento);
+		if (segmentosAlocados > segmentosUsados + 1) {
+			liberarSegmento();
+		}
+		return item;
+	}
+
+	/**
+	 * Retorna o inteiro do topo sem removê-lo e sem boxing.
+	 * @return o valor no topo.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int topoInt() {
+		verificarAberta();
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		long indice = tamanho - 1;
+		return segmentos[(int) (indice >>> deslocamentoSegmento)].getInt(((int) indice & mascaraSegmento) * BYTES_POR_ELEMENTO);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws PilhaCheiaException se não for possível alocar um novo segmento.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void empilhar(Integer item) throws PilhaCheiaException {
+		if (item == null) {
+			throw new IllegalArgumentException("PilhaForaDoHeap não aceita elementos nulos.");
+		}
+		empilharInt(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	@Override
+	public Integer desempilhar() throws PilhaVaziaException {
+		return desempilharInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento no topo, ou {@code null} se a pilha estiver vazia.
+	 */
+	@Override
+	public Integer topo() {
+		verificarAberta();
+		return tamanho == 0 ? null : topoInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Retorna uma nova pilha fora do heap, com o mesmo tamanho de segmento, contendo os
+	 * k elementos do topo desta pilha na mesma ordem. A nova pilha também precisa ser fechada.
+	 *
+	 * @param k o número de elementos a serem copiados.
+	 * @return uma nova pilha com os k elementos do topo, ou uma pilha vazia se k <= 0.
+	 * @throws PilhaVaziaException se k for maior que o número de elementos na pilha.
+	 */
+	@Override
+	public PilhaIF<Integer> multitop(int k) {
+		verificarAberta();
+		PilhaForaDoHeap resultado = new PilhaForaDoHeap(mascaraSegmento + 1);
+		if (k <= 0) {
+			return resultado;
+		}
+		if (k > tamanho) {
+			throw new PilhaVaziaException("k é maior que o número de elementos na pilha.");
+		}
+		for (long i = tamanho - k; i < tamanho; i++) {
+			resultado.empilharInt(segmentos[(int) (i >>> deslocamentoSegmento)].getInt(((int) i & mascaraSegmento) * BYTES_POR_ELEMENTO));
+		}
+		return resultado;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		verificarAberta();
+		return tamanho == 0;
+	}
+
+	/**
+	 * Retorna o número de elementos na pilha.
+	 * @return o número de elementos.
+	 */
+	public long tamanho() {
+		verificarAberta();
+		return tamanho;
+	}
+
+	/**
+	 * Retorna quantos bytes fora do heap estão alocados pela pilha.
+	 * @return o total de bytes alocados nos segmentos.
+	 */
+	public long bytesAlocados() {
+		return (long) segmentosAlocados * (mascaraSegmento + 1) * BYTES_POR_ELEMENTO;
+	}
+
+	/**
+	 * Libera toda a memória fora do heap usada pela pilha. Chamar mais de uma vez não
+	 * tem efeito. Depois do fechamento, qualquer outra operação lança
+	 * {@link IllegalStateException}.
+	 */
+	@Override
+	public void close() {
+		if (fechada) {
+			return;
+		}
+		fechada = true;
+		while (segmentosAlocados > 0) {
+			liberarSegmento();
+		}
+		segmentos = null;
+		tamanho = 0;
+	}
+
+	private void verificarAberta() {
+		if (fechada) {
+			throw new IllegalStateException("a pilha já foi fechada.");
+		}
+	}
+
+	private void alocarSegmento() {
+		if (segmentosAlocados == segmentos.length) {
+			ByteBuffer[] maior = new ByteBuffer[segmentos.length * 2];
+			System.arraycopy(segmentos, 0, maior, 0, segmentosAlocados);
+			segmentos = maior;
+		}
+		try {
+			segmentos[segmentosAlocados] = ByteBuffer.allocateDirect((mascaraSegmento + 1) * BYTES_POR_ELEMENTO)
+					.order(ByteOrder.nativeOrder());
+		} catch (OutOfMemoryError e) {
+			throw new PilhaCheiaException();
+		}
+		segmentosAlocados++;
+	}
+
+	private void liberarSegmento() {
+		segmentosAlocados--;
+		ByteBuffer segmento = segmentos[segmentosAlocados];
+		segmentos[segmentosAlocados] = null;
+		LiberadorDeBuffer.liberar(segmento);
+	}
+
+}
@@ -11,5 +11,91 @@ public interface PilhaIF<E> {
 	public PilhaIF<E> multitop(int k);
 	
 	public boolean isEmpty();
+	
+	/**
+	 * Indica se a pilha está cheia. A implementação padrão retorna {@code false};
+	 * implementações com capacidade limitada devem sobrescrever este método.
+	 * @return {@code true} se a pilha estiver cheia.
+	 */
+	public default boolean isFull() {
+		return false;
+	}
+	
+	/**
+	 * Empilha todos os itens do array, na ordem em que aparecem: o último item
+	 * do array fica no topo. A implementação padrão empilha um a um; implementações
+	 * com capacidade limitada devem sobrescrever este método para empilhar tudo ou nada.
+	 * @param itens os itens a serem empilhados.
+	 * @throws PilhaCheiaException se não houver espaço para todos os itens.
+	 */
+	public default void empilharTodos(E[] itens) throws PilhaCheiaException {
+		for (E item : itens) {
+			empilhar(item);
+		}
+	}
+	
+	/**
+	 * Desempilha até n elementos, copiando-os para o início de {@code destino} na ordem
+	 * da pilha: {@code destino[0]} recebe o mais fundo dos elementos removidos e
+	 * {@code destino[m - 1]} o antigo topo. Assim, {@link #empilharTodos(Object[])}
+	 * com os mesmos elementos restaura a pilha. Não lança exceção se a pilha
+	 * tiver menos que n elementos.
+	 * @param destino o array que recebe os elementos removidos.
+	 * @param n o número máximo de elementos a remover.
+	 * @return o número de elementos efetivamente removidos.
+	 * @throws IllegalArgumentException se n for negativo ou maior que o tamanho de {@code destino}.
+	 */
+	public default int desempilharAte(E[] destino, int n) {
+		if (n < 0 || n > destino.length) {
+			throw new IllegalArgumentException("quantidade inválida: " + n);
+		}
+		int removidos = 0;
+		while (removidos < n && !isEmpty()) {
+			destino[removidos++] = desempilhar();
+		}
+		// Os elementos saíram do topo para a base; inverte para deixá-los na ordem da pilha.
+		for (int i = 0, j = removidos - 1; i < j; i++, j--) {
+			E temp = destino[i];
+			destino[i] = destino[j];
+			destino[j] = temp;
+		}
+		return removidos;
+	}
+	
+	/**
+	 * Tenta empilhar o item sem lançar exceção quando a pilha está cheia. A implementação
+	 * padrão consulta {@link #isFull()} antes de empilhar e só captura
+	 * {@link PilhaCheiaException} como salvaguarda, para pilhas que enchem sem avisar.
+	 * @param item o item a ser empilhado.
+	 * @return {@code true} se o item foi empilhado, {@code false} se a pilha estava cheia.
+	 */
+	public default boolean tentarEmpilhar(E item) {
+		if (isFull()) {
+			return false;
+		}
+		try {
+			empilhar(item);
+			return true;
+		} catch (PilhaCheiaException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Tenta desempilhar sem lançar exceção quando a pilha está vazia. Em pilhas que
+	 * aceitam {@code null}, o retorno {@code null} é ambíguo; use {@link #isEmpty()}
+	 * antes se precisar distinguir os casos.
+	 * @return o elemento removido, ou {@code null} se a pilha estava vazia.
+	 */
+	public default E tentarDesempilhar() {
+		if (isEmpty()) {
+			return null;
+		}
+		try {
+			return desempilhar();
+		} catch (PilhaVaziaException e) {
+			return null;
+		}
+	}
 
 }
@@ -0,0 +1,156 @@
+package tad.pilha;
+
+/**
+ * Pilha persistente (imutável) com compartilhamento estrutural.
+ * Nenhuma operação altera a pilha: {@link #empilhar(Object)} e {@link #desempilhar()}
+ * retornam uma nova versão em O(1), que compartilha todos os nós com a versão anterior.
+ * Como nada é modificado depois de criado, qualquer versão pode ser lida por várias
+ * threads ao mesmo tempo, sem locks e sem cópias.
+ * <p>
+ * Cada versão guarda o nó do topo e o seu tamanho; os nós abaixo do tamanho são
+ * ignorados. Isso permite que {@link #multitop(int)} devolva os k elementos do topo
+ * em O(1), apenas limitando o tamanho da nova versão.
+ * <p>
+ * Para uso como {@link PilhaIF} mutável, veja {@link PilhaVersionada}.
+ *
+ * @param <E> o tipo dos elementos da pilha.
+ */
+public final class PilhaPersistente<E> {
+
+	private static final class Nodo<E> {
+		final E chave;
+		final Nodo<E> proximo;
+
+		Nodo(E chave, Nodo<E> proximo) {
+			this.chave = chave;
+			this.proximo = proximo;
+		}
+	}
+
+	private static final PilhaPersistente<Object> VAZIA = new PilhaPersistente<Object>(null, 0);
+
+	private final Nodo<E> topo;
+	private final int tamanho;
+
+	private PilhaPersistente(Nodo<E> topo, int tamanho) {
+		this.topo = topo;
+		this.tamanho = tamanho;
+	}
+
+	/**
+	 * Retorna a pilha persistente vazia.
+	 * @param <E> o tipo dos elementos da pilha.
+	 * @return a pilha vazia.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PilhaPersistente<E> vazia() {
+		return (PilhaPersistente<E>) VAZIA;
+	}
+
+	/**
+	 * Retorna uma nova versão com o item no topo. Esta versão não é alterada.
+	 * @param item o item a ser empilhado.
+	 * @return a nova versão da pilha.
+	 */
+	public PilhaPersistente<E> empilhar(E item) {
+		if (tamanho == Integer.MAX_VALUE) {
+			throw new PilhaCheiaException();
+		}
+		return new PilhaPersistente<E>(new Nodo<E>(item, topo), tamanho + 1);
+	}
+
+	/**
+	 * Retorna uma nova versão sem o elemento do topo. Esta versão não é alterada;
+	 * use {@link #topo()} antes para obter o elemento removido.
+	 * @return a nova versão da pilha.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public PilhaPersistente<E> desempilhar() {
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		return tamanho == 1 ? vazia() : new PilhaPersistente<E>(topo.proximo, tamanho - 1);
+	}
+
+	/**
+	 * Retorna o elemento do topo.
+	 * @return o elemento no topo, ou {@code null} se a pilha estiver vazia.
+	 */
+	public E topo() {
+		return tamanho == 0 ? null : topo.chave;
+	}
+
+	/**
+	 * Retorna, em O(1), uma versão com os k elementos do topo desta pilha, na mesma
+	 * ordem. Os nós são compartilhados com esta versão.
+	 * @param k o número de elementos do topo.
+	 * @return a versão com os k elementos do topo, ou a pilha vazia se k <= 0.
+	 * @throws PilhaVaziaException se k for maior que o número de elementos na pilha.
+	 */
+	public PilhaPersistente<E> multitop(int k) {
+		if (k <= 0) {
+			return vazia();
+		}
+		if (k > tamanho) {
+			throw new PilhaVaziaException("k é maior que o número de elementos na pilha.");
+		}
+		return k == tamanho ? this : new PilhaPersistente<E>(topo, k);
+	}
+
+	/**
+	 * Verifica se a pilha está vazia.
+	 * @return true se a pilha estiver vazia, false caso contrário.
+	 */
+	public boolean isEmpty() {
+		return tamanho == 0;
+	}
+
+	/**
+	 * Retorna o número de elementos da pilha.
+	 * @return o número de elementos.
+	 */
+	public int tamanho() {
+		return tamanho;
+	}
+
+	/**
+	 * Duas versões são iguais se contiverem os mesmos elementos na mesma ordem.
+	 *
+	 * @param obj o objeto a ser comparado com esta pilha.
+	 * @return {@code true} se as pilhas forem iguais, {@code false} caso contrário.
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (obj == null || getClass() != obj.getClass()) return false;
+		PilhaPersistente<?> outra = (PilhaPersistente<?>) obj;
+		if (this.tamanho != outra.tamanho) return false;
+		Nodo<E> este = this.topo;
+		Nodo<?> outro = outra.topo;
+		for (int i = 0; i < tamanho && este != outro; i++) {
+			if (este.chave == null ? outro.chave != null : !este.chave.equals(outro.chave)) {
+				return false;
+			}
+			este = este.proximo;
+			outro = outro.proximo;
+		}
+		return true;
+	}
+
+	/**
+	 * Retorna um código hash baseado nos elementos da pilha.
+	 *
+	 * @return um código hash para esta pilha.
+	 */
+	@Override
+	public int hashCode() {
+		int result = 1;
+		Nodo<E> atual = topo;
+		for (int i = 0; i < tamanho; i++) {
+			result = 31 * result + (atual.chave == null ? 0 : atual.chave.hashCode());
+			atual = atual.proximo;
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,198 @@
+package tad.pilha;
+
+/**
+ * Implementação de uma pilha de inteiros segmentada (unrolled): os elementos ficam em
+ * segmentos {@code int[]} de tamanho fixo, encadeados do topo para a base.
+ * <p>
+ * Diferente de uma pilha sobre um único array, crescer nunca copia os elementos já
+ * empilhados: quando o segmento do topo enche, um novo segmento é ligado acima dele.
+ * Assim {@code empilhar} e {@code desempilhar} são O(1) no pior caso, e dentro de um
+ * segmento os acessos são sequenciais como em um array, ao contrário de uma pilha
+ * com um nó por elemento.
+ * <p>
+ * O último segmento esvaziado fica guardado como reserva e é reaproveitado no próximo
+ * crescimento, evitando alocar e descartar segmentos quando a pilha oscila na fronteira
+ * entre dois deles. A pilha não tem limite de capacidade.
+ */
+public class PilhaSegmentada implements PilhaIF<Integer> {
+
+	private static final int TAMANHO_SEGMENTO_PADRAO = 1024;
+
+	private static final class Segmento {
+		final int[] dados;
+		Segmento anterior; // Segmento logo abaixo, ou null se este for o da base
+
+		Segmento(int tamanho) {
+			this.dados = new int[tamanho];
+		}
+	}
+
+	private final int tamanhoSegmento;
+	private Segmento segmentoTopo;
+	private int posicao;   // Elementos ocupados em segmentoTopo; só é 0 quando a pilha está vazia
+	private Segmento reserva = null;
+	private long tamanho = 0;
+
+	/**
+	 * Constrói uma pilha com segmentos do tamanho especificado.
+	 * @param tamanhoSegmento número de inteiros por segmento.
+	 * @throws IllegalArgumentException se o tamanho do segmento não for positivo.
+	 */
+	public PilhaSegmentada(int tamanhoSegmento) {
+		if (tamanhoSegmento <= 0) {
+			throw new IllegalArgumentException("tamanho do segmento deve ser positivo: " + tamanhoSegmento);
+		}
+		this.tamanhoSegmento = tamanhoSegmento;
+		this.segmentoTopo = new Segmento(tamanhoSegmento);
+		this.posicao = 0;
+	}
+
+	/**
+	 * Constrói uma pilha com segmentos de 1024 inteiros.
+	 */
+	public PilhaSegmentada() {
+		this(TAMANHO_SEGMENTO_PADRAO);
+	}
+
+	/**
+	 * Empilha um inteiro sem boxing, em O(1) no pior caso.
+	 * @param item o valor a ser empilhado.
+	 */
+	public void empilharInt(int item) {
+		if (posicao == tamanhoSegmento) {
+			Segmento novo = reserva != null ? reserva : new Segmento(tamanhoSegmento);
+			reserva = null;
+			novo.anterior = segmentoTopo;
+			segmentoTopo = novo;
+			posicao = 0;
+		}
+		segmentoTopo.dados[posicao++] = item;
+		tamanho++;
+	}
+
+	/**
+	 * Desempilha o inteiro do topo sem boxing, em O(1) no pior caso.
+	 * @return o valor que estava no topo.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int desempilharInt() {
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		int item = segmentoTopo.dados[--posicao];
+		tamanho--;
+		if (posicao == 0 && segmentoTopo.anterior != null) {
+			// O segmento esvaziou: vira a reserva e o topo volta para o segmento de baixo.
+			Segmento vazio = segmentoTopo;
+			segmentoTopo = vazio.anterior;
+			vazio.anterior = null;
+			reserva = vazio;
+			posicao = tamanhoSegmento;
+		}
+		return item;
+	}
+
+	/**
+	 * Retorna o inteiro do topo sem removê-lo e sem boxing.
+	 * @return o valor no topo.
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	public int topoInt() {
+		if (tamanho == 0) {
+			throw new PilhaVaziaException();
+		}
+		return segmentoTopo.dados[posicao - 1];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A pilha não tem limite de capacidade.
+	 * @throws IllegalArgumentException se o item for {@code null}.
+	 */
+	@Override
+	public void empilhar(Integer item) {
+		if (item == null) {
+			throw new IllegalArgumentException("PilhaSegmentada não aceita elementos nulos.");
+		}
+		empilharInt(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	@Override
+	public Integer desempilhar() throws PilhaVaziaException {
+		return desempilharInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento no topo, ou {@code null} se a pilha estiver vazia.
+	 */
+	@Override
+	public Integer topo() {
+		return tamanho == 0 ? null : segmentoTopo.dados[posicao - 1];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Retorna uma nova pilha segmentada com os k elementos do topo desta pilha, na mesma
+	 * ordem. Os elementos são copiados em bloco, percorrendo os segmentos do topo para a base.
+	 *
+	 * @param k o número de elementos a serem copiados.
+	 * @return uma nova pilha com os k elementos do topo, ou uma pilha vazia se k <= 0.
+	 * @throws PilhaVaziaException se k for maior que o número de elementos na pilha.
+	 */
+	@Override
+	public PilhaIF<Integer> multitop(int k) {
+		PilhaSegmentada resultado = new PilhaSegmentada(tamanhoSegmento);
+		if (k <= 0) {
+			return resultado;
+		}
+		if (k > tamanho) {
+			throw new PilhaVaziaException("k é maior que o número de elementos na pilha.");
+		}
+		int[] elementos = new int[k];
+		int faltam = k;
+		Segmento segmento = segmentoTopo;
+		int ocupados = posicao;
+		while (faltam > 0) {
+			int copiar = Math.min(faltam, ocupados);
+			System.arraycopy(segmento.dados, ocupados - copiar, elementos, faltam - copiar, copiar);
+			faltam -= copiar;
+			segmento = segmento.anterior;
+			ocupados = tamanhoSegmento;
+		}
+		for (int i = 0; i < k; i += tamanhoSegmento) {
+			int copiar = Math.min(tamanhoSegmento, k - i);
+			if (resultado.posicao == tamanhoSegmento) {
+				Segmento novo = new Segmento(tamanhoSegmento);
+				novo.anterior = resultado.segmentoTopo;
+				resultado.segmentoTopo = novo;
+				resultado.posicao = 0;
+			}
+			System.arraycopy(elementos, i, resultado.segmentoTopo.dados, 0, copiar);
+			resultado.posicao = copiar;
+		}
+		resultado.tamanho = k;
+		return resultado;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return tamanho == 0;
+	}
+
+	/**
+	 * Retorna o número de elementos na pilha.
+	 * @return o número de elementos.
+	 */
+	public long tamanho() {
+		return tamanho;
+	}
+
+}
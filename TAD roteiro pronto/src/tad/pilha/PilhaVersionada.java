@@ -0,0 +1,110 @@
+package tad.pilha;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pilha mutável que implementa {@link PilhaIF} guardando a versão atual de uma
+ * {@link PilhaPersistente}. Cada escrita troca a versão atual por uma nova com
+ * compare-and-set, então os escritores não bloqueiam uns aos outros nem os leitores.
+ * <p>
+ * Leitores que precisam de uma visão consistente chamam {@link #versao()} e recebem um
+ * instantâneo imutável em O(1), que continua válido enquanto as escritas prosseguem.
+ *
+ * @param <E> o tipo dos elementos da pilha.
+ */
+public class PilhaVersionada<E> implements PilhaIF<E> {
+
+	private final AtomicReference<PilhaPersistente<E>> atual;
+
+	/**
+	 * Constrói uma pilha vazia.
+	 */
+	public PilhaVersionada() {
+		this(PilhaPersistente.<E>vazia());
+	}
+
+	/**
+	 * Constrói uma pilha cujo conteúdo inicial é a versão especificada.
+	 * @param inicial a versão inicial.
+	 */
+	public PilhaVersionada(PilhaPersistente<E> inicial) {
+		this.atual = new AtomicReference<PilhaPersistente<E>>(inicial);
+	}
+
+	/**
+	 * Retorna um instantâneo imutável do conteúdo atual, em O(1).
+	 * @return a versão atual da pilha.
+	 */
+	public PilhaPersistente<E> versao() {
+		return atual.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * A pilha não tem limite de capacidade.
+	 */
+	@Override
+	public void empilhar(E item) {
+		PilhaPersistente<E> anterior;
+		do {
+			anterior = atual.get();
+		} while (!atual.compareAndSet(anterior, anterior.empilhar(item)));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @throws PilhaVaziaException se a pilha estiver vazia.
+	 */
+	@Override
+	public E desempilhar() throws PilhaVaziaException {
+		PilhaPersistente<E> anterior;
+		do {
+			anterior = atual.get();
+		} while (!atual.compareAndSet(anterior, anterior.desempilhar()));
+		return anterior.topo();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E tentarDesempilhar() {
+		PilhaPersistente<E> anterior;
+		do {
+			anterior = atual.get();
+			if (anterior.isEmpty()) {
+				return null;
+			}
+		} while (!atual.compareAndSet(anterior, anterior.desempilhar()));
+		return anterior.topo();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * @return o elemento no topo, ou {@code null} se a pilha estiver vazia.
+	 */
+	@Override
+	public E topo() {
+		return atual.get().topo();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Retorna, em O(1), uma nova pilha que começa com os k elementos do topo da versão
+	 * atual, compartilhando os nós com ela. O topo desta pilha também é o topo da nova.
+	 * @throws PilhaVaziaException se k for maior que o número de elementos na pilha.
+	 */
+	@Override
+	public PilhaIF<E> multitop(int k) {
+		return new PilhaVersionada<E>(atual.get().multitop(k));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty() {
+		return atual.get().isEmpty();
+	}
+
+}
@@ -0,0 +1,56 @@
+package tad.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Libera imediatamente a memória de um buffer direto ou desfaz o mapeamento de um
+ * {@link java.nio.MappedByteBuffer}. O JDK não expõe isso em uma API pública antes da
+ * API de memória externa, então a classe usa {@code sun.misc.Unsafe.invokeCleaner}
+ * quando disponível; caso contrário a memória é devolvida quando o coletor descartar
+ * o buffer.
+ * <p>
+ * Depois de liberado, o buffer não pode mais ser usado: qualquer acesso pode derrubar a JVM.
+ */
+public final class LiberadorDeBuffer {
+
+	private static final Object UNSAFE;
+	private static final Method INVOKE_CLEANER;
+
+	static {
+		Object unsafe = null;
+		Method invokeCleaner = null;
+		try {
+			Class<?> classe = Class.forName("sun.misc.Unsafe");
+			Field campo = classe.getDeclaredField("theUnsafe");
+			campo.setAccessible(true);
+			unsafe = campo.get(null);
+			invokeCleaner = classe.getMethod("invokeCleaner", ByteBuffer.class);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			unsafe = null;
+			invokeCleaner = null;
+		}
+		UNSAFE = unsafe;
+		INVOKE_CLEANER = invokeCleaner;
+	}
+
+	private LiberadorDeBuffer() {
+	}
+
+	/**
+	 * Libera o buffer direto dado.
+	 * @param buffer o buffer a liberar; deve ser direto e não pode ser uma fatia ou duplicata.
+	 */
+	public static void liberar(ByteBuffer buffer) {
+		if (INVOKE_CLEANER == null) {
+			return;
+		}
+		try {
+			INVOKE_CLEANER.invoke(UNSAFE, buffer);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// A memória será devolvida pelo coletor.
+		}
+	}
+
+}
@@ -0,0 +1,139 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import tad.fila.AnelDeEventos;
+import tad.fila.BarreiraAlertadaException;
+import tad.fila.BarreiraDeSequencia;
+import tad.fila.EstrategiaDeEspera;
+import tad.fila.ProcessadorDeEventos;
+
+public class TestaAnelDeEventos {
+
+	/** Evento mutável reaproveitado pelo anel. */
+	private static final class Evento {
+		long valor;
+		long dobro;
+	}
+
+	@Test
+	public void eventosPreAlocadosTest() {
+		AnelDeEventos<Evento> anel = new AnelDeEventos<Evento>(Evento::new, 4, EstrategiaDeEspera.ocupada());
+		assertEquals(4, anel.capacidade());
+		assertEquals(-1, anel.cursor());
+		assertSame(anel.obter(1), anel.obter(5));
+		long sequencia = anel.proximo();
+		assertEquals(0, sequencia);
+		anel.obter(sequencia).valor = 10;
+		BarreiraDeSequencia barreira = anel.novaBarreira();
+		assertEquals(-1, barreira.disponivel());
+		anel.publicar(sequencia);
+		assertEquals(0, barreira.esperarPor(0));
+		assertEquals(3, anel.proximo(3));
+		anel.publicar(3);
+		assertEquals(3, barreira.esperarPor(1));
+		barreira.alertar();
+		assertThrows(BarreiraAlertadaException.class, () -> barreira.esperarPor(4));
+		assertThrows(IllegalArgumentException.class,
+				() -> new AnelDeEventos<Evento>(Evento::new, 6, EstrategiaDeEspera.ocupada()));
+	}
+
+	/**
+	 * Um manipulador que falha em parte dos eventos não pode travar o pipeline: o anel
+	 * dá várias voltas, então o produtor só termina se a sequência do estágio continuar
+	 * avançando depois de cada falha.
+	 */
+	@Test
+	public void manipuladorQueLancaExcecaoTest() throws InterruptedException {
+		final int total = 100;
+		AnelDeEventos<Evento> anel = new AnelDeEventos<Evento>(Evento::new, 4, EstrategiaDeEspera.cedendo());
+		final List<Long> falhas = new ArrayList<Long>();
+		final AtomicInteger processados = new AtomicInteger();
+		ProcessadorDeEventos<Evento> estagio = new ProcessadorDeEventos<Evento>(anel, anel.novaBarreira(),
+				(evento, sequencia, fimDoLote) -> {
+					if (sequencia % 3 == 0) {
+						throw new IllegalStateException("falha no evento " + sequencia);
+					}
+					processados.incrementAndGet();
+				}, (erro, evento, sequencia) -> {
+					if (erro instanceof IllegalStateException && evento.valor == sequencia) {
+						falhas.add(sequencia);
+					}
+				});
+		anel.adicionarSequenciasDeControle(estagio.getSequencia());
+		Thread thread = new Thread(estagio);
+		thread.start();
+		for (int i = 0; i < total; i++) {
+			long sequencia = anel.proximo();
+			anel.obter(sequencia).valor = sequencia;
+			anel.publicar(sequencia);
+		}
+		while (estagio.getSequencia().get() < total - 1) {
+			Thread.yield();
+		}
+		estagio.parar();
+		thread.join();
+		assertEquals(34, falhas.size());
+		for (int i = 0; i < falhas.size(); i++) {
+			assertEquals(Long.valueOf(3L * i), falhas.get(i));
+		}
+		assertEquals(total - 34, processados.get());
+	}
+
+	/**
+	 * Pipeline de dois estágios num anel pequeno, para forçar muitas voltas: o estágio A
+	 * calcula o dobro de cada valor e o estágio B só pode ver eventos que A já processou.
+	 */
+	@Test
+	public void pipelineDoisEstagiosTest() throws InterruptedException {
+		final int total = 100_000;
+		AnelDeEventos<Evento> anel = new AnelDeEventos<Evento>(Evento::new, 8, EstrategiaDeEspera.cedendo());
+		ProcessadorDeEventos<Evento> estagioA = new ProcessadorDeEventos<Evento>(anel, anel.novaBarreira(),
+				(evento, sequencia, fimDoLote) -> evento.dobro = evento.valor * 2);
+		final long[] soma = new long[1];
+		final AtomicInteger erros = new AtomicInteger();
+		final AtomicInteger lotes = new AtomicInteger();
+		ProcessadorDeEventos<Evento> estagioB = new ProcessadorDeEventos<Evento>(anel,
+				anel.novaBarreira(estagioA.getSequencia()), (evento, sequencia, fimDoLote) -> {
+					if (evento.valor != sequencia || evento.dobro != 2 * sequencia) {
+						erros.incrementAndGet();
+					}
+					soma[0] += evento.dobro;
+					if (fimDoLote) {
+						lotes.incrementAndGet();
+					}
+				});
+		anel.adicionarSequenciasDeControle(estagioB.getSequencia());
+		Thread threadA = new Thread(estagioA);
+		Thread threadB = new Thread(estagioB);
+		threadA.start();
+		threadB.start();
+		for (int i = 0; i < total; i++) {
+			long sequencia = anel.proximo();
+			Evento evento = anel.obter(sequencia);
+			evento.valor = sequencia;
+			evento.dobro = -1;
+			anel.publicar(sequencia);
+		}
+		while (estagioB.getSequencia().get() < total - 1) {
+			Thread.yield();
+		}
+		estagioA.parar();
+		estagioB.parar();
+		threadA.join();
+		threadB.join();
+		assertEquals(0, erros.get(), "o estágio B viu um evento antes do estágio A");
+		assertEquals((long) total * (total - 1), soma[0]);
+		assertTrue(lotes.get() > 0 && lotes.get() <= total);
+	}
+
+}
@@ -0,0 +1,168 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+import tad.deque.DequeRouboDeTrabalho;
+import tad.deque.EscalonadorRouboDeTrabalho;
+import tad.deque.TarefaRecursiva;
+
+public class TestaDequeRouboDeTrabalho {
+
+	@Test
+	public void pontasDaDonaEDoLadraoTest() {
+		DequeRouboDeTrabalho<Integer> deque = new DequeRouboDeTrabalho<Integer>(2);
+		assertTrue(deque.isEmpty());
+		assertNull(deque.removePrimeiro());
+		assertNull(deque.removeUltimo());
+		for (int i = 0; i < 10; i++) {
+			deque.inserePrimeiro(i); // Cresce de 2 para 16 posições.
+		}
+		assertEquals(10, deque.tamanho());
+		assertEquals(Integer.valueOf(9), deque.removePrimeiro());
+		assertEquals(Integer.valueOf(0), deque.removeUltimo());
+		assertEquals(Integer.valueOf(1), deque.removeUltimo());
+		assertEquals(Integer.valueOf(8), deque.removePrimeiro());
+		assertEquals(6, deque.tamanho());
+		for (int i = 7; i >= 2; i--) {
+			assertEquals(Integer.valueOf(i), deque.removePrimeiro());
+		}
+		assertTrue(deque.isEmpty());
+		assertNull(deque.removePrimeiro());
+		assertThrows(IllegalArgumentException.class, () -> deque.inserePrimeiro(null));
+		assertThrows(IllegalArgumentException.class, () -> new DequeRouboDeTrabalho<Integer>(0));
+	}
+
+	/**
+	 * A dona insere e remove enquanto três ladrões roubam: cada elemento deve sair
+	 * exatamente uma vez.
+	 */
+	@Test
+	public void donaELadroesConcorrentesTest() throws InterruptedException {
+		int quantidade = 100_000;
+		DequeRouboDeTrabalho<Integer> deque = new DequeRouboDeTrabalho<Integer>(4);
+		AtomicIntegerArray vistos = new AtomicIntegerArray(quantidade);
+		AtomicBoolean terminou = new AtomicBoolean(false);
+		Thread[] ladroes = new Thread[3];
+		for (int l = 0; l < ladroes.length; l++) {
+			ladroes[l] = new Thread(() -> {
+				while (!terminou.get() || !deque.isEmpty()) {
+					Integer item = deque.removeUltimo();
+					if (item != null) {
+						vistos.incrementAndGet(item);
+					} else {
+						Thread.yield();
+					}
+				}
+			});
+			ladroes[l].start();
+		}
+		for (int i = 0; i < quantidade; i++) {
+			deque.inserePrimeiro(i);
+			if (i % 3 == 0) {
+				Integer item = deque.removePrimeiro();
+				if (item != null) {
+					vistos.incrementAndGet(item);
+				}
+			}
+		}
+		terminou.set(true);
+		for (Thread ladrao : ladroes) {
+			ladrao.join();
+		}
+		for (int i = 0; i < quantidade; i++) {
+			assertEquals(1, vistos.get(i), "elemento " + i);
+		}
+	}
+
+	@Test
+	public void fibonacciRecursivoTest() throws InterruptedException {
+		try (EscalonadorRouboDeTrabalho escalonador = new EscalonadorRouboDeTrabalho(4)) {
+			assertEquals(4, escalonador.paralelismo());
+			assertEquals(Long.valueOf(6765), escalonador.invocar(new Fibonacci(20)));
+			assertEquals(Long.valueOf(832040), escalonador.invocar(new Fibonacci(30)));
+			assertTrue(escalonador.roubosRealizados() >= 0);
+		}
+	}
+
+	@Test
+	public void excecaoEUsoForaDoEscalonadorTest() throws InterruptedException {
+		try (EscalonadorRouboDeTrabalho escalonador = new EscalonadorRouboDeTrabalho(2)) {
+			TarefaRecursiva<Long> falha = escalonador.submeter(new Fibonacci(-1));
+			assertThrows(IllegalArgumentException.class, () -> falha.juntar());
+			assertTrue(falha.isConcluida());
+		}
+		Fibonacci solta = new Fibonacci(15);
+		assertThrows(IllegalStateException.class, () -> solta.bifurcar());
+		assertThrows(IllegalStateException.class, () -> solta.juntar());
+		assertFalse(solta.isConcluida());
+	}
+
+	/**
+	 * O único trabalhador fica ocupado até o encerramento, então a segunda tarefa ainda
+	 * está na fila de submissões quando o escalonador fecha: juntar() deve falhar em vez
+	 * de esperar para sempre.
+	 */
+	@Test
+	public void encerramentoCancelaSubmetidasTest() throws InterruptedException {
+		CountDownLatch comecou = new CountDownLatch(1);
+		EscalonadorRouboDeTrabalho escalonador = new EscalonadorRouboDeTrabalho(1);
+		TarefaRecursiva<Long> ocupada = escalonador.submeter(new TarefaRecursiva<Long>() {
+			@Override
+			protected Long computar() {
+				comecou.countDown();
+				try {
+					new CountDownLatch(1).await(); // Só o encerramento a interrompe.
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return 1L;
+			}
+		});
+		comecou.await();
+		TarefaRecursiva<Long> pendente = escalonador.submeter(new Fibonacci(10));
+		escalonador.close();
+		assertEquals(Long.valueOf(1), ocupada.juntar());
+		assertTrue(pendente.isConcluida());
+		assertThrows(CancellationException.class, () -> pendente.juntar());
+		assertThrows(IllegalStateException.class, () -> escalonador.submeter(new Fibonacci(1)));
+		escalonador.close(); // Segundo encerramento não faz nada.
+	}
+
+	private static final class Fibonacci extends TarefaRecursiva<Long> {
+		private final int n;
+
+		Fibonacci(int n) {
+			this.n = n;
+		}
+
+		@Override
+		protected Long computar() {
+			if (n < 0) {
+				throw new IllegalArgumentException("n negativo: " + n);
+			}
+			if (n < 12) {
+				return sequencial(n);
+			}
+			Fibonacci menor = new Fibonacci(n - 2);
+			menor.bifurcar();
+			long maior = new Fibonacci(n - 1).invocar();
+			return maior + menor.juntar();
+		}
+
+		private static long sequencial(int n) {
+			return n < 2 ? n : sequencial(n - 1) + sequencial(n - 2);
+		}
+	}
+
+}
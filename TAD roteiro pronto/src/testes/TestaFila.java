@@ -1,5 +1,6 @@
 package testes;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.Assert;
@@ -155,5 +156,40 @@ public class TestaFila {
 				fila.enfileirar(i);
 			}
 		}
+	
+	@Test
+	public void enfileirarTodosDesenfileirarAteTest() throws Exception {
+		fila = new MinhaFila(5);
+		fila.enfileirarTodos(new Integer[] {1, 2, 3});
+		Integer[] destino = new Integer[5];
+		Assert.assertEquals(2, fila.desenfileirarAte(destino, 2));
+		assertArrayEquals(new Integer[] {1, 2, null, null, null}, destino);
+		
+		// O bloco dá a volta no fim do array circular
+		fila.enfileirarTodos(new Integer[] {4, 5, 6, 7});
+		Assert.assertTrue(fila.isFull());
+		Assert.assertEquals(new Integer(7), fila.verificarCauda());
+		try {
+			fila.enfileirarTodos(new Integer[] {8});
+			Assert.fail("deveria lançar FilaCheiaException");
+		} catch (FilaCheiaException fce) {}
+		
+		Assert.assertEquals(5, fila.desenfileirarAte(destino, 5));
+		assertArrayEquals(new Integer[] {3, 4, 5, 6, 7}, destino);
+		Assert.assertTrue(fila.isEmpty());
+		Assert.assertEquals(0, fila.desenfileirarAte(destino, 5));
+	}
+	
+	@Test
+	public void tentarEnfileirarDesenfileirarTest() {
+		fila = new MinhaFila(2);
+		Assert.assertNull(fila.tentarDesenfileirar());
+		Assert.assertTrue(fila.tentarEnfileirar(3));
+		Assert.assertTrue(fila.tentarEnfileirar(5));
+		Assert.assertFalse(fila.tentarEnfileirar(7));
+		Assert.assertEquals(new Integer(3), fila.tentarDesenfileirar());
+		Assert.assertEquals(new Integer(5), fila.tentarDesenfileirar());
+		Assert.assertNull(fila.tentarDesenfileirar());
+	}
 
 }
@@ -0,0 +1,152 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaBloqueante;
+import tad.fila.FilaCheiaException;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaBloqueante {
+
+	private FilaBloqueante<Integer> fila = null;
+
+	@BeforeEach
+	public void iniciar() {
+		fila = new FilaBloqueante<Integer>(3);
+	}
+
+	@Test
+	public void operacoesSemEsperaTest() throws FilaCheiaException, FilaVaziaException {
+		assertTrue(fila.isEmpty());
+		assertNull(fila.tentarDesenfileirar());
+		fila.enfileirar(1);
+		fila.enfileirar(2);
+		fila.enfileirar(3);
+		assertTrue(fila.isFull());
+		assertFalse(fila.tentarEnfileirar(4));
+		assertThrows(FilaCheiaException.class, () -> fila.enfileirar(4));
+		assertEquals(Integer.valueOf(1), fila.verificarCabeca());
+		assertEquals(Integer.valueOf(3), fila.verificarCauda());
+		assertEquals(Integer.valueOf(1), fila.desenfileirar());
+		fila.enfileirar(4);
+		assertEquals(Integer.valueOf(4), fila.verificarCauda());
+		Integer[] destino = new Integer[3];
+		assertEquals(3, fila.desenfileirarAte(destino, 3));
+		assertArrayEquals(new Integer[] {2, 3, 4}, destino);
+		assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+		assertThrows(IllegalArgumentException.class, () -> fila.enfileirar(null));
+	}
+
+	@Test
+	public void prazoTest() throws InterruptedException, FilaCheiaException {
+		assertNull(fila.tentarDesenfileirar(10, TimeUnit.MILLISECONDS));
+		fila.enfileirarTodos(new Integer[] {1, 2, 3});
+		assertThrows(FilaCheiaException.class, () -> fila.enfileirarTodos(new Integer[] {4}));
+		assertFalse(fila.tentarEnfileirar(4, 10, TimeUnit.MILLISECONDS));
+		assertEquals(Integer.valueOf(1), fila.tentarDesenfileirar(10, TimeUnit.MILLISECONDS));
+		assertTrue(fila.tentarEnfileirar(4, 0, TimeUnit.MILLISECONDS));
+		assertEquals(3, fila.tamanho());
+	}
+
+	@Test
+	public void drenarParaTest() throws FilaCheiaException {
+		fila.enfileirarTodos(new Integer[] {1, 2, 3});
+		List<Integer> destino = new ArrayList<Integer>();
+		assertEquals(2, fila.drenarPara(destino, 2));
+		assertEquals(Arrays.asList(1, 2), destino);
+		assertEquals(1, fila.drenarPara(destino));
+		assertEquals(Arrays.asList(1, 2, 3), destino);
+		assertTrue(fila.isEmpty());
+		assertEquals(0, fila.drenarPara(destino));
+	}
+
+	@Test
+	public void esperaAteHaverElementoTest() throws InterruptedException {
+		final Integer[] recebido = new Integer[1];
+		Thread consumidor = new Thread(() -> {
+			try {
+				recebido[0] = fila.retirar();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		consumidor.start();
+		Thread.sleep(20);
+		fila.colocar(42);
+		consumidor.join(5_000);
+		assertFalse(consumidor.isAlive());
+		assertEquals(Integer.valueOf(42), recebido[0]);
+	}
+
+	@Test
+	public void interrupcaoDuranteEsperaTest() throws InterruptedException {
+		final boolean[] interrompido = new boolean[1];
+		Thread consumidor = new Thread(() -> {
+			try {
+				fila.retirar();
+			} catch (InterruptedException e) {
+				interrompido[0] = true;
+			}
+		});
+		consumidor.start();
+		Thread.sleep(20);
+		consumidor.interrupt();
+		consumidor.join(5_000);
+		assertTrue(interrompido[0]);
+	}
+
+	@Test
+	public void produtoresEConsumidoresBloqueantesTest() throws InterruptedException {
+		final int produtores = 4;
+		final int consumidores = 16;
+		final int porProdutor = 5_000;
+		final AtomicLong soma = new AtomicLong();
+		Thread[] threads = new Thread[produtores + consumidores];
+		for (int p = 0; p < produtores; p++) {
+			threads[p] = new Thread(() -> {
+				try {
+					for (int i = 1; i <= porProdutor; i++) {
+						fila.colocar(i);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		final int porConsumidor = produtores * porProdutor / consumidores;
+		for (int c = 0; c < consumidores; c++) {
+			threads[produtores + c] = new Thread(() -> {
+				try {
+					for (int i = 0; i < porConsumidor; i++) {
+						soma.addAndGet(fila.retirar());
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals((long) produtores * porProdutor * (porProdutor + 1) / 2, soma.get());
+		assertTrue(fila.isEmpty());
+	}
+
+}
@@ -0,0 +1,82 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaCheiaException;
+import tad.fila.FilaCircularPotenciaDois;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaCircularPotenciaDois {
+
+	@Test
+	public void capacidadeArredondadaTest() {
+		assertEquals(8, new FilaCircularPotenciaDois(5).capacidade());
+		assertEquals(8, new FilaCircularPotenciaDois(8).capacidade());
+		assertEquals(1, new FilaCircularPotenciaDois(1).capacidade());
+		assertThrows(IllegalArgumentException.class, () -> new FilaCircularPotenciaDois(0));
+	}
+
+	@Test
+	public void filaFixaTest() throws Exception {
+		FilaCircularPotenciaDois fila = new FilaCircularPotenciaDois(4);
+		assertNull(fila.verificarCabeca());
+		assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+		for (int rodada = 0; rodada < 3; rodada++) {
+			fila.enfileirar(1);
+			fila.enfileirar(2);
+			fila.enfileirar(3);
+			fila.enfileirar(4);
+			assertTrue(fila.isFull());
+			assertThrows(FilaCheiaException.class, () -> fila.enfileirar(5));
+			assertEquals(Integer.valueOf(1), fila.verificarCabeca());
+			assertEquals(Integer.valueOf(4), fila.verificarCauda());
+			assertEquals(Integer.valueOf(1), fila.desenfileirar());
+			assertEquals(Integer.valueOf(2), fila.desenfileirar());
+			fila.enfileirar(5);
+			assertEquals(Integer.valueOf(3), fila.desenfileirar());
+			assertEquals(Integer.valueOf(4), fila.desenfileirar());
+			assertEquals(Integer.valueOf(5), fila.desenfileirar());
+			assertTrue(fila.isEmpty());
+		}
+	}
+
+	@Test
+	public void filaRedimensionavelTest() throws Exception {
+		FilaCircularPotenciaDois fila = new FilaCircularPotenciaDois(4, true);
+		fila.enfileirar(-2);
+		fila.enfileirar(-1);
+		fila.desenfileirar();
+		fila.desenfileirar(); // a cabeça não está mais na posição 0
+		for (int i = 0; i < 100; i++) {
+			fila.enfileirar(i);
+			assertFalse(fila.isFull());
+		}
+		assertEquals(128, fila.capacidade());
+		for (int i = 0; i < 99; i++) {
+			assertEquals(Integer.valueOf(i), fila.desenfileirar());
+		}
+		assertEquals(4, fila.capacidade());
+		assertEquals(Integer.valueOf(99), fila.verificarCabeca());
+	}
+
+	@Test
+	public void operacoesEmBlocoTest() throws Exception {
+		FilaCircularPotenciaDois fila = new FilaCircularPotenciaDois(4, true);
+		fila.enfileirarTodos(new Integer[] {1, 2, 3});
+		fila.desenfileirar();
+		fila.enfileirarTodos(new Integer[] {4, 5, 6, 7, 8});
+		assertEquals(8, fila.capacidade());
+		Integer[] destino = new Integer[7];
+		assertEquals(7, fila.desenfileirarAte(destino, 7));
+		assertArrayEquals(new Integer[] {2, 3, 4, 5, 6, 7, 8}, destino);
+		assertTrue(fila.isEmpty());
+	}
+
+}
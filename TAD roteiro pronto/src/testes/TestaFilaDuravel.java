@@ -0,0 +1,107 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tad.fila.FilaDuravel;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaDuravel {
+
+	@TempDir
+	Path diretorio;
+
+	@Test
+	public void enfileirarDesenfileirarTest() throws IOException, FilaVaziaException {
+		try (FilaDuravel fila = new FilaDuravel(diretorio, 4)) {
+			assertTrue(fila.isEmpty());
+			assertFalse(fila.isFull());
+			assertNull(fila.verificarCabeca());
+			assertNull(fila.verificarCauda());
+			for (int i = 0; i < 10; i++) {
+				fila.enfileirar(i);
+			}
+			assertEquals(10, fila.tamanho());
+			assertEquals(Integer.valueOf(0), fila.verificarCabeca());
+			assertEquals(Integer.valueOf(9), fila.verificarCauda());
+			for (int i = 0; i < 10; i++) {
+				assertEquals(i, fila.desenfileirarInt());
+			}
+			assertTrue(fila.isEmpty());
+			assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+			assertThrows(IllegalArgumentException.class, () -> fila.enfileirar(null));
+		}
+	}
+
+	@Test
+	public void segmentosConsumidosSaoApagadosTest() throws IOException, FilaVaziaException {
+		try (FilaDuravel fila = new FilaDuravel(diretorio, 4)) {
+			for (int i = 0; i < 12; i++) {
+				fila.enfileirarInt(i);
+			}
+			assertEquals(3, contarSegmentos());
+			for (int i = 0; i < 4; i++) {
+				fila.desenfileirarInt();
+			}
+			assertEquals(2, contarSegmentos());
+			Integer[] destino = new Integer[8];
+			assertEquals(8, fila.desenfileirarAte(destino, 8));
+			assertArrayEquals(new Integer[] {4, 5, 6, 7, 8, 9, 10, 11}, destino);
+			assertEquals(0, contarSegmentos());
+			fila.enfileirarInt(12);
+			assertEquals(Integer.valueOf(12), fila.verificarCauda());
+			assertEquals(1, contarSegmentos());
+		}
+	}
+
+	@Test
+	public void reaberturaRecuperaEstadoTest() throws IOException, FilaVaziaException {
+		try (FilaDuravel fila = new FilaDuravel(diretorio, 4)) {
+			fila.enfileirarTodos(new Integer[] {1, 2, 3, 4, 5, 6});
+			assertEquals(1, fila.desenfileirarInt());
+			fila.sincronizar();
+		}
+		try (FilaDuravel fila = new FilaDuravel(diretorio, 4)) {
+			assertEquals(5, fila.tamanho());
+			assertEquals(Integer.valueOf(2), fila.verificarCabeca());
+			assertEquals(Integer.valueOf(6), fila.verificarCauda());
+			fila.enfileirarInt(7);
+			for (int i = 2; i <= 7; i++) {
+				assertEquals(i, fila.desenfileirarInt());
+			}
+		}
+		try (FilaDuravel fila = new FilaDuravel(diretorio, 4)) {
+			assertTrue(fila.isEmpty());
+		}
+		assertThrows(IllegalArgumentException.class, () -> new FilaDuravel(diretorio, 8));
+	}
+
+	@Test
+	public void filaFechadaTest() throws IOException {
+		FilaDuravel fila = new FilaDuravel(diretorio, 4);
+		fila.enfileirarInt(1);
+		fila.close();
+		fila.close();
+		assertThrows(IllegalStateException.class, () -> fila.enfileirarInt(2));
+		assertThrows(IllegalStateException.class, () -> fila.isEmpty());
+	}
+
+	private long contarSegmentos() throws IOException {
+		try (Stream<Path> arquivos = Files.list(diretorio)) {
+			return arquivos.filter(arquivo -> arquivo.getFileName().toString().startsWith("segmento-")).count();
+		}
+	}
+
+}
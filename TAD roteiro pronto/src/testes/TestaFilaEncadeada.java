@@ -0,0 +1,191 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaVaziaException;
+import tad.fila.MinhaFilaEncadeada;
+
+public class TestaFilaEncadeada {
+
+	private MinhaFilaEncadeada fila = null;
+
+	@BeforeEach
+	public void iniciar() {
+		fila = new MinhaFilaEncadeada();
+	}
+
+	@Test
+	public void enfileirarDesenfileirarTest() throws FilaVaziaException {
+		assertTrue(fila.isEmpty());
+		assertFalse(fila.isFull());
+		assertNull(fila.verificarCabeca());
+		assertNull(fila.verificarCauda());
+		fila.enfileirar(3);
+		fila.enfileirar(5);
+		fila.enfileirar(7);
+		assertFalse(fila.isEmpty());
+		assertFalse(fila.isFull());
+		assertEquals(Integer.valueOf(3), fila.verificarCabeca());
+		assertEquals(Integer.valueOf(7), fila.verificarCauda());
+		assertEquals(Integer.valueOf(3), fila.desenfileirar());
+		assertEquals(Integer.valueOf(5), fila.desenfileirar());
+		assertEquals(Integer.valueOf(7), fila.desenfileirar());
+		assertTrue(fila.isEmpty());
+		assertNull(fila.verificarCauda());
+		assertNull(fila.tentarDesenfileirar());
+		assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+		assertThrows(IllegalArgumentException.class, () -> fila.enfileirar(null));
+	}
+
+	@Test
+	public void enfileirarTodosDesenfileirarAteTest() {
+		fila.enfileirar(1);
+		fila.enfileirarTodos(new Integer[] {2, 3, 4});
+		assertEquals(Integer.valueOf(4), fila.verificarCauda());
+		Integer[] destino = new Integer[3];
+		assertEquals(3, fila.desenfileirarAte(destino, 3));
+		assertArrayEquals(new Integer[] {1, 2, 3}, destino);
+		fila.enfileirar(5);
+		assertEquals(2, fila.desenfileirarAte(destino, 3));
+		assertEquals(Integer.valueOf(4), destino[0]);
+		assertEquals(Integer.valueOf(5), destino[1]);
+		assertTrue(fila.isEmpty());
+		assertEquals(0, fila.desenfileirarAte(destino, 3));
+		assertThrows(IllegalArgumentException.class, () -> fila.enfileirarTodos(new Integer[] {6, null}));
+		assertTrue(fila.isEmpty());
+	}
+
+	/**
+	 * Vários produtores e consumidores ao mesmo tempo. Cada produtor enfileira números
+	 * crescentes marcados com o seu índice; a fila é FIFO, então cada consumidor deve ver
+	 * os números de um mesmo produtor em ordem crescente, e no final cada número deve ter
+	 * sido consumido exatamente uma vez.
+	 */
+	@Test
+	public void concorrenciaOrdemPorProdutorTest() throws InterruptedException {
+		final int produtores = 6;
+		final int consumidores = 6;
+		final int porProdutor = 20_000;
+		final int total = produtores * porProdutor;
+		final AtomicInteger consumidos = new AtomicInteger();
+		final boolean[] visto = new boolean[total];
+		final AtomicInteger erros = new AtomicInteger();
+		final CountDownLatch largada = new CountDownLatch(1);
+		Thread[] threads = new Thread[produtores + consumidores];
+		for (int p = 0; p < produtores; p++) {
+			final int produtor = p;
+			threads[p] = new Thread(() -> {
+				aguardar(largada);
+				for (int i = 0; i < porProdutor; i++) {
+					int valor = produtor * porProdutor + i;
+					if (i % 7 == 0 && i + 1 < porProdutor) {
+						fila.enfileirarTodos(new Integer[] {valor, valor + 1});
+						i++;
+					} else {
+						fila.enfileirar(valor);
+					}
+				}
+			});
+		}
+		for (int c = 0; c < consumidores; c++) {
+			threads[produtores + c] = new Thread(() -> {
+				aguardar(largada);
+				int[] ultimoPorProdutor = new int[produtores];
+				Arrays.fill(ultimoPorProdutor, -1);
+				Integer[] lote = new Integer[4];
+				int rodada = 0;
+				while (consumidos.get() < total) {
+					int obtidos;
+					if (rodada++ % 5 == 0) {
+						obtidos = fila.desenfileirarAte(lote, lote.length);
+					} else {
+						lote[0] = fila.tentarDesenfileirar();
+						obtidos = lote[0] == null ? 0 : 1;
+					}
+					if (obtidos == 0) {
+						Thread.yield();
+					}
+					for (int i = 0; i < obtidos; i++) {
+						int valor = lote[i];
+						int produtor = valor / porProdutor;
+						if (valor <= ultimoPorProdutor[produtor]) {
+							erros.incrementAndGet();
+						}
+						ultimoPorProdutor[produtor] = valor;
+						synchronized (visto) {
+							if (visto[valor]) {
+								erros.incrementAndGet();
+							}
+							visto[valor] = true;
+						}
+					}
+					consumidos.addAndGet(obtidos);
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		largada.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, erros.get(), "elementos fora de ordem ou duplicados");
+		for (int i = 0; i < total; i++) {
+			assertTrue(visto[i], "elemento perdido: " + i);
+		}
+		assertTrue(fila.isEmpty());
+		assertNull(fila.verificarCauda());
+	}
+
+	/**
+	 * Repete muitas vezes uma execução curta com duas threads, cada uma enfileirando um
+	 * valor e desenfileirando outro. Em qualquer ordem linearizável cada thread consegue
+	 * um elemento e os dois elementos são distintos; a fila termina vazia.
+	 */
+	@Test
+	public void intercalacoesCurtasTest() throws InterruptedException {
+		for (int rodada = 0; rodada < 2_000; rodada++) {
+			final MinhaFilaEncadeada filaRodada = new MinhaFilaEncadeada();
+			final Integer[] resultados = new Integer[2];
+			Thread a = new Thread(() -> {
+				filaRodada.enfileirar(1);
+				resultados[0] = filaRodada.tentarDesenfileirar();
+			});
+			Thread b = new Thread(() -> {
+				filaRodada.enfileirar(2);
+				resultados[1] = filaRodada.tentarDesenfileirar();
+			});
+			a.start();
+			b.start();
+			a.join();
+			b.join();
+			assertNotNull(resultados[0]);
+			assertNotNull(resultados[1]);
+			assertFalse(resultados[0].equals(resultados[1]));
+			assertTrue(filaRodada.isEmpty());
+		}
+	}
+
+	private static void aguardar(CountDownLatch largada) {
+		try {
+			largada.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
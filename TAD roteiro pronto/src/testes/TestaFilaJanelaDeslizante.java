@@ -0,0 +1,128 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaJanelaDeslizante;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaJanelaDeslizante {
+
+	private final long[] agora = new long[1]; // Relógio controlado pelo teste, em nanossegundos
+
+	@Test
+	public void janelaPorContagemTest() throws FilaVaziaException {
+		FilaJanelaDeslizante janela = new FilaJanelaDeslizante(3);
+		assertTrue(janela.isEmpty());
+		assertFalse(janela.isFull());
+		assertEquals(0, janela.soma());
+		assertThrows(FilaVaziaException.class, () -> janela.minimo());
+		assertThrows(FilaVaziaException.class, () -> janela.maximo());
+		janela.enfileirar(5);
+		janela.enfileirar(1);
+		janela.enfileirar(4);
+		assertEquals(1, janela.minimo());
+		assertEquals(5, janela.maximo());
+		assertEquals(10, janela.soma());
+		janela.enfileirar(2); // Descarta o 5.
+		assertEquals(3, janela.contagem());
+		assertEquals(Integer.valueOf(1), janela.verificarCabeca());
+		assertEquals(Integer.valueOf(2), janela.verificarCauda());
+		assertEquals(4, janela.maximo());
+		assertEquals(7, janela.soma());
+		assertEquals(Integer.valueOf(1), janela.desenfileirar());
+		assertEquals(2, janela.minimo());
+		assertEquals(6, janela.soma());
+		assertThrows(IllegalArgumentException.class, () -> janela.enfileirar(null));
+		assertThrows(IllegalArgumentException.class, () -> new FilaJanelaDeslizante(0));
+	}
+
+	@Test
+	public void janelaPorTempoTest() throws FilaVaziaException {
+		FilaJanelaDeslizante janela = new FilaJanelaDeslizante(FilaJanelaDeslizante.SEM_LIMITE_DE_CONTAGEM,
+				10, TimeUnit.MILLISECONDS, () -> agora[0]);
+		janela.enfileirarInt(7);
+		avancarRelogio(4);
+		janela.enfileirarInt(3);
+		avancarRelogio(4);
+		janela.enfileirarInt(9);
+		assertEquals(3, janela.minimo());
+		assertEquals(9, janela.maximo());
+		avancarRelogio(2); // O 7 completa 10 ms.
+		assertEquals(2, janela.contagem());
+		assertEquals(12, janela.soma());
+		avancarRelogio(4);
+		assertEquals(9, janela.minimo());
+		assertEquals(0, janela.expirar()); // minimo() já descartou o 3.
+		avancarRelogio(10);
+		assertTrue(janela.isEmpty());
+		assertNull(janela.tentarDesenfileirar());
+		assertNull(janela.verificarCabeca());
+	}
+
+	/**
+	 * Sequência aleatória de inserções, remoções e avanços de relógio numa janela com
+	 * os dois limites, comparada com uma varredura completa de um deque de referência.
+	 */
+	@Test
+	public void comparacaoAleatoriaTest() throws FilaVaziaException {
+		Random aleatorio = new Random(25);
+		int limite = 50;
+		long duracao = TimeUnit.MILLISECONDS.toNanos(20);
+		FilaJanelaDeslizante janela = new FilaJanelaDeslizante(limite, 20, TimeUnit.MILLISECONDS, () -> agora[0]);
+		ArrayDeque<long[]> referencia = new ArrayDeque<long[]>(); // {valor, instante}
+		for (int passo = 0; passo < 50_000; passo++) {
+			int operacao = aleatorio.nextInt(10);
+			if (operacao < 6) {
+				int valor = aleatorio.nextInt(2_001) - 1_000;
+				janela.enfileirarInt(valor);
+				expirarReferencia(referencia, duracao);
+				if (referencia.size() == limite) {
+					referencia.removeFirst();
+				}
+				referencia.addLast(new long[] {valor, agora[0]});
+			} else if (operacao < 7) {
+				expirarReferencia(referencia, duracao);
+				Integer removido = janela.tentarDesenfileirar();
+				assertEquals(referencia.isEmpty() ? null : Integer.valueOf((int) referencia.removeFirst()[0]), removido);
+			} else {
+				avancarRelogio(aleatorio.nextInt(3));
+			}
+			expirarReferencia(referencia, duracao);
+			assertEquals(referencia.size(), janela.contagem());
+			long soma = 0;
+			int minimo = Integer.MAX_VALUE;
+			int maximo = Integer.MIN_VALUE;
+			for (long[] elemento : referencia) {
+				soma += elemento[0];
+				minimo = Math.min(minimo, (int) elemento[0]);
+				maximo = Math.max(maximo, (int) elemento[0]);
+			}
+			assertEquals(soma, janela.soma());
+			if (!referencia.isEmpty()) {
+				assertEquals(minimo, janela.minimo());
+				assertEquals(maximo, janela.maximo());
+			}
+		}
+	}
+
+	private void avancarRelogio(long milissegundos) {
+		agora[0] += TimeUnit.MILLISECONDS.toNanos(milissegundos);
+	}
+
+	private void expirarReferencia(ArrayDeque<long[]> referencia, long duracao) {
+		while (!referencia.isEmpty() && agora[0] - referencia.peekFirst()[1] >= duracao) {
+			referencia.removeFirst();
+		}
+	}
+
+}
@@ -0,0 +1,88 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaVaziaException;
+import tad.listasEncadeadas.FilaListaEncadeada;
+import tad.listasEncadeadas.NodoListaEncadeada;
+
+public class TestaFilaListaEncadeada {
+
+	private FilaListaEncadeada fila = null;
+
+	@BeforeEach
+	public void iniciar() {
+		fila = new FilaListaEncadeada();
+	}
+
+	@Test
+	public void enfileirarDesenfileirarTest() throws FilaVaziaException {
+		assertTrue(fila.isEmpty());
+		assertFalse(fila.isFull());
+		assertNull(fila.verificarCabeca());
+		assertNull(fila.verificarCauda());
+		NodoListaEncadeada<Integer> a = new NodoListaEncadeada<Integer>(1);
+		NodoListaEncadeada<Integer> b = new NodoListaEncadeada<Integer>(2);
+		NodoListaEncadeada<Integer> c = new NodoListaEncadeada<Integer>(3);
+		fila.enfileirar(a);
+		fila.enfileirar(b);
+		fila.enfileirar(c);
+		assertEquals(3, fila.tamanho());
+		assertSame(a, fila.verificarCabeca());
+		assertSame(c, fila.verificarCauda());
+		assertSame(b, a.getProximo()); // Os próprios nós são encadeados.
+		assertSame(a, fila.desenfileirar());
+		assertNull(a.getProximo());
+		assertSame(b, fila.tentarDesenfileirar());
+		assertSame(c, fila.desenfileirar());
+		assertTrue(fila.isEmpty());
+		assertNull(fila.verificarCauda());
+		assertNull(fila.tentarDesenfileirar());
+		assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+		assertThrows(IllegalArgumentException.class, () -> fila.enfileirar(null));
+	}
+
+	@Test
+	public void noJaEncadeadoTest() {
+		NodoListaEncadeada<Integer> a = new NodoListaEncadeada<Integer>(1);
+		NodoListaEncadeada<Integer> b = new NodoListaEncadeada<Integer>(2);
+		fila.enfileirar(a);
+		assertThrows(IllegalArgumentException.class, () -> fila.enfileirar(a));
+		fila.enfileirar(b);
+		assertThrows(IllegalArgumentException.class, () -> fila.enfileirar(a));
+		assertEquals(2, fila.tamanho());
+	}
+
+	/**
+	 * Os mesmos nós circulam por muitos ciclos de enfileirar e desenfileirar,
+	 * mantendo a ordem FIFO.
+	 */
+	@Test
+	public void reaproveitarNosTest() throws FilaVaziaException {
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		NodoListaEncadeada<Integer>[] nos = new NodoListaEncadeada[8];
+		for (int i = 0; i < nos.length; i++) {
+			nos[i] = new NodoListaEncadeada<Integer>(i);
+			fila.enfileirar(nos[i]);
+		}
+		for (int ciclo = 0; ciclo < 1_000; ciclo++) {
+			NodoListaEncadeada<Integer> no = fila.desenfileirar();
+			assertSame(nos[ciclo % nos.length], no);
+			fila.enfileirar(no);
+		}
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		NodoListaEncadeada<Integer>[] destino = new NodoListaEncadeada[8];
+		assertEquals(8, fila.desenfileirarAte(destino, 8));
+		assertEquals(Integer.valueOf(0), destino[0].getChave());
+		assertTrue(fila.isEmpty());
+	}
+
+}
@@ -0,0 +1,169 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaCheiaException;
+import tad.fila.FilaMpmc;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaMpmc {
+
+	/**
+	 * Na capacidade mínima, 2, cheia e vazia alternam a cada operação e os cursores dão
+	 * muitas voltas no array.
+	 */
+	@Test
+	public void capacidadeMinimaEVoltasTest() throws FilaCheiaException, FilaVaziaException {
+		FilaMpmc fila = new FilaMpmc(1);
+		assertEquals(2, fila.capacidade());
+		assertTrue(fila.isEmpty());
+		assertFalse(fila.isFull());
+		assertNull(fila.verificarCabeca());
+		assertNull(fila.verificarCauda());
+		assertNull(fila.tentarDesenfileirar());
+		assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+		for (int volta = 0; volta < 100; volta++) {
+			fila.enfileirar(2 * volta);
+			assertTrue(fila.tentarEnfileirar(2 * volta + 1));
+			assertTrue(fila.isFull());
+			assertFalse(fila.tentarEnfileirar(-1));
+			final int valor = volta;
+			assertThrows(FilaCheiaException.class, () -> fila.enfileirar(valor));
+			assertEquals(Integer.valueOf(2 * volta), fila.verificarCabeca());
+			assertEquals(Integer.valueOf(2 * volta + 1), fila.verificarCauda());
+			assertEquals(Integer.valueOf(2 * volta), fila.desenfileirar());
+			assertFalse(fila.isFull());
+			assertEquals(Integer.valueOf(2 * volta + 1), fila.tentarDesenfileirar());
+			assertTrue(fila.isEmpty());
+		}
+		assertThrows(IllegalArgumentException.class, () -> fila.enfileirar(null));
+		assertThrows(IllegalArgumentException.class, () -> new FilaMpmc(0));
+	}
+
+	@Test
+	public void enfileirarTodosTudoOuNadaTest() throws FilaCheiaException {
+		FilaMpmc fila = new FilaMpmc(4);
+		fila.enfileirar(1);
+		assertThrows(FilaCheiaException.class, () -> fila.enfileirarTodos(new Integer[] {2, 3, 4, 5}));
+		assertEquals(Integer.valueOf(1), fila.verificarCauda()); // Nada entrou.
+		assertThrows(IllegalArgumentException.class, () -> fila.enfileirarTodos(new Integer[] {2, null}));
+		fila.enfileirarTodos(new Integer[] {2, 3, 4});
+		assertTrue(fila.isFull());
+		Integer[] destino = new Integer[4];
+		assertEquals(4, fila.desenfileirarAte(destino, 4));
+		assertArrayEquals(new Integer[] {1, 2, 3, 4}, destino);
+		// O lote seguinte dá a volta no fim do array.
+		fila.enfileirarTodos(new Integer[] {5, 6, 7});
+		assertEquals(3, fila.desenfileirarAte(destino, 4));
+		assertArrayEquals(new Integer[] {5, 6, 7}, Arrays.copyOf(destino, 3));
+	}
+
+	/**
+	 * Vários produtores e consumidores sobre uma fila pequena, que enche e esvazia o
+	 * tempo todo. Cada produtor enfileira números crescentes marcados com o seu índice,
+	 * às vezes em lotes; cada consumidor deve ver os números de um mesmo produtor em
+	 * ordem crescente, e no final cada número deve ter sido consumido exatamente uma vez.
+	 */
+	@Test
+	public void concorrenciaOrdemPorProdutorTest() throws InterruptedException {
+		final FilaMpmc fila = new FilaMpmc(16);
+		final int produtores = 4;
+		final int consumidores = 4;
+		final int porProdutor = 20_000;
+		final int total = produtores * porProdutor;
+		final AtomicInteger consumidos = new AtomicInteger();
+		final boolean[] visto = new boolean[total];
+		final AtomicInteger erros = new AtomicInteger();
+		final CountDownLatch largada = new CountDownLatch(1);
+		Thread[] threads = new Thread[produtores + consumidores];
+		for (int p = 0; p < produtores; p++) {
+			final int produtor = p;
+			threads[p] = new Thread(() -> {
+				aguardar(largada);
+				for (int i = 0; i < porProdutor; i++) {
+					int valor = produtor * porProdutor + i;
+					if (i % 7 == 0 && i + 2 < porProdutor) {
+						Integer[] lote = {valor, valor + 1, valor + 2};
+						while (!enfileirarLote(fila, lote)) {
+							Thread.yield();
+						}
+						i += 2;
+					} else {
+						while (!fila.tentarEnfileirar(valor)) {
+							Thread.yield();
+						}
+					}
+				}
+			});
+		}
+		for (int c = 0; c < consumidores; c++) {
+			threads[produtores + c] = new Thread(() -> {
+				aguardar(largada);
+				int[] ultimoPorProdutor = new int[produtores];
+				Arrays.fill(ultimoPorProdutor, -1);
+				while (consumidos.get() < total) {
+					Integer item = fila.tentarDesenfileirar();
+					if (item == null) {
+						Thread.yield();
+						continue;
+					}
+					int valor = item;
+					int produtor = valor / porProdutor;
+					if (valor <= ultimoPorProdutor[produtor]) {
+						erros.incrementAndGet();
+					}
+					ultimoPorProdutor[produtor] = valor;
+					synchronized (visto) {
+						if (visto[valor]) {
+							erros.incrementAndGet();
+						}
+						visto[valor] = true;
+					}
+					consumidos.incrementAndGet();
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		largada.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, erros.get(), "elementos fora de ordem ou duplicados");
+		for (int i = 0; i < total; i++) {
+			assertTrue(visto[i], "elemento perdido: " + i);
+		}
+		assertTrue(fila.isEmpty());
+		assertNull(fila.verificarCauda());
+	}
+
+	private static boolean enfileirarLote(FilaMpmc fila, Integer[] lote) {
+		try {
+			fila.enfileirarTodos(lote);
+			return true;
+		} catch (FilaCheiaException e) {
+			return false;
+		}
+	}
+
+	private static void aguardar(CountDownLatch largada) {
+		try {
+			largada.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,139 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaMultiplasFaixas;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaMultiplasFaixas {
+
+	@Test
+	public void umaFaixaEFifoEstritaTest() throws FilaVaziaException {
+		FilaMultiplasFaixas fila = new FilaMultiplasFaixas(1);
+		assertTrue(fila.isEmpty());
+		assertFalse(fila.isFull());
+		assertNull(fila.verificarCabeca());
+		assertNull(fila.tentarDesenfileirar());
+		assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+		for (int i = 0; i < 100; i++) {
+			fila.enfileirar(i); // Passa da capacidade inicial da faixa.
+		}
+		assertEquals(100, fila.tamanho());
+		assertEquals(Integer.valueOf(0), fila.verificarCabeca());
+		assertEquals(Integer.valueOf(99), fila.verificarCauda());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, fila.desenfileirarInt());
+		}
+		assertTrue(fila.isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> fila.enfileirar(null));
+		assertThrows(IllegalArgumentException.class, () -> new FilaMultiplasFaixas(0));
+		assertThrows(IllegalArgumentException.class, () -> new FilaMultiplasFaixas(4, 0));
+	}
+
+	/**
+	 * Mede o erro de posto de cada remoção (quantos elementos mais antigos ainda estavam
+	 * na fila) e compara a média com os limites documentados.
+	 */
+	@Test
+	public void erroDePostoLimitadoTest() throws FilaVaziaException {
+		int faixas = 8;
+		assertTrue(erroDePostoMedio(new FilaMultiplasFaixas(faixas, 1), 20_000) <= 4.0 * faixas);
+		assertTrue(erroDePostoMedio(new FilaMultiplasFaixas(faixas, 16), 20_000) <= 16.0 * faixas);
+	}
+
+	private static double erroDePostoMedio(FilaMultiplasFaixas fila, int quantidade) throws FilaVaziaException {
+		for (int i = 0; i < quantidade; i++) {
+			fila.enfileirarInt(i);
+		}
+		// Árvore de Fenwick com os valores ainda presentes.
+		int[] arvore = new int[quantidade + 1];
+		for (int i = 1; i <= quantidade; i++) {
+			arvore[i]++;
+			int pai = i + (i & -i);
+			if (pai <= quantidade) {
+				arvore[pai] += arvore[i];
+			}
+		}
+		long soma = 0;
+		for (int k = 0; k < quantidade; k++) {
+			int valor = fila.desenfileirarInt();
+			for (int i = valor; i > 0; i -= i & -i) {
+				soma += arvore[i];
+			}
+			for (int i = valor + 1; i <= quantidade; i += i & -i) {
+				arvore[i]--;
+			}
+		}
+		assertTrue(fila.isEmpty());
+		return (double) soma / quantidade;
+	}
+
+	/**
+	 * Produtores e consumidores concorrentes: cada elemento sai exatamente uma vez.
+	 */
+	@Test
+	public void produtoresEConsumidoresTest() throws InterruptedException {
+		int produtores = 4;
+		int consumidores = 4;
+		int porProdutor = 20_000;
+		int total = produtores * porProdutor;
+		FilaMultiplasFaixas fila = new FilaMultiplasFaixas(8);
+		AtomicIntegerArray vistos = new AtomicIntegerArray(total);
+		AtomicInteger consumidos = new AtomicInteger();
+		CountDownLatch largada = new CountDownLatch(1);
+		Thread[] threads = new Thread[produtores + consumidores];
+		for (int p = 0; p < produtores; p++) {
+			final int base = p * porProdutor;
+			threads[p] = new Thread(() -> {
+				aguardar(largada);
+				for (int i = 0; i < porProdutor; i++) {
+					fila.enfileirarInt(base + i);
+				}
+			});
+		}
+		for (int c = 0; c < consumidores; c++) {
+			threads[produtores + c] = new Thread(() -> {
+				aguardar(largada);
+				while (consumidos.get() < total) {
+					Integer item = fila.tentarDesenfileirar();
+					if (item != null) {
+						vistos.incrementAndGet(item);
+						consumidos.incrementAndGet();
+					} else {
+						Thread.yield();
+					}
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		largada.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		for (int i = 0; i < total; i++) {
+			assertEquals(1, vistos.get(i), "elemento " + i);
+		}
+		assertTrue(fila.isEmpty());
+	}
+
+	private static void aguardar(CountDownLatch largada) {
+		try {
+			largada.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaPareamento;
+import tad.fila.FilaPareamento.Alca;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaPareamento {
+
+	@Test
+	public void ordemEDiminuirChaveTest() throws FilaVaziaException {
+		FilaPareamento fila = new FilaPareamento();
+		assertNull(fila.verificarCabeca());
+		Alca a = fila.inserir(50, 1);
+		Alca b = fila.inserir(30, 2);
+		Alca c = fila.inserir(40, 3);
+		fila.enfileirar(60);
+		assertEquals(Integer.valueOf(30), fila.verificarCabeca());
+		assertEquals(Integer.valueOf(60), fila.verificarCauda());
+		fila.diminuirChave(a, 10);
+		assertEquals(1, fila.rotuloDoMinimo());
+		assertThrows(IllegalArgumentException.class, () -> fila.diminuirChave(c, 45));
+		assertEquals(10, fila.desenfileirarInt());
+		assertFalse(a.isValida());
+		assertThrows(IllegalArgumentException.class, () -> fila.diminuirChave(a, 0));
+		fila.diminuirChave(c, 5);
+		assertEquals(3, fila.rotuloDoMinimo());
+		assertEquals(Integer.valueOf(5), fila.desenfileirar());
+		assertEquals(Integer.valueOf(30), fila.desenfileirar());
+		assertTrue(b.chave() == 30 && !b.isValida());
+		assertEquals(Integer.valueOf(60), fila.desenfileirar());
+		assertNull(fila.verificarCauda());
+		assertTrue(fila.isEmpty());
+		assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+	}
+
+	@Test
+	public void fundirTest() throws FilaVaziaException {
+		FilaPareamento fila = new FilaPareamento();
+		FilaPareamento outra = new FilaPareamento();
+		fila.inserir(5, 0);
+		Alca movida = outra.inserir(7, 1);
+		outra.inserir(3, 2);
+		fila.fundir(outra);
+		assertTrue(outra.isEmpty());
+		assertEquals(3, fila.tamanho());
+		fila.diminuirChave(movida, 1);
+		assertEquals(1, fila.desenfileirarInt());
+		assertEquals(3, fila.desenfileirarInt());
+		assertEquals(5, fila.desenfileirarInt());
+		assertThrows(IllegalArgumentException.class, () -> fila.fundir(fila));
+	}
+
+	/**
+	 * Uma alça removida nunca volta a ser válida, mesmo depois de muitas inserções e
+	 * remoções, e alças de outra fila são rejeitadas em vez de corromper o heap.
+	 */
+	@Test
+	public void alcasAntigasEDeOutraFilaTest() throws FilaVaziaException {
+		FilaPareamento fila = new FilaPareamento();
+		Alca antiga = fila.inserir(10, 1);
+		assertTrue(fila.contem(antiga));
+		assertEquals(10, fila.desenfileirarInt());
+		for (int i = 0; i < 100; i++) {
+			fila.enfileirar(i);
+			Alca nova = fila.inserir(i, 2);
+			assertFalse(nova == antiga);
+			fila.desenfileirarInt();
+		}
+		assertFalse(antiga.isValida());
+		assertFalse(fila.contem(antiga));
+		assertThrows(IllegalArgumentException.class, () -> fila.diminuirChave(antiga, 0));
+
+		FilaPareamento outra = new FilaPareamento();
+		Alca alheia = outra.inserir(7, 3);
+		assertFalse(fila.contem(alheia));
+		assertThrows(IllegalArgumentException.class, () -> fila.diminuirChave(alheia, 1));
+		assertEquals(7, alheia.chave());
+
+		// Depois de duas fusões encadeadas, a alça pertence à fila que absorveu as outras.
+		FilaPareamento terceira = new FilaPareamento();
+		terceira.fundir(outra);
+		fila.fundir(terceira);
+		assertTrue(fila.contem(alheia));
+		assertFalse(outra.contem(alheia));
+		assertFalse(terceira.contem(alheia));
+		Alca depois = outra.inserir(9, 4);
+		assertThrows(IllegalArgumentException.class, () -> fila.diminuirChave(depois, 1));
+		fila.diminuirChave(alheia, -1);
+		assertEquals(3, fila.rotuloDoMinimo());
+	}
+
+	/**
+	 * Sequência aleatória de inserções, remoções e diminuições de chave comparada com
+	 * um mapa ordenado por (chave, rótulo).
+	 */
+	@Test
+	public void comparacaoAleatoriaTest() throws FilaVaziaException {
+		Random aleatorio = new Random(19);
+		FilaPareamento fila = new FilaPareamento();
+		TreeMap<Long, Alca> referencia = new TreeMap<Long, Alca>();
+		int proximoRotulo = 0;
+		for (int passo = 0; passo < 50_000; passo++) {
+			int operacao = aleatorio.nextInt(4);
+			if (referencia.isEmpty() || operacao == 0) {
+				int chave = aleatorio.nextInt(1_000_000);
+				Alca alca = fila.inserir(chave, proximoRotulo);
+				referencia.put(codificar(chave, proximoRotulo), alca);
+				proximoRotulo++;
+			} else if (operacao == 1) {
+				long menor = referencia.firstKey();
+				assertEquals((int) (menor >> 32), fila.verificarCabeca().intValue());
+				referencia.remove(menor);
+				assertEquals((int) (menor >> 32), fila.desenfileirarInt());
+			} else {
+				Map.Entry<Long, Alca> entrada = referencia.ceilingEntry(codificar(aleatorio.nextInt(1_000_000), 0));
+				Alca alca = (entrada == null ? referencia.lastEntry() : entrada).getValue();
+				int novaChave = alca.chave() - aleatorio.nextInt(1_000);
+				referencia.remove(codificar(alca.chave(), alca.rotulo()));
+				fila.diminuirChave(alca, novaChave);
+				referencia.put(codificar(novaChave, alca.rotulo()), alca);
+			}
+			assertEquals(referencia.size(), fila.tamanho());
+		}
+	}
+
+	private static long codificar(int chave, int rotulo) {
+		return ((long) chave << 32) | rotulo;
+	}
+
+}
@@ -0,0 +1,95 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaCheiaException;
+import tad.fila.FilaPrioridadeDaria;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaPrioridadeDaria {
+
+	private static final int[] ARIDADES = {2, 4, 8};
+
+	@Test
+	public void ordemDePrioridadeTest() throws FilaCheiaException, FilaVaziaException {
+		for (int aridade : ARIDADES) {
+			FilaPrioridadeDaria fila = new FilaPrioridadeDaria(aridade, 5);
+			assertNull(fila.verificarCabeca());
+			assertNull(fila.verificarCauda());
+			fila.enfileirar(5);
+			fila.enfileirar(1);
+			fila.enfileirar(4);
+			assertEquals(Integer.valueOf(1), fila.verificarCabeca());
+			assertEquals(Integer.valueOf(4), fila.verificarCauda());
+			fila.enfileirarTodos(new Integer[] {3, 2});
+			assertTrue(fila.isFull());
+			assertThrows(FilaCheiaException.class, () -> fila.enfileirar(0));
+			assertEquals(Integer.valueOf(2), fila.verificarCauda());
+			assertEquals(Integer.valueOf(1), fila.desenfileirar());
+			assertEquals(Integer.valueOf(2), fila.desenfileirar());
+			assertNull(fila.verificarCauda());
+			Integer[] destino = new Integer[3];
+			assertEquals(3, fila.desenfileirarAte(destino, 3));
+			assertArrayEquals(new Integer[] {3, 4, 5}, destino);
+			assertTrue(fila.isEmpty());
+			assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+		}
+	}
+
+	@Test
+	public void construcaoEmBlocoTest() throws FilaVaziaException {
+		for (int aridade : ARIDADES) {
+			int[] elementos = {9, 3, 7, 1, 8, 2, 6, 4, 5, 0};
+			FilaPrioridadeDaria fila = new FilaPrioridadeDaria(aridade, 16, elementos);
+			assertEquals(10, fila.tamanho());
+			assertEquals(Integer.valueOf(0), fila.verificarCauda());
+			for (int i = 0; i < 10; i++) {
+				assertEquals(i, fila.desenfileirarInt());
+			}
+			assertEquals(9, elementos[0]);
+		}
+		assertThrows(IllegalArgumentException.class, () -> new FilaPrioridadeDaria(2, 1, new int[] {1, 2}));
+		assertThrows(IllegalArgumentException.class, () -> new FilaPrioridadeDaria(3, 10));
+	}
+
+	/**
+	 * Sequência aleatória de operações comparada com {@link PriorityQueue}, conferindo
+	 * também que {@code verificarCauda} acompanha o último inserido pelas movimentações do heap.
+	 */
+	@Test
+	public void comparacaoAleatoriaTest() throws FilaCheiaException, FilaVaziaException {
+		Random aleatorio = new Random(18);
+		for (int aridade : ARIDADES) {
+			FilaPrioridadeDaria fila = new FilaPrioridadeDaria(aridade, 1_000);
+			PriorityQueue<Integer> referencia = new PriorityQueue<Integer>();
+			Integer ultimo = null;
+			for (int passo = 0; passo < 20_000; passo++) {
+				if (!fila.isFull() && (referencia.isEmpty() || aleatorio.nextInt(3) > 0)) {
+					int valor = aleatorio.nextInt(100);
+					fila.enfileirarInt(valor);
+					referencia.add(valor);
+					ultimo = valor;
+				} else {
+					int removido = fila.desenfileirarInt();
+					assertEquals(referencia.poll().intValue(), removido);
+					if (ultimo != null && fila.verificarCauda() == null) {
+						assertEquals(ultimo.intValue(), removido);
+						ultimo = null;
+					}
+				}
+				assertEquals(ultimo, fila.verificarCauda());
+				assertEquals(referencia.peek(), fila.verificarCabeca());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,169 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaIF;
+import tad.fila.FilaRodaDeTempo;
+import tad.fila.FilaRodaDeTempo.Agendamento;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaRodaDeTempo {
+
+	private final long[] agora = new long[1]; // Relógio controlado pelo teste, em nanossegundos
+	private FilaRodaDeTempo roda = null;
+
+	@BeforeEach
+	public void iniciar() {
+		agora[0] = 0;
+		// Ticks de 1 ms, rodas de 4 posições e 3 níveis: alcance de 64 ms sem reposicionar.
+		roda = new FilaRodaDeTempo(1, TimeUnit.MILLISECONDS, 4, 3, () -> agora[0]);
+	}
+
+	private void avancarRelogio(long milissegundos) {
+		agora[0] += TimeUnit.MILLISECONDS.toNanos(milissegundos);
+	}
+
+	@Test
+	public void expiracaoEmOrdemTest() throws FilaVaziaException {
+		FilaIF<Integer> expirados = roda.expirados();
+		roda.agendar(30, 30, TimeUnit.MILLISECONDS);
+		roda.agendar(2, 2, TimeUnit.MILLISECONDS);
+		roda.agendar(10, 10, TimeUnit.MILLISECONDS);
+		roda.agendar(0, 0, TimeUnit.MILLISECONDS);
+		assertEquals(3, roda.pendentes());
+		assertEquals(Integer.valueOf(0), expirados.desenfileirar());
+		assertTrue(expirados.isEmpty());
+		avancarRelogio(1);
+		assertNull(expirados.verificarCabeca());
+		avancarRelogio(1);
+		assertEquals(Integer.valueOf(2), expirados.desenfileirar());
+		avancarRelogio(20);
+		assertEquals(Integer.valueOf(10), expirados.verificarCabeca());
+		assertEquals(Integer.valueOf(10), expirados.desenfileirar());
+		assertThrows(FilaVaziaException.class, () -> expirados.desenfileirar());
+		avancarRelogio(8);
+		assertEquals(Integer.valueOf(30), expirados.desenfileirar());
+		assertEquals(0, roda.pendentes());
+		assertThrows(UnsupportedOperationException.class, () -> expirados.enfileirar(1));
+	}
+
+	/**
+	 * No meio de um tick, um atraso zero ou negativo não é arredondado para o tick
+	 * seguinte: o item expira na hora. Um atraso positivo mínimo espera o próximo tick.
+	 */
+	@Test
+	public void atrasoZeroNoMeioDoTickTest() throws FilaVaziaException {
+		FilaIF<Integer> expirados = roda.expirados();
+		agora[0] += TimeUnit.MICROSECONDS.toNanos(1_500);
+		assertEquals(0, roda.avancar());
+		roda.agendar(1, 0, TimeUnit.MILLISECONDS);
+		roda.agendar(2, -5, TimeUnit.MILLISECONDS);
+		roda.agendar(3, 1, TimeUnit.NANOSECONDS);
+		assertEquals(2, roda.expiradosDisponiveis());
+		assertEquals(1, roda.pendentes());
+		assertEquals(Integer.valueOf(1), expirados.desenfileirar());
+		assertEquals(Integer.valueOf(2), expirados.desenfileirar());
+		assertNull(expirados.verificarCabeca());
+		agora[0] += TimeUnit.MICROSECONDS.toNanos(500);
+		assertEquals(Integer.valueOf(3), expirados.desenfileirar());
+	}
+
+	/**
+	 * Atrasos enormes não podem dar a volta no long e parecer já vencidos: ficam além
+	 * do alcance da roda e continuam pendentes enquanto o relógio avança.
+	 */
+	@Test
+	public void atrasoMaximoNaoExpiraTest() {
+		avancarRelogio(5);
+		Agendamento maximo = roda.agendar(1, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		Agendamento saturado = roda.agendar(2, Long.MAX_VALUE, TimeUnit.DAYS);
+		assertEquals(2, roda.pendentes());
+		assertEquals(0, roda.expiradosDisponiveis());
+		for (int i = 0; i < 10; i++) {
+			avancarRelogio(100); // Várias voltas do nível mais alto, com reposicionamento.
+			assertEquals(0, roda.avancar());
+		}
+		assertEquals(2, roda.pendentes());
+		assertTrue(maximo.isNaFila());
+		assertTrue(roda.cancelar(maximo));
+		assertTrue(roda.cancelar(saturado));
+		assertEquals(0, roda.pendentes());
+	}
+
+	@Test
+	public void cancelarTest() {
+		Agendamento a = roda.agendar(1, 5, TimeUnit.MILLISECONDS);
+		Agendamento b = roda.agendar(2, 50, TimeUnit.MILLISECONDS);
+		Agendamento c = roda.agendar(3, 5, TimeUnit.MILLISECONDS);
+		assertTrue(roda.cancelar(a));
+		assertFalse(roda.cancelar(a));
+		assertFalse(a.isNaFila());
+		assertTrue(roda.cancelar(b));
+		assertEquals(1, roda.pendentes());
+		avancarRelogio(100);
+		assertEquals(1, roda.avancar());
+		assertTrue(c.isNaFila());
+		assertTrue(roda.cancelar(c));
+		assertEquals(0, roda.expiradosDisponiveis());
+		assertNull(roda.expirados().verificarCabeca());
+	}
+
+	@Test
+	public void loteDoMesmoTickTest() {
+		for (int i = 0; i < 5; i++) {
+			roda.agendar(i, 3, TimeUnit.MILLISECONDS);
+		}
+		avancarRelogio(3);
+		Integer[] destino = new Integer[8];
+		assertEquals(5, roda.expirados().desenfileirarAte(destino, 8));
+		assertArrayEquals(new Integer[] {0, 1, 2, 3, 4}, Arrays.copyOf(destino, 5));
+	}
+
+	/**
+	 * Prazos aleatórios, inclusive além do alcance das rodas, avançando o relógio em
+	 * passos irregulares: cada item deve sair no primeiro avanço em que o prazo venceu.
+	 */
+	@Test
+	public void prazosAleatoriosTest() {
+		Random aleatorio = new Random(20);
+		int quantidade = 2_000;
+		long[] prazo = new long[quantidade];
+		for (int i = 0; i < quantidade; i++) {
+			long atraso = aleatorio.nextInt(500);
+			prazo[i] = atraso;
+			roda.agendar(i, atraso, TimeUnit.MILLISECONDS);
+		}
+		FilaIF<Integer> expirados = roda.expirados();
+		List<Integer> saida = new ArrayList<Integer>();
+		long decorrido = 0;
+		while (decorrido <= 500) {
+			int passo = 1 + aleatorio.nextInt(7);
+			avancarRelogio(passo);
+			decorrido += passo;
+			Integer item;
+			while ((item = expirados.tentarDesenfileirar()) != null) {
+				assertTrue(prazo[item] <= decorrido, "item " + item + " expirou cedo");
+				// Atraso zero expira no próprio agendamento, antes do primeiro passo.
+				assertTrue(prazo[item] == 0 || prazo[item] > decorrido - passo, "item " + item + " expirou tarde");
+				saida.add(item);
+			}
+		}
+		assertEquals(quantidade, saida.size());
+		assertEquals(0, roda.pendentes());
+	}
+
+}
@@ -0,0 +1,124 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import tad.fila.FilaCheiaException;
+import tad.fila.FilaSpsc;
+import tad.fila.FilaVaziaException;
+
+public class TestaFilaSpsc {
+
+	/**
+	 * Numa única thread: cheia, vazia, cabeça e cauda enquanto os índices dão muitas
+	 * voltas no array.
+	 */
+	@Test
+	public void cheiaVaziaEVoltasTest() throws FilaCheiaException, FilaVaziaException {
+		FilaSpsc fila = new FilaSpsc(3);
+		assertEquals(4, fila.capacidade());
+		assertTrue(fila.isEmpty());
+		assertNull(fila.verificarCabeca());
+		assertNull(fila.verificarCauda());
+		assertNull(fila.tentarDesenfileirar());
+		assertThrows(FilaVaziaException.class, () -> fila.desenfileirar());
+		int proximoEnfileirado = 0;
+		int proximoDesenfileirado = 0;
+		for (int volta = 0; volta < 50; volta++) {
+			while (fila.tentarEnfileirar(proximoEnfileirado)) {
+				assertEquals(Integer.valueOf(proximoEnfileirado), fila.verificarCauda());
+				proximoEnfileirado++;
+			}
+			assertTrue(fila.isFull());
+			assertThrows(FilaCheiaException.class, () -> fila.enfileirar(-1));
+			// Esvazia só três, para que a próxima volta comece em outra posição do array.
+			for (int i = 0; i < 3; i++) {
+				assertEquals(Integer.valueOf(proximoDesenfileirado), fila.verificarCabeca());
+				assertEquals(Integer.valueOf(proximoDesenfileirado++), fila.desenfileirar());
+			}
+			assertFalse(fila.isFull());
+		}
+		while (!fila.isEmpty()) {
+			assertEquals(Integer.valueOf(proximoDesenfileirado++), fila.tentarDesenfileirar());
+		}
+		assertEquals(proximoEnfileirado, proximoDesenfileirado);
+		assertNull(fila.verificarCauda());
+		assertThrows(IllegalArgumentException.class, () -> new FilaSpsc(0));
+	}
+
+	@Test
+	public void enfileirarTodosTudoOuNadaTest() throws FilaCheiaException {
+		FilaSpsc fila = new FilaSpsc(4);
+		fila.enfileirar(1);
+		fila.enfileirar(2);
+		fila.tentarDesenfileirar();
+		assertThrows(FilaCheiaException.class, () -> fila.enfileirarTodos(new Integer[] {3, 4, 5, 6}));
+		assertEquals(Integer.valueOf(2), fila.verificarCauda()); // Nada entrou.
+		fila.enfileirarTodos(new Integer[] {3, 4, 5}); // Dá a volta no fim do array.
+		assertTrue(fila.isFull());
+		Integer[] destino = new Integer[4];
+		assertEquals(4, fila.desenfileirarAte(destino, 4));
+		assertArrayEquals(new Integer[] {2, 3, 4, 5}, destino);
+	}
+
+	/**
+	 * Um produtor e um consumidor sobre uma fila pequena: o consumidor deve receber
+	 * todos os valores, na ordem, sem perdas nem repetições.
+	 */
+	@Test
+	public void umProdutorUmConsumidorTest() throws InterruptedException {
+		final FilaSpsc fila = new FilaSpsc(8);
+		final int quantidade = 200_000;
+		final AtomicInteger erros = new AtomicInteger();
+		Thread produtor = new Thread(() -> {
+			for (int i = 0; i < quantidade; i++) {
+				if (i % 5 == 0 && i + 1 < quantidade) {
+					Integer[] lote = {i, i + 1};
+					while (!enfileirarLote(fila, lote)) {
+						Thread.yield();
+					}
+					i++;
+				} else {
+					while (!fila.tentarEnfileirar(i)) {
+						Thread.yield();
+					}
+				}
+			}
+		});
+		Thread consumidor = new Thread(() -> {
+			int esperado = 0;
+			while (esperado < quantidade) {
+				Integer item = fila.tentarDesenfileirar();
+				if (item == null) {
+					Thread.yield();
+				} else if (item != esperado++) {
+					erros.incrementAndGet();
+				}
+			}
+		});
+		produtor.start();
+		consumidor.start();
+		produtor.join();
+		consumidor.join();
+		assertEquals(0, erros.get(), "elementos fora de ordem");
+		assertTrue(fila.isEmpty());
+	}
+
+	private static boolean enfileirarLote(FilaSpsc fila, Integer[] lote) {
+		try {
+			fila.enfileirarTodos(lote);
+			return true;
+		} catch (FilaCheiaException e) {
+			return false;
+		}
+	}
+
+}
@@ -256,4 +256,15 @@ public class TestaListaEncadeada {
         listaEnc.remove(43); // Remove cabeça, Lista: vazia
         assertEquals(0, listaEnc.size());
     }
+
+    @Test
+    public void tentarRemoverTest() {
+        assertNull(listaEnc.tentarRemover(2));
+        listaEnc.insert(2);
+        listaEnc.insert(5);
+        assertEquals(Integer.valueOf(2), listaEnc.tentarRemover(2).getChave());
+        assertNull(listaEnc.tentarRemover(9));
+        assertEquals("5", listaEnc.imprimeEmOrdem());
+    }
+
 }
\ No newline at end of file
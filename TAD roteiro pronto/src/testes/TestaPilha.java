@@ -1,8 +1,11 @@
 package testes;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ConcurrentModificationException;
+
 import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -167,7 +170,54 @@ public class TestaPilha {
 	    });
 	}
 	
-
+	@Test
+	public void multitopVisaoTest() {
+		MinhaPilha origem = new MinhaPilha();
+		origem.empilhar(3);
+		origem.empilhar(2);
+		origem.empilhar(10);
+		origem.empilhar(3);
+		
+		MinhaPilha.VisaoMultitop visao = origem.multitopVisao(3);
+		assertEquals(3, visao.tamanho());
+		assertEquals(new Integer(2), visao.topo());
+		assertEquals(origem.multitop(3), visao.materializar());
+		assertEquals(origem.multitop(3).multitop(2), visao.multitop(2).materializar());
+		assertEquals(origem.multitop(5), origem.multitopVisao(5).materializar());
+		assertThrows(UnsupportedOperationException.class, () -> visao.empilhar(1));
+		assertThrows(PilhaVaziaException.class, () -> origem.multitopVisao(10));
+		
+		origem.desempilhar();
+		assertThrows(ConcurrentModificationException.class, () -> visao.topo());
+		assertThrows(ConcurrentModificationException.class, () -> visao.materializar());
+	}
 	
+	@Test
+	public void empilharTodosDesempilharAteTest() {
+		pilha.empilharTodos(new Integer[] {1, 2, 3});
+		Assert.assertEquals(new Integer(3), pilha.topo());
+		
+		assertThrows(PilhaCheiaException.class, () -> pilha.empilharTodos(new Integer[] {4, 5, 6}));
+		Assert.assertEquals(new Integer(3), pilha.topo()); // nada foi empilhado
+		
+		Integer[] destino = new Integer[5];
+		assertEquals(2, pilha.desempilharAte(destino, 2));
+		assertArrayEquals(new Integer[] {2, 3, null, null, null}, destino);
+		assertEquals(1, pilha.desempilharAte(destino, 5));
+		Assert.assertEquals(new Integer(1), destino[0]);
+		Assert.assertTrue(pilha.isEmpty());
+		assertEquals(0, pilha.desempilharAte(destino, 5));
+	}
+	
+	@Test
+	public void tentarEmpilharDesempilharTest() {
+		Assert.assertNull(pilha.tentarDesempilhar());
+		for (int i = 0; i < 5; i++) {
+			Assert.assertTrue(pilha.tentarEmpilhar(i));
+		}
+		Assert.assertFalse(pilha.tentarEmpilhar(5));
+		Assert.assertEquals(new Integer(4), pilha.tentarDesempilhar());
+		Assert.assertEquals(new Integer(3), pilha.topo());
+	}
 
 }
@@ -0,0 +1,68 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tad.pilha.PilhaAgregada;
+import tad.pilha.PilhaVaziaException;
+
+public class TestaPilhaAgregada {
+
+	private PilhaAgregada pilha = null;
+
+	@BeforeEach
+	public void iniciar() {
+		pilha = new PilhaAgregada(2);
+	}
+
+	@Test
+	public void agregadosAoEmpilharEDesempilharTest() {
+		pilha.empilhar(5);
+		pilha.empilhar(2);
+		pilha.empilhar(8);
+		pilha.empilhar(-1);
+		assertEquals(-1, pilha.minimo());
+		assertEquals(8, pilha.maximo());
+		assertEquals(14, pilha.soma());
+		assertEquals(4, pilha.contagem());
+
+		pilha.desempilhar();
+		assertEquals(2, pilha.minimo());
+		assertEquals(8, pilha.maximo());
+		assertEquals(15, pilha.soma());
+
+		pilha.desempilhar();
+		assertEquals(2, pilha.minimo());
+		assertEquals(5, pilha.maximo());
+		assertEquals(7, pilha.soma());
+		assertEquals(2, pilha.contagem());
+	}
+
+	@Test
+	public void pilhaVaziaTest() {
+		assertEquals(0, pilha.soma());
+		assertEquals(0, pilha.contagem());
+		assertThrows(PilhaVaziaException.class, () -> pilha.minimo());
+		assertThrows(PilhaVaziaException.class, () -> pilha.maximo());
+		assertThrows(PilhaVaziaException.class, () -> pilha.desempilhar());
+	}
+
+	@Test
+	public void multitopRecalculaAgregadosTest() {
+		pilha.empilhar(1);
+		pilha.empilhar(9);
+		pilha.empilhar(4);
+		PilhaAgregada topo = (PilhaAgregada) pilha.multitop(2);
+		assertEquals(4, topo.minimo());
+		assertEquals(9, topo.maximo());
+		assertEquals(13, topo.soma());
+		assertEquals(4, topo.desempilharInt());
+		assertEquals(9, topo.desempilharInt());
+		assertTrue(topo.isEmpty());
+	}
+
+}
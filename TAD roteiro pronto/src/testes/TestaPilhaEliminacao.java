@@ -0,0 +1,145 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tad.pilha.PilhaEliminacao;
+import tad.pilha.PilhaIF;
+import tad.pilha.PilhaVaziaException;
+
+public class TestaPilhaEliminacao {
+
+	private PilhaIF<Integer> pilha = null;
+
+	@BeforeEach
+	public void iniciar() {
+		pilha = new PilhaEliminacao(4);
+	}
+
+	@Test
+	public void empilharDesempilharTest() {
+		assertTrue(pilha.isEmpty());
+		assertNull(pilha.topo());
+		assertNull(pilha.tentarDesempilhar());
+		pilha.empilhar(3);
+		pilha.empilhar(5);
+		pilha.empilhar(7);
+		assertFalse(pilha.isEmpty());
+		assertEquals(Integer.valueOf(7), pilha.topo());
+		assertEquals(Integer.valueOf(7), pilha.desempilhar());
+		assertEquals(Integer.valueOf(5), pilha.tentarDesempilhar());
+		assertEquals(Integer.valueOf(3), pilha.desempilhar());
+		assertTrue(pilha.isEmpty());
+		assertThrows(PilhaVaziaException.class, () -> pilha.desempilhar());
+		assertThrows(IllegalArgumentException.class, () -> new PilhaEliminacao(0));
+	}
+
+	@Test
+	public void multitopTest() {
+		pilha.empilhar(3);
+		pilha.empilhar(2);
+		pilha.empilhar(10);
+		pilha.empilhar(4);
+		PilhaIF<Integer> topo = pilha.multitop(2);
+		assertEquals(Integer.valueOf(4), topo.desempilhar());
+		assertEquals(Integer.valueOf(10), topo.desempilhar());
+		assertTrue(topo.isEmpty());
+		assertEquals(Integer.valueOf(4), pilha.topo());
+		assertTrue(pilha.multitop(0).isEmpty());
+		assertThrows(PilhaVaziaException.class, () -> pilha.multitop(5));
+	}
+
+	@Test
+	public void empilharTodosDesempilharAteTest() {
+		pilha.empilhar(1);
+		pilha.empilharTodos(new Integer[] {2, 3, 4});
+		assertEquals(Integer.valueOf(4), pilha.topo());
+		Integer[] destino = new Integer[3];
+		assertEquals(3, pilha.desempilharAte(destino, 3));
+		assertArrayEquals(new Integer[] {2, 3, 4}, destino);
+		assertEquals(1, pilha.desempilharAte(destino, 3));
+		assertEquals(Integer.valueOf(1), destino[0]);
+		assertTrue(pilha.isEmpty());
+		assertEquals(0, pilha.desempilharAte(destino, 3));
+		assertThrows(IllegalArgumentException.class, () -> pilha.desempilharAte(destino, 4));
+	}
+
+	/**
+	 * Metade das threads empilha e a outra metade desempilha ao mesmo tempo, o que
+	 * força falhas de CAS e encontros no array de eliminação. Cada valor empilhado deve
+	 * ser desempilhado exatamente uma vez, somando o que as threads removeram e o que
+	 * sobrou na pilha.
+	 */
+	@Test
+	public void concorrenciaSemPerdaNemDuplicacaoTest() throws InterruptedException {
+		final int pares = 4;
+		final int porThread = 20_000;
+		final int total = pares * porThread;
+		final boolean[] visto = new boolean[total];
+		final AtomicInteger erros = new AtomicInteger();
+		final CountDownLatch largada = new CountDownLatch(1);
+		Thread[] threads = new Thread[2 * pares];
+		for (int t = 0; t < pares; t++) {
+			final int base = t * porThread;
+			threads[t] = new Thread(() -> {
+				aguardar(largada);
+				for (int i = 0; i < porThread; i++) {
+					pilha.empilhar(base + i);
+				}
+			});
+			threads[pares + t] = new Thread(() -> {
+				aguardar(largada);
+				for (int i = 0; i < porThread; i++) {
+					Integer valor = pilha.tentarDesempilhar();
+					if (valor == null) {
+						Thread.yield();
+					} else {
+						marcar(visto, valor, erros);
+					}
+				}
+			});
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		largada.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		while (!pilha.isEmpty()) {
+			marcar(visto, pilha.desempilhar(), erros);
+		}
+		assertEquals(0, erros.get(), "elementos duplicados");
+		for (int i = 0; i < total; i++) {
+			assertTrue(visto[i], "elemento perdido: " + i);
+		}
+	}
+
+	private static void marcar(boolean[] visto, int valor, AtomicInteger erros) {
+		synchronized (visto) {
+			if (visto[valor]) {
+				erros.incrementAndGet();
+			}
+			visto[valor] = true;
+		}
+	}
+
+	private static void aguardar(CountDownLatch largada) {
+		try {
+			largada.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,101 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tad.pilha.MinhaPilhaEncadeada;
+import tad.pilha.PilhaIF;
+import tad.pilha.PilhaVaziaException;
+
+public class TestaPilhaEncadeada {
+
+	private PilhaIF<Integer> pilha = null;
+
+	@BeforeEach
+	public void iniciar() {
+		pilha = new MinhaPilhaEncadeada();
+	}
+
+	@Test
+	public void empilharDesempilharTest() {
+		assertTrue(pilha.isEmpty());
+		assertNull(pilha.topo());
+		pilha.empilhar(3);
+		pilha.empilhar(5);
+		pilha.empilhar(7);
+		assertFalse(pilha.isEmpty());
+		assertEquals(Integer.valueOf(7), pilha.topo());
+		assertEquals(Integer.valueOf(7), pilha.desempilhar());
+		assertEquals(Integer.valueOf(5), pilha.desempilhar());
+		assertEquals(Integer.valueOf(3), pilha.desempilhar());
+		assertTrue(pilha.isEmpty());
+		assertThrows(PilhaVaziaException.class, () -> pilha.desempilhar());
+	}
+
+	@Test
+	public void multitopTest() {
+		pilha.empilhar(3);
+		pilha.empilhar(2);
+		pilha.empilhar(10);
+		pilha.empilhar(4);
+		PilhaIF<Integer> topo = pilha.multitop(2);
+		assertEquals(Integer.valueOf(4), topo.desempilhar());
+		assertEquals(Integer.valueOf(10), topo.desempilhar());
+		assertTrue(topo.isEmpty());
+		assertEquals(Integer.valueOf(4), pilha.topo());
+		assertTrue(pilha.multitop(0).isEmpty());
+		assertThrows(PilhaVaziaException.class, () -> pilha.multitop(5));
+	}
+
+	@Test
+	public void empilharTodosDesempilharAteTest() {
+		pilha.empilhar(1);
+		pilha.empilharTodos(new Integer[] {2, 3, 4});
+		assertEquals(Integer.valueOf(4), pilha.topo());
+		Integer[] destino = new Integer[3];
+		assertEquals(3, pilha.desempilharAte(destino, 3));
+		assertArrayEquals(new Integer[] {2, 3, 4}, destino);
+		assertEquals(1, pilha.desempilharAte(destino, 3));
+		assertEquals(Integer.valueOf(1), destino[0]);
+		assertTrue(pilha.isEmpty());
+	}
+
+	@Test
+	public void concorrenciaSemPerdaTest() throws InterruptedException {
+		final int threads = 8;
+		final int porThread = 20_000;
+		Thread[] produtores = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			final int base = t * porThread;
+			produtores[t] = new Thread(() -> {
+				for (int i = 0; i < porThread; i++) {
+					pilha.empilhar(base + i);
+					if (i % 3 == 0) {
+						pilha.empilhar(pilha.desempilhar());
+					}
+				}
+			});
+			produtores[t].start();
+		}
+		for (Thread produtor : produtores) {
+			produtor.join();
+		}
+		boolean[] visto = new boolean[threads * porThread];
+		while (!pilha.isEmpty()) {
+			int valor = pilha.desempilhar();
+			assertFalse(visto[valor], "elemento duplicado: " + valor);
+			visto[valor] = true;
+		}
+		for (int i = 0; i < visto.length; i++) {
+			assertTrue(visto[i], "elemento perdido: " + i);
+		}
+	}
+
+}
@@ -0,0 +1,116 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import tad.pilha.PilhaForaDoHeap;
+import tad.pilha.PilhaIF;
+import tad.pilha.PilhaVaziaException;
+
+public class TestaPilhaForaDoHeap {
+
+	/** Segmentos de 4 inteiros (16 bytes), para cruzar fronteiras com poucos elementos. */
+	private static final int SEGMENTO = 4;
+	private static final long BYTES_SEGMENTO = SEGMENTO * Integer.BYTES;
+
+	@Test
+	public void empilharDesempilharEntreSegmentosTest() {
+		try (PilhaForaDoHeap pilha = new PilhaForaDoHeap(SEGMENTO)) {
+			assertTrue(pilha.isEmpty());
+			assertNull(pilha.topo());
+			assertEquals(0, pilha.bytesAlocados());
+			for (int i = 0; i < 4 * SEGMENTO + 1; i++) {
+				pilha.empilharInt(i);
+				assertEquals(i, pilha.topoInt());
+			}
+			assertEquals(17, pilha.tamanho());
+			assertEquals(5 * BYTES_SEGMENTO, pilha.bytesAlocados());
+			pilha.empilhar(-7);
+			assertEquals(Integer.valueOf(-7), pilha.desempilhar());
+			for (int i = 4 * SEGMENTO; i >= 0; i--) {
+				assertEquals(i, pilha.desempilharInt());
+			}
+			assertTrue(pilha.isEmpty());
+			assertThrows(PilhaVaziaException.class, () -> pilha.desempilharInt());
+			assertThrows(PilhaVaziaException.class, () -> pilha.topoInt());
+		}
+		assertThrows(IllegalArgumentException.class, () -> new PilhaForaDoHeap(3));
+		assertThrows(IllegalArgumentException.class, () -> new PilhaForaDoHeap(0));
+	}
+
+	/**
+	 * Ao esvaziar, a pilha mantém no máximo um segmento livre além do que contém o topo;
+	 * oscilar na fronteira não aloca nem libera nada.
+	 */
+	@Test
+	public void liberacaoDoSegmentoDeReservaTest() {
+		try (PilhaForaDoHeap pilha = new PilhaForaDoHeap(SEGMENTO)) {
+			for (int i = 0; i < 3 * SEGMENTO; i++) {
+				pilha.empilharInt(i);
+			}
+			assertEquals(3 * BYTES_SEGMENTO, pilha.bytesAlocados());
+			while (pilha.tamanho() > SEGMENTO + 1) {
+				pilha.desempilharInt();
+			}
+			// O topo está no segundo segmento; o terceiro fica como reserva.
+			assertEquals(3 * BYTES_SEGMENTO, pilha.bytesAlocados());
+			pilha.desempilharInt();
+			// O topo voltou ao primeiro segmento: só o segundo continua como reserva.
+			assertEquals(2 * BYTES_SEGMENTO, pilha.bytesAlocados());
+			for (int volta = 0; volta < 10; volta++) {
+				pilha.empilharInt(volta);
+				pilha.desempilharInt();
+				assertEquals(2 * BYTES_SEGMENTO, pilha.bytesAlocados());
+			}
+			while (!pilha.isEmpty()) {
+				pilha.desempilharInt();
+			}
+			assertEquals(BYTES_SEGMENTO, pilha.bytesAlocados());
+			pilha.empilharInt(42);
+			assertEquals(BYTES_SEGMENTO, pilha.bytesAlocados());
+		}
+	}
+
+	@Test
+	public void multitopTest() {
+		try (PilhaForaDoHeap pilha = new PilhaForaDoHeap(SEGMENTO)) {
+			for (int i = 0; i < 10; i++) {
+				pilha.empilharInt(i);
+			}
+			PilhaIF<Integer> topo = pilha.multitop(6);
+			try {
+				for (int i = 9; i >= 4; i--) {
+					assertEquals(Integer.valueOf(i), topo.desempilhar());
+				}
+				assertTrue(topo.isEmpty());
+			} finally {
+				((PilhaForaDoHeap) topo).close();
+			}
+			assertEquals(10, pilha.tamanho());
+			assertTrue(pilha.multitop(0).isEmpty());
+			assertThrows(PilhaVaziaException.class, () -> pilha.multitop(11));
+		}
+	}
+
+	@Test
+	public void nuloEFechamentoTest() {
+		PilhaForaDoHeap pilha = new PilhaForaDoHeap(SEGMENTO);
+		assertThrows(IllegalArgumentException.class, () -> pilha.empilhar(null));
+		assertTrue(pilha.isEmpty());
+		pilha.empilharInt(1);
+		pilha.close();
+		assertEquals(0, pilha.bytesAlocados());
+		pilha.close(); // Segundo fechamento não faz nada.
+		assertThrows(IllegalStateException.class, () -> pilha.empilharInt(2));
+		assertThrows(IllegalStateException.class, () -> pilha.desempilhar());
+		assertThrows(IllegalStateException.class, () -> pilha.topo());
+		assertThrows(IllegalStateException.class, () -> pilha.isEmpty());
+		assertThrows(IllegalStateException.class, () -> pilha.tamanho());
+		assertThrows(IllegalStateException.class, () -> pilha.multitop(1));
+	}
+
+}
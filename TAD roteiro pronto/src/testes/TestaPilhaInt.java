@@ -0,0 +1,163 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tad.pilha.MinhaPilha;
+import tad.pilha.MinhaPilhaInt;
+import tad.pilha.PilhaIF;
+import tad.pilha.PilhaVaziaException;
+
+public class TestaPilhaInt {
+
+	private MinhaPilhaInt pilha = null;
+
+	@BeforeEach
+	public void iniciar() {
+		pilha = new MinhaPilhaInt(4);
+	}
+
+	@Test
+	public void empilharDesempilharIntTest() {
+		pilha.empilharInt(3);
+		pilha.empilharInt(5);
+		pilha.empilharInt(7);
+		assertEquals(7, pilha.topoInt());
+		assertEquals(7, pilha.desempilharInt());
+		assertEquals(5, pilha.desempilharInt());
+		assertEquals(3, pilha.desempilharInt());
+		assertTrue(pilha.isEmpty());
+		assertThrows(PilhaVaziaException.class, () -> pilha.desempilharInt());
+		assertThrows(PilhaVaziaException.class, () -> pilha.topoInt());
+	}
+
+	@Test
+	public void interfaceComBoxingTest() {
+		PilhaIF<Integer> comoInterface = pilha;
+		assertNull(comoInterface.topo());
+		comoInterface.empilhar(10);
+		comoInterface.empilhar(20);
+		assertEquals(Integer.valueOf(20), comoInterface.topo());
+		assertEquals(Integer.valueOf(20), comoInterface.desempilhar());
+		assertFalse(comoInterface.isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> comoInterface.empilhar(null));
+	}
+
+	@Test
+	public void cresceEEncolheTest() {
+		for (int i = 0; i < 100; i++) {
+			pilha.empilharInt(i);
+		}
+		assertEquals(100, pilha.tamanho());
+		assertEquals(128, pilha.capacidade());
+		for (int i = 99; i >= 1; i--) {
+			assertEquals(i, pilha.desempilharInt());
+		}
+		assertEquals(4, pilha.capacidade());
+		assertEquals(0, pilha.desempilharInt());
+	}
+
+	/**
+	 * Uma remoção em bloco grande deve encolher o array de uma vez até a ocupação voltar
+	 * a respeitar o limiar, e não só um fator de crescimento por chamada.
+	 */
+	@Test
+	public void encolheAposRemocaoEmBlocoTest() {
+		for (int i = 0; i < 1024; i++) {
+			pilha.empilharInt(i);
+		}
+		assertEquals(1024, pilha.capacidade());
+		int[] destino = new int[1020];
+		assertEquals(1020, pilha.desempilharAteInt(destino, 1020));
+		assertEquals(4, pilha.tamanho());
+		assertEquals(16, pilha.capacidade()); // 4 de 16 é exatamente o limiar de 1/4
+		Integer[] resto = new Integer[4];
+		assertEquals(4, pilha.desempilharAte(resto, 4));
+		assertEquals(4, pilha.capacidade());
+		assertArrayEquals(new Integer[] {0, 1, 2, 3}, resto);
+	}
+
+	@Test
+	public void politicaSemEncolhimentoTest() {
+		MinhaPilhaInt semEncolher = new MinhaPilhaInt(2, 1.5, 0.0);
+		for (int i = 0; i < 50; i++) {
+			semEncolher.empilharInt(i);
+		}
+		int capacidade = semEncolher.capacidade();
+		while (!semEncolher.isEmpty()) {
+			semEncolher.desempilharInt();
+		}
+		assertEquals(capacidade, semEncolher.capacidade());
+		assertThrows(IllegalArgumentException.class, () -> new MinhaPilhaInt(4, 2.0, 0.5));
+		assertThrows(IllegalArgumentException.class, () -> new MinhaPilhaInt(4, 1.0, 0.0));
+	}
+
+	@Test
+	public void operacoesEmBlocoTest() {
+		int[] valores = new int[50];
+		for (int i = 0; i < valores.length; i++) {
+			valores[i] = i;
+		}
+		pilha.empilharTodosInt(valores, 10, 40);
+		assertEquals(40, pilha.tamanho());
+		assertEquals(49, pilha.topoInt());
+		int[] destino = new int[3];
+		assertEquals(3, pilha.desempilharAteInt(destino, 3));
+		assertArrayEquals(new int[] {47, 48, 49}, destino);
+		Integer[] boxed = new Integer[40];
+		assertEquals(37, pilha.desempilharAte(boxed, 40));
+		assertEquals(Integer.valueOf(10), boxed[0]);
+		assertTrue(pilha.isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> pilha.empilharTodos(new Integer[] {1, null}));
+		assertTrue(pilha.isEmpty());
+	}
+
+	@Test
+	public void multitopTest() {
+		pilha.empilharInt(3);
+		pilha.empilharInt(2);
+		pilha.empilharInt(10);
+		pilha.empilharInt(3);
+		MinhaPilhaInt esperado = new MinhaPilhaInt();
+		esperado.empilharInt(3);
+		esperado.empilharInt(10);
+		esperado.empilharInt(2);
+		MinhaPilhaInt esperado2 = new MinhaPilhaInt();
+		esperado2.empilharInt(3);
+		assertEquals(esperado, pilha.multitop(3)); // 3, 10, 2, como em MinhaPilha
+		assertEquals(esperado2, pilha.multitop(5)); // Entre o tamanho e o dobro: só o topo
+		assertTrue(pilha.multitop(0).isEmpty());
+		assertThrows(PilhaVaziaException.class, () -> pilha.multitop(10));
+	}
+
+	/**
+	 * Mesmas entradas do multitopTest de {@link testes.TestaPilha}: as duas pilhas devem
+	 * produzir resultados com os mesmos elementos na mesma ordem.
+	 */
+	@Test
+	public void multitopComoMinhaPilhaTest() {
+		MinhaPilha referencia = new MinhaPilha();
+		for (int valor : new int[] {3, 2, 10, 3}) {
+			pilha.empilharInt(valor);
+			referencia.empilhar(valor);
+		}
+		for (int k = -1; k <= 8; k++) {
+			PilhaIF<Integer> obtido = pilha.multitop(k);
+			PilhaIF<Integer> esperado = referencia.multitop(k);
+			while (!esperado.isEmpty()) {
+				assertEquals(esperado.desempilhar(), obtido.desempilhar(), "k = " + k);
+			}
+			assertTrue(obtido.isEmpty(), "k = " + k);
+		}
+		assertThrows(PilhaVaziaException.class, () -> referencia.multitop(9));
+		assertThrows(PilhaVaziaException.class, () -> pilha.multitop(9));
+	}
+
+}
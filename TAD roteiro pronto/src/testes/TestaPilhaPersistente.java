@@ -0,0 +1,59 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import tad.pilha.PilhaPersistente;
+import tad.pilha.PilhaVaziaException;
+import tad.pilha.PilhaVersionada;
+
+public class TestaPilhaPersistente {
+
+	@Test
+	public void versoesIndependentesTest() {
+		PilhaPersistente<Integer> vazia = PilhaPersistente.vazia();
+		PilhaPersistente<Integer> v1 = vazia.empilhar(3);
+		PilhaPersistente<Integer> v2 = v1.empilhar(5);
+		PilhaPersistente<Integer> v3 = v2.desempilhar().empilhar(7);
+
+		assertTrue(vazia.isEmpty());
+		assertEquals(Integer.valueOf(3), v1.topo());
+		assertEquals(Integer.valueOf(5), v2.topo());
+		assertEquals(Integer.valueOf(7), v3.topo());
+		assertEquals(2, v2.tamanho());
+		assertSame(vazia, v1.desempilhar());
+		assertThrows(PilhaVaziaException.class, () -> vazia.desempilhar());
+	}
+
+	@Test
+	public void multitopCompartilhadoTest() {
+		PilhaPersistente<Integer> pilha = PilhaPersistente.<Integer>vazia().empilhar(3).empilhar(2).empilhar(10).empilhar(4);
+		PilhaPersistente<Integer> topo2 = pilha.multitop(2);
+		assertEquals(2, topo2.tamanho());
+		assertEquals(PilhaPersistente.<Integer>vazia().empilhar(10).empilhar(4), topo2);
+		assertTrue(topo2.desempilhar().desempilhar().isEmpty());
+		assertEquals(Integer.valueOf(1), topo2.desempilhar().desempilhar().empilhar(1).topo());
+		assertSame(pilha, pilha.multitop(4));
+		assertThrows(PilhaVaziaException.class, () -> pilha.multitop(5));
+	}
+
+	@Test
+	public void instantaneoDaPilhaVersionadaTest() {
+		PilhaVersionada<Integer> pilha = new PilhaVersionada<Integer>();
+		assertNull(pilha.topo());
+		pilha.empilhar(1);
+		pilha.empilhar(2);
+		PilhaPersistente<Integer> instantaneo = pilha.versao();
+		assertEquals(Integer.valueOf(2), pilha.desempilhar());
+		pilha.empilhar(9);
+		assertEquals(Integer.valueOf(2), instantaneo.topo());
+		assertEquals(2, instantaneo.tamanho());
+		assertEquals(Integer.valueOf(9), pilha.topo());
+	}
+
+}
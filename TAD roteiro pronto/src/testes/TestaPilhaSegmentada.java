@@ -0,0 +1,99 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tad.pilha.PilhaIF;
+import tad.pilha.PilhaSegmentada;
+import tad.pilha.PilhaVaziaException;
+
+public class TestaPilhaSegmentada {
+
+	/** Segmentos de 2 inteiros, para cruzar fronteiras a cada dois elementos. */
+	private static final int SEGMENTO = 2;
+
+	private PilhaSegmentada pilha = null;
+
+	@BeforeEach
+	public void iniciar() {
+		pilha = new PilhaSegmentada(SEGMENTO);
+	}
+
+	/**
+	 * Ao cruzar a fronteira para cima, a posição recomeça no início do novo segmento; ao
+	 * esvaziar um segmento, o topo volta para o fim do segmento de baixo.
+	 */
+	@Test
+	public void posicaoAoCruzarSegmentosTest() {
+		assertTrue(pilha.isEmpty());
+		assertNull(pilha.topo());
+		for (int i = 0; i < 7; i++) {
+			pilha.empilharInt(i);
+			assertEquals(i, pilha.topoInt());
+			assertEquals(i + 1, pilha.tamanho());
+		}
+		for (int i = 6; i >= 0; i--) {
+			assertEquals(i, pilha.topoInt());
+			assertEquals(i, pilha.desempilharInt());
+		}
+		assertTrue(pilha.isEmpty());
+		assertThrows(PilhaVaziaException.class, () -> pilha.desempilharInt());
+		assertThrows(PilhaVaziaException.class, () -> pilha.topoInt());
+		// O segmento da base continua em uso depois de a pilha esvaziar.
+		pilha.empilhar(10);
+		assertEquals(Integer.valueOf(10), pilha.desempilhar());
+		assertThrows(IllegalArgumentException.class, () -> pilha.empilhar(null));
+		assertThrows(IllegalArgumentException.class, () -> new PilhaSegmentada(0));
+	}
+
+	/**
+	 * Oscilar na fronteira reaproveita o segmento de reserva: os valores antigos que
+	 * ficaram nele nunca devem reaparecer.
+	 */
+	@Test
+	public void reservaNaFronteiraTest() {
+		pilha.empilharInt(1);
+		pilha.empilharInt(2);
+		for (int volta = 0; volta < 10; volta++) {
+			pilha.empilharInt(100 + volta);  // Cruza para o segmento de reserva
+			pilha.empilharInt(200 + volta);
+			assertEquals(200 + volta, pilha.desempilharInt());
+			assertEquals(100 + volta, pilha.desempilharInt()); // Devolve o segmento à reserva
+			assertEquals(2, pilha.topoInt());
+			assertEquals(2, pilha.tamanho());
+		}
+		pilha.empilharInt(3);
+		assertEquals(3, pilha.desempilharInt());
+		assertEquals(2, pilha.desempilharInt());
+		assertEquals(1, pilha.desempilharInt());
+		assertTrue(pilha.isEmpty());
+	}
+
+	@Test
+	public void multitopEntreSegmentosTest() {
+		for (int i = 0; i < 7; i++) {
+			pilha.empilharInt(i);
+		}
+		// Os 5 do topo começam no meio do segundo segmento e ocupam três segmentos.
+		PilhaIF<Integer> topo = pilha.multitop(5);
+		for (int i = 6; i >= 2; i--) {
+			assertEquals(Integer.valueOf(i), topo.desempilhar());
+		}
+		assertTrue(topo.isEmpty());
+		PilhaSegmentada copia = (PilhaSegmentada) pilha.multitop(7);
+		copia.empilharInt(7); // A cópia também cresce a partir de um segmento cheio.
+		assertEquals(8, copia.tamanho());
+		for (int i = 7; i >= 0; i--) {
+			assertEquals(i, copia.desempilharInt());
+		}
+		assertEquals(7, pilha.tamanho());
+		assertTrue(pilha.multitop(0).isEmpty());
+		assertThrows(PilhaVaziaException.class, () -> pilha.multitop(8));
+	}
+
+}
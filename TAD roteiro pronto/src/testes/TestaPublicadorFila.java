@@ -0,0 +1,178 @@
+package testes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import tad.fila.AssinanteFila;
+import tad.fila.MinhaFila;
+import tad.fila.PublicadorFila;
+
+public class TestaPublicadorFila {
+
+	/** Assinante que só registra os sinais e pede demanda quando o teste manda. */
+	private static final class AssinanteGravador implements Flow.Subscriber<Integer> {
+		Flow.Subscription assinatura;
+		final List<Integer> recebidos = new ArrayList<Integer>();
+		boolean concluido = false;
+		Throwable erro = null;
+
+		@Override
+		public void onSubscribe(Flow.Subscription assinatura) {
+			this.assinatura = assinatura;
+		}
+
+		@Override
+		public void onNext(Integer item) {
+			recebidos.add(item);
+		}
+
+		@Override
+		public void onError(Throwable causa) {
+			erro = causa;
+		}
+
+		@Override
+		public void onComplete() {
+			concluido = true;
+		}
+	}
+
+	@Test
+	public void contrapressaoPorDemandaTest() {
+		PublicadorFila<Integer> publicador = new PublicadorFila<Integer>(new MinhaFila(4));
+		AssinanteGravador assinante = new AssinanteGravador();
+		publicador.subscribe(assinante);
+		assertTrue(publicador.temAssinante());
+		for (int i = 0; i < 4; i++) {
+			assertTrue(publicador.oferecer(i));
+		}
+		assertTrue(publicador.isSaturado());
+		assertFalse(publicador.oferecer(4));
+		assertTrue(assinante.recebidos.isEmpty());
+		assinante.assinatura.request(3);
+		assertEquals(List.of(0, 1, 2), assinante.recebidos);
+		assertTrue(publicador.oferecer(4));
+		assertTrue(publicador.oferecer(5));
+		assertTrue(publicador.oferecer(6));
+		assertFalse(publicador.oferecer(7));
+		assinante.assinatura.request(10);
+		assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), assinante.recebidos);
+		assertEquals(6, publicador.demandaPendente());
+		assertTrue(publicador.oferecer(7));
+		assertEquals(5, publicador.demandaPendente());
+		publicador.close();
+		assertTrue(assinante.concluido);
+		assertFalse(publicador.temAssinante());
+		assertThrows(IllegalStateException.class, () -> publicador.oferecer(8));
+		assertThrows(IllegalArgumentException.class, () -> new PublicadorFila<Integer>(new MinhaFila(), Runnable::run, 0));
+	}
+
+	@Test
+	public void regrasDaAssinaturaTest() {
+		PublicadorFila<Integer> publicador = new PublicadorFila<Integer>(new MinhaFila(4));
+		AssinanteGravador primeiro = new AssinanteGravador();
+		AssinanteGravador segundo = new AssinanteGravador();
+		publicador.subscribe(primeiro);
+		publicador.subscribe(segundo);
+		assertInstanceOf(IllegalStateException.class, segundo.erro);
+		assertThrows(IllegalArgumentException.class, () -> publicador.oferecer(null));
+
+		publicador.oferecer(1);
+		publicador.oferecer(2);
+		primeiro.assinatura.request(1);
+		primeiro.assinatura.cancel();
+		assertFalse(publicador.temAssinante());
+		// Um novo assinante recebe o que ficou na fila.
+		publicador.subscribe(segundo);
+		segundo.assinatura.request(1);
+		assertEquals(List.of(2), segundo.recebidos);
+		segundo.assinatura.request(0);
+		assertInstanceOf(IllegalArgumentException.class, segundo.erro);
+
+		AssinanteGravador terceiro = new AssinanteGravador();
+		publicador.subscribe(terceiro);
+		publicador.oferecer(3);
+		RuntimeException causa = new RuntimeException("falhou");
+		publicador.fecharComErro(causa);
+		assertNull(terceiro.erro); // Ainda há um elemento não pedido.
+		terceiro.assinatura.request(1);
+		assertEquals(List.of(3), terceiro.recebidos);
+		assertSame(causa, terceiro.erro);
+	}
+
+	/**
+	 * Um produtor rápido alimenta, por um publicador sobre uma fila pequena, um
+	 * assinante que consome devagar: todos os elementos chegam em ordem e nenhuma fila
+	 * passa da própria capacidade.
+	 */
+	@Test
+	public void produtorRapidoConsumidorLentoTest() throws InterruptedException {
+		int quantidade = 20_000;
+		ExecutorService entrega = Executors.newSingleThreadExecutor();
+		try {
+			PublicadorFila<Integer> publicador = new PublicadorFila<Integer>(new MinhaFila(16), entrega, 8);
+			AssinanteFila<Integer> assinante = new AssinanteFila<Integer>(new MinhaFila(32), 32);
+			publicador.subscribe(assinante);
+			Thread produtor = new Thread(() -> {
+				for (int i = 0; i < quantidade; i++) {
+					while (!publicador.oferecer(i)) {
+						Thread.yield(); // Contrapressão: a fila do publicador está cheia.
+					}
+				}
+				publicador.close();
+			});
+			produtor.start();
+			List<Integer> lote = new ArrayList<Integer>();
+			int esperado = 0;
+			Integer item;
+			while ((item = assinante.retirar()) != null) {
+				assertEquals(esperado++, item.intValue());
+				if (esperado % 100 == 0) {
+					lote.clear();
+					assinante.drenarPara(lote, 10);
+					for (Integer drenado : lote) {
+						assertEquals(esperado++, drenado.intValue());
+					}
+				}
+			}
+			produtor.join();
+			assertEquals(quantidade, esperado);
+			assertTrue(assinante.isTerminado());
+			assertNull(assinante.getErro());
+			assertNull(assinante.tentarRetirar());
+		} finally {
+			entrega.shutdown();
+			entrega.awaitTermination(10, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void assinanteComFilaPequenaDemaisTest() {
+		PublicadorFila<Integer> publicador = new PublicadorFila<Integer>(new MinhaFila(8));
+		// Pede 4, mas a fila só comporta 2.
+		AssinanteFila<Integer> assinante = new AssinanteFila<Integer>(new MinhaFila(2), 4);
+		publicador.subscribe(assinante);
+		for (int i = 0; i < 4; i++) {
+			publicador.oferecer(i);
+		}
+		assertTrue(assinante.isTerminado());
+		assertInstanceOf(IllegalStateException.class, assinante.getErro());
+		assertEquals(Integer.valueOf(0), assinante.tentarRetirar());
+		assertFalse(publicador.temAssinante());
+	}
+
+}